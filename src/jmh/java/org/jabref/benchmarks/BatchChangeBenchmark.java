@@ -0,0 +1,84 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+
+import org.jabref.logic.util.CoarseChangeFilter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.eventbus.Subscribe;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures a cleanup-like edit of all entries of a large library with and without {@link BibDatabase#beginBatchChange()}.
+ * The library is observed by the coarse change filter as used by autosave and backup.
+ */
+@State(Scope.Thread)
+public class BatchChangeBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 20_000;
+
+    private BibDatabase database;
+    private CountingSubscriber subscriber;
+
+    @Setup(Level.Invocation)
+    public void init() {
+        database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            database.insertEntry(new BibEntry().withCitationKey("key" + i)
+                                               .withField(StandardField.TITLE, "Title " + i)
+                                               .withField(StandardField.PAGES, "1-10"));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(database);
+        CoarseChangeFilter changeFilter = new CoarseChangeFilter(context);
+        subscriber = new CountingSubscriber();
+        changeFilter.registerListener(subscriber);
+        database.registerListener(subscriber);
+    }
+
+    @Benchmark
+    public int cleanupUnbatched() {
+        cleanup();
+        return subscriber.count;
+    }
+
+    @Benchmark
+    public int cleanupBatched() {
+        database.beginBatchChange();
+        try {
+            cleanup();
+        } finally {
+            database.commitBatchChange();
+        }
+        return subscriber.count;
+    }
+
+    private void cleanup() {
+        for (BibEntry entry : database.getEntries()) {
+            entry.setField(StandardField.PAGES, "1--10");
+            entry.setField(StandardField.NOTE, "cleaned");
+        }
+    }
+
+    public static class CountingSubscriber {
+        private int count;
+
+        @Subscribe
+        public void listen(BibDatabaseContextChangedEvent event) {
+            count++;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,59 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the memory footprint of a {@link BibEntry}.
+ * <p>
+ * Run with the GC profiler (<code>-prof gc</code>). The metric <code>gc.alloc.rate.norm</code> is the number of bytes
+ * allocated per created entry.
+ */
+@State(Scope.Thread)
+public class BibEntryMemoryBenchmark {
+
+    private int counter;
+
+    @Benchmark
+    public BibEntry createEntry() {
+        return createTypicalEntry(counter++);
+    }
+
+    /**
+     * Same as {@link #createEntry()}, but the entry is observed as the main table does it.
+     * This forces the creation of the lazily created parts of the entry.
+     */
+    @Benchmark
+    public BibEntry createObservedEntry() {
+        BibEntry entry = createTypicalEntry(counter++);
+        entry.getObservables();
+        entry.registerListener(this);
+        return entry;
+    }
+
+    private static BibEntry createTypicalEntry(int i) {
+        return new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key" + i)
+                .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA")
+                .withField(StandardField.TITLE, "This is my title " + i)
+                .withField(StandardField.JOURNAL, "Journal of Applied Stuff")
+                .withField(StandardField.PUBLISHER, "Springer")
+                .withField(StandardField.YEAR, "2024")
+                .withField(StandardField.VOLUME, "12")
+                .withField(StandardField.PAGES, "1--10")
+                .withField(StandardField.DOI, "10.1000/" + i);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,86 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.bst.BstProgram;
+import org.jabref.logic.bst.BstVM;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Renders {@value #NUMBER_OF_ENTRIES} generated entries with IEEEtran.bst.
+ * <p>
+ * {@link #interpret} walks the parse tree as {@link BstVM#render} does, {@link #compiled} executes the program compiled
+ * once by {@link BstVM#compile()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BstRenderBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 2_000;
+
+    private BstVM vm;
+    private BstProgram program;
+    private List<BibEntry> entries;
+    private BibDatabase database;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        try (InputStream inputStream = BstVM.class.getResourceAsStream("/bst/IEEEtran.bst")) {
+            vm = new BstVM(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        program = vm.compile();
+
+        entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = switch (i % 3) {
+                case 0 -> new BibEntry(StandardEntryType.Article)
+                        .withField(StandardField.JOURNAL, "Journal of Applied Stuff")
+                        .withField(StandardField.VOLUME, String.valueOf(i % 50));
+                case 1 -> new BibEntry(StandardEntryType.Book)
+                        .withField(StandardField.PUBLISHER, "Springer")
+                        .withField(StandardField.ADDRESS, "Berlin");
+                default -> new BibEntry(StandardEntryType.InProceedings)
+                        .withField(StandardField.BOOKTITLE, "Proceedings of the Conference on Stuff");
+            };
+            entries.add(entry.withCitationKey("key" + i)
+                             .withField(StandardField.AUTHOR, "Lastname" + (i % 100) + ", Firstname and Other, Second and {Some Consortium}")
+                             .withField(StandardField.TITLE, "Title {" + i + "}: On the Rendering of Styles")
+                             .withField(StandardField.YEAR, String.valueOf(1990 + i % 30)));
+        }
+        database = new BibDatabase(entries);
+    }
+
+    @Benchmark
+    public String interpret() {
+        return vm.render(entries, database);
+    }
+
+    @Benchmark
+    public String compiled() {
+        return program.render(entries, database);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,78 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.database.DatabaseMerger;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Merges {@value #NUMBER_OF_NEW_ENTRIES} fetched entries into a library of {@value #NUMBER_OF_ENTRIES} entries, as
+ * done when persisting the results of a systematic literature review. A fifth of the fetched entries are duplicates
+ * (by DOI or by title) of entries of the library.
+ */
+@State(Scope.Thread)
+public class DatabaseMergerBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 50_000;
+    private static final int NUMBER_OF_NEW_ENTRIES = 10_000;
+
+    private BibDatabase target;
+    private BibDatabase other;
+
+    @Setup(Level.Invocation)
+    public void createDatabases() {
+        List<BibEntry> entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(createEntry(i));
+        }
+        target = new BibDatabase(entries);
+
+        List<BibEntry> newEntries = new ArrayList<>(NUMBER_OF_NEW_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_NEW_ENTRIES; i++) {
+            if (i % 10 == 0) {
+                // Same DOI, different spelling of the title
+                newEntries.add(createEntry(i * 5).withField(StandardField.TITLE, "On Topic " + (i * 5) + " of Quantum Computing"));
+            } else if (i % 10 == 1) {
+                // Same title, no DOI
+                BibEntry duplicate = createEntry(i * 5);
+                duplicate.clearField(StandardField.DOI);
+                newEntries.add(duplicate);
+            } else {
+                newEntries.add(createEntry(NUMBER_OF_ENTRIES + i));
+            }
+        }
+        other = new BibDatabase(newEntries);
+    }
+
+    private static BibEntry createEntry(int number) {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author" + (number % 1000) + ", First and Author" + (number % 777) + ", Second")
+                .withField(StandardField.TITLE, "On topic " + number + " of quantum computing")
+                .withField(StandardField.JOURNAL, "Journal " + (number % 50))
+                .withField(StandardField.YEAR, String.valueOf(1990 + (number % 30)))
+                .withField(StandardField.DOI, "10.1000/topic." + number);
+    }
+
+    @Benchmark
+    public BibDatabase merge() {
+        new DatabaseMerger(',').merge(target, other);
+        return target;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,74 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jabref.logic.util.CoarseChangeFilter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.eventbus.Subscribe;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the cost of {@link BibEntry#setField} including the dispatch of the change events to typical listeners.
+ */
+@State(Scope.Thread)
+public class FieldChangeEventBenchmark {
+
+    private static final int NUMBER_OF_CHANGES = 100_000;
+
+    private List<BibEntry> entries;
+    private int changedFields;
+
+    @Setup
+    public void init() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < 1000; i++) {
+            database.insertEntry(new BibEntry().withCitationKey("key" + i).withField(StandardField.TITLE, "Title " + i));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(database);
+
+        // Listeners similar to the ones of the GUI: autosave/backup (via the coarse change filter), the main table, and the search index
+        CoarseChangeFilter changeFilter = new CoarseChangeFilter(context);
+        changeFilter.registerListener(new CountingSubscriber());
+        database.registerListener(new CountingSubscriber());
+        database.getFieldChangeListeners().register(FieldChangedEvent.class, event -> changedFields++);
+        database.getFieldChangeListeners().register(FieldChangedEvent.class, StandardField.GROUPS, event -> changedFields++);
+
+        entries = database.getEntries();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_CHANGES)
+    public void setField(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_CHANGES; i++) {
+            BibEntry entry = entries.get(i % entries.size());
+            blackhole.consume(entry.setField(StandardField.NOTE, (i % 2 == 0) ? "even" : "odd"));
+        }
+        blackhole.consume(changedFields);
+    }
+
+    public static class CountingSubscriber {
+        private int count;
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            count++;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,121 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.logic.pdf.search.PdfIndexer;
+import org.jabref.logic.pdf.search.PdfSearcher;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.pdf.search.EnglishStemAnalyzer;
+import org.jabref.model.pdf.search.PdfSearchResults;
+import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import static org.jabref.model.pdf.search.SearchFieldConstants.CONTENT;
+import static org.jabref.model.pdf.search.SearchFieldConstants.MODIFIED;
+import static org.jabref.model.pdf.search.SearchFieldConstants.PAGE_NUMBER;
+import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
+
+/**
+ * Relates the hits of a full-text search to all entries of a library, using a generated index of
+ * {@value #NUMBER_OF_FILES} files with {@value #PAGES_PER_FILE} pages each. Every fourth file contains the term searched for.
+ * <p>
+ * {@link #topHitsFilteredPerEntry} is the former approach: the five best hits, filtered linearly for each entry.
+ * {@link #allHitsLookedUpPerEntry} collects all hits grouped by file and looks up the files of each entry.
+ */
+@State(Scope.Benchmark)
+public class FullTextSearchBenchmark {
+
+    private static final int NUMBER_OF_FILES = 2_000;
+    private static final int PAGES_PER_FILE = 5;
+    private static final String QUERY = "quantum";
+
+    private Path indexDirectory;
+    private List<BibEntry> entries;
+    private PdfSearcher searcher;
+
+    @Setup(Level.Trial)
+    public void createIndex() throws IOException {
+        indexDirectory = Files.createTempDirectory("fulltext");
+        try (IndexWriter writer = new IndexWriter(new NIOFSDirectory(indexDirectory), new IndexWriterConfig(new EnglishStemAnalyzer()))) {
+            for (int file = 0; file < NUMBER_OF_FILES; file++) {
+                String topic = (file % 4) == 0 ? QUERY : "classical";
+                for (int page = 0; page < PAGES_PER_FILE; page++) {
+                    Document document = new Document();
+                    document.add(new StringField(PATH, fileName(file), Field.Store.YES));
+                    document.add(new StringField(PAGE_NUMBER, String.valueOf(page), Field.Store.YES));
+                    document.add(new StringField(MODIFIED, "0", Field.Store.YES));
+                    document.add(new TextField(CONTENT, "Page " + page + " of a paper on " + topic + " mechanics and its applications", Field.Store.YES));
+                    writer.addDocument(document);
+                }
+            }
+        }
+
+        BibDatabase database = new BibDatabase();
+        for (int file = 0; file < NUMBER_OF_FILES; file++) {
+            database.insertEntry(new BibEntry().withFiles(List.of(new LinkedFile("", fileName(file), StandardFileType.PDF.getName()))));
+        }
+        entries = new ArrayList<>(database.getEntries());
+        PdfIndexer indexer = PdfIndexer.of(new BibDatabaseContext(database), indexDirectory, JabRefPreferences.getInstance().getFilePreferences());
+        searcher = PdfSearcher.of(indexer);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteIndex() throws IOException {
+        try (Stream<Path> files = Files.walk(indexDirectory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String fileName(int file) {
+        return "paper" + file + ".pdf";
+    }
+
+    @Benchmark
+    public void topHitsFilteredPerEntry(Blackhole blackhole) throws IOException {
+        List<SearchResult> results = searcher.search(QUERY, 5).getSortedByScore();
+        for (BibEntry entry : entries) {
+            blackhole.consume(results.stream().filter(result -> result.isResultFor(entry)).toList());
+        }
+    }
+
+    @Benchmark
+    public void allHitsLookedUpPerEntry(Blackhole blackhole) throws IOException {
+        PdfSearchResults results = searcher.searchAll(QUERY);
+        for (BibEntry entry : entries) {
+            blackhole.consume(results.getSearchResultsFor(entry));
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
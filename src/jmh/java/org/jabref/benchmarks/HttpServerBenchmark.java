@@ -0,0 +1,133 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.http.server.Application;
+import org.jabref.http.server.Server;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.preferences.BibEntryPreferences;
+import org.jabref.preferences.GuiPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import jakarta.ws.rs.SeBootstrap;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.RunnerException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sends concurrent requests to the http server serving the demo library via loopback.
+ * <p>
+ * The throughput mode reports the requests per second, the sample time mode the latency percentiles (p0.50, p0.99, ...).
+ * Use <code>-t</code> to vary the number of concurrent clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class HttpServerBenchmark {
+
+    private static final Path DEMO_LIBRARY = Path.of("src/main/resources/org/jabref/http/server/http-server-demo.bib").toAbsolutePath();
+
+    private SeBootstrap.Instance server;
+    private HttpClient client;
+    private HttpRequest jsonRequest;
+    private HttpRequest searchRequest;
+    private HttpRequest conditionalRequest;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        // The preferences of the user are not touched; the server only serves the demo library
+        PreferencesService preferencesService = createPreferencesService();
+        ResourceConfig resourceConfig = ResourceConfig.forApplicationClass(Application.class);
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(preferencesService).to(PreferencesService.class).ranked(2);
+            }
+        });
+
+        SeBootstrap.Configuration.Builder configuration = SeBootstrap.Configuration.builder()
+                                                                                   .protocol("HTTP")
+                                                                                   .host("localhost")
+                                                                                   .port(SeBootstrap.Configuration.FREE_PORT);
+        server = Server.start(resourceConfig, configuration).toCompletableFuture().get();
+
+        URI library = server.configuration().baseUriBuilder()
+                            .path("libraries")
+                            .path(DEMO_LIBRARY.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(DEMO_LIBRARY))
+                            .build();
+        client = HttpClient.newHttpClient();
+        jsonRequest = HttpRequest.newBuilder(library).header("Accept", "application/json").build();
+        searchRequest = HttpRequest.newBuilder(URI.create(library + "/search?q=author%3Dkopp")).header("Accept", "application/json").build();
+
+        String entityTag = client.send(jsonRequest, HttpResponse.BodyHandlers.discarding()).headers().firstValue("ETag").orElseThrow();
+        conditionalRequest = HttpRequest.newBuilder(library).header("Accept", "application/json").header("If-None-Match", entityTag).build();
+    }
+
+    private static PreferencesService createPreferencesService() {
+        PreferencesService preferencesService = mock(PreferencesService.class);
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class);
+        when(preferencesService.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        FieldPreferences fieldPreferences = new FieldPreferences(false, List.of(), List.of());
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        when(preferencesService.getFieldPreferences()).thenReturn(fieldPreferences);
+
+        GuiPreferences guiPreferences = mock(GuiPreferences.class);
+        when(preferencesService.getGuiPreferences()).thenReturn(guiPreferences);
+        when(guiPreferences.getLastFilesOpened()).thenReturn(FXCollections.observableArrayList(DEMO_LIBRARY));
+        return preferencesService;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws Exception {
+        server.stop().toCompletableFuture().get();
+    }
+
+    @Benchmark
+    public int getJson() throws IOException, InterruptedException {
+        return client.send(jsonRequest, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+
+    @Benchmark
+    public int getJsonNotModified() throws IOException, InterruptedException {
+        return client.send(conditionalRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int search() throws IOException, InterruptedException {
+        return client.send(searchRequest, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
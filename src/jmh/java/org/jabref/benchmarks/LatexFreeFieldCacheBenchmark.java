@@ -0,0 +1,97 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jabref.logic.search.LatexFreeFieldCache;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the first latex free access to all fields of a freshly opened library without (cold) and with (warm) a
+ * populated {@link LatexFreeFieldCache}.
+ */
+@State(Scope.Thread)
+public class LatexFreeFieldCacheBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 10_000;
+    private static final Field[] FIELDS = {StandardField.TITLE, StandardField.AUTHOR, StandardField.JOURNAL, StandardField.ABSTRACT};
+
+    private Path cacheFile;
+    private BibDatabase database;
+
+    @Setup(Level.Trial)
+    public void createCache() throws IOException {
+        cacheFile = Files.createTempFile("latexfree", ".mv");
+        Files.delete(cacheFile);
+        BibDatabase warmDatabase = createDatabase();
+        warmDatabase.getEntries().forEach(LatexFreeFieldCacheBenchmark::accessAllFields);
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            cache.storeFrom(warmDatabase);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void openLibrary() {
+        database = createDatabase();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCache() throws IOException {
+        Files.deleteIfExists(cacheFile);
+    }
+
+    @Benchmark
+    public void coldStartup(Blackhole blackhole) {
+        for (BibEntry entry : database.getEntries()) {
+            blackhole.consume(accessAllFields(entry));
+        }
+    }
+
+    @Benchmark
+    public void warmStartup(Blackhole blackhole) {
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            cache.loadInto(database);
+        }
+        for (BibEntry entry : database.getEntries()) {
+            blackhole.consume(accessAllFields(entry));
+        }
+    }
+
+    private static int accessAllFields(BibEntry entry) {
+        int length = 0;
+        for (Field field : FIELDS) {
+            length += entry.getFieldLatexFree(field).map(String::length).orElse(0);
+        }
+        return length;
+    }
+
+    private static BibDatabase createDatabase() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            database.insertEntry(new BibEntry()
+                    .withField(StandardField.TITLE, "On the {\\\"U}bertragung of ${\\Sigma}{\\Delta}$ modulators " + i)
+                    .withField(StandardField.AUTHOR, "M{\\\"u}ller, J{\\\"o}rg and Garc{\\'\\i}a, Jos{\\'e} " + (i % 100))
+                    .withField(StandardField.JOURNAL, "Journal of {\\em Applied} Stuff " + (i % 50))
+                    .withField(StandardField.ABSTRACT, "We present \\textbf{an approach} to {\\it something} with $\\alpha = " + i + "$."));
+        }
+        return database;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
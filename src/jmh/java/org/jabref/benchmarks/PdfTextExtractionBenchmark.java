@@ -0,0 +1,114 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.pdf.search.DocumentReader;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.preferences.FilePreferences;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.apache.lucene.document.Document;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Reads the text of generated PDF files for the full-text index.
+ * <p>
+ * {@link #readPdf} is run with a PDF small enough to be read sequentially and with large PDFs read in ranges of pages at
+ * the same time; compare the time per page. {@link #mergeLinesUsingRegularExpressions} is the former implementation of
+ * {@link DocumentReader#mergeLines(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PdfTextExtractionBenchmark {
+
+    private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
+    private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
+    private static final String LINE = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tem-";
+
+    @Param({"80", "400", "800"})
+    private int numberOfPages;
+
+    private Path pdfFile;
+    private BibEntry entry;
+    private BibDatabaseContext databaseContext;
+    private FilePreferences filePreferences;
+    private String pageText;
+
+    @Setup(Level.Trial)
+    public void createPdf() throws IOException {
+        pdfFile = Files.createTempFile("proceedings", ".pdf");
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int pageNumber = 0; pageNumber < numberOfPages; pageNumber++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(font, 10);
+                    contentStream.setLeading(12);
+                    contentStream.newLineAtOffset(40, 750);
+                    for (int line = 0; line < 55; line++) {
+                        contentStream.showText(line % 10 == 9 ? "The end of a paragraph." : LINE);
+                        contentStream.newLine();
+                    }
+                    contentStream.endText();
+                }
+            }
+            document.save(pdfFile.toFile());
+        }
+
+        entry = new BibEntry().withFiles(List.of(new LinkedFile("", pdfFile.toString(), "PDF")));
+        databaseContext = new BibDatabaseContext();
+        filePreferences = JabRefPreferences.getInstance().getFilePreferences();
+        pageText = (LINE + "\n").repeat(55);
+    }
+
+    @TearDown(Level.Trial)
+    public void deletePdf() throws IOException {
+        Files.deleteIfExists(pdfFile);
+    }
+
+    @Benchmark
+    public List<Document> readPdf() {
+        return new DocumentReader(entry, filePreferences).readLinkedPdfs(databaseContext);
+    }
+
+    @Benchmark
+    public String mergeLines() {
+        return DocumentReader.mergeLines(pageText);
+    }
+
+    @Benchmark
+    public String mergeLinesUsingRegularExpressions() {
+        String mergedHyphenNewlines = HYPHEN_LINEBREAK_PATTERN.matcher(pageText).replaceAll("");
+        return LINEBREAK_WITHOUT_PERIOD_PATTERN.matcher(mergedHyphenNewlines).replaceAll("$1 ");
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,86 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jabref.logic.search.RelevanceScorer;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Ranks the search results of a generated library of {@value #NUMBER_OF_ENTRIES} entries by relevance.
+ * <p>
+ * {@link #rankAllMatches} scores and sorts all matching entries (as when sorting the relevance column),
+ * {@link #topEntries} only keeps the best {@value #TOP_K} entries while scoring.
+ */
+@State(Scope.Benchmark)
+public class RelevanceBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 50_000;
+    private static final int TOP_K = 50;
+    private static final String[] WORDS = {"quantum", "classical", "learning", "network", "graph", "algorithm", "survey",
+            "analysis", "model", "system", "optimization", "distributed", "neural", "computing", "theory", "data"};
+
+    private List<BibEntry> entries;
+    private SearchQuery query;
+    private List<BibEntry> matches;
+
+    @Setup(Level.Trial)
+    public void createLibrary() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(new BibEntry()
+                    .withField(StandardField.TITLE, words(random, 8))
+                    .withField(StandardField.AUTHOR, "Author" + (i % 1000) + ", First and Author" + (i % 777) + ", Second")
+                    .withField(StandardField.KEYWORDS, words(random, 3).replace(" ", ", "))
+                    .withField(StandardField.ABSTRACT, words(random, 120)));
+        }
+        query = new SearchQuery("quantum network", EnumSet.noneOf(SearchRules.SearchFlags.class));
+        matches = entries.stream().filter(query::isMatch).toList();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    @Benchmark
+    public List<BibEntry> rankAllMatches() {
+        RelevanceScorer scorer = new RelevanceScorer(query, entries);
+        // Each score is computed once, as the relevance column caches the score of an entry
+        Map<BibEntry, Double> scores = new IdentityHashMap<>();
+        matches.forEach(entry -> scores.put(entry, scorer.score(entry)));
+        List<BibEntry> ranked = new ArrayList<>(matches);
+        ranked.sort(Comparator.comparing(scores::get, Comparator.reverseOrder()));
+        return ranked;
+    }
+
+    @Benchmark
+    public List<BibEntry> topEntries() {
+        return new RelevanceScorer(query, entries).getTopEntries(matches, TOP_K);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
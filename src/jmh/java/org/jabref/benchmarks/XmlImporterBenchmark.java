@@ -0,0 +1,119 @@
+package org.jabref.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.fileformat.MarcXmlParser;
+import org.jabref.logic.importer.fileformat.MedlineImporter;
+import org.jabref.logic.importer.fileformat.ModsImporter;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Imports large generated MARC XML (SRU response), MODS, and Medline files entry by entry.
+ * <p>
+ * The score is the number of records per second. Run with the GC profiler (<code>-prof gc</code>) to see the allocation
+ * rate and with a small heap (e.g., <code>-jvmArgs -Xmx64m</code>) to check that the size of the file does not matter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class XmlImporterBenchmark {
+
+    private static final int RECORDS = 20_000;
+
+    private Path marcFile;
+    private Path modsFile;
+    private Path medlineFile;
+    private ModsImporter modsImporter;
+    private MedlineImporter medlineImporter;
+
+    @Setup(Level.Trial)
+    public void createFiles() throws IOException {
+        modsImporter = new ModsImporter(JabRefPreferences.getInstance().getImportFormatPreferences());
+        medlineImporter = new MedlineImporter();
+
+        StringBuilder marc = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<zs:searchRetrieveResponse xmlns:zs=\"http://docs.oasis-open.org/ns/search-ws/sruResponse\"><zs:records>\n");
+        StringBuilder mods = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<modsCollection xmlns=\"http://www.loc.gov/mods/v3\">\n");
+        StringBuilder medline = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<PubmedArticleSet>\n");
+        for (int i = 0; i < RECORDS; i++) {
+            marc.append("<zs:record><zs:recordData><record xmlns=\"http://www.loc.gov/MARC21/slim\">")
+                .append("<datafield tag=\"020\" ind1=\" \" ind2=\" \"><subfield code=\"a\">9783161484100</subfield></datafield>")
+                .append("<datafield tag=\"100\" ind1=\"1\" ind2=\" \"><subfield code=\"a\">Lastname, Firstname</subfield><subfield code=\"4\">aut</subfield></datafield>")
+                .append("<datafield tag=\"245\" ind1=\"1\" ind2=\"0\"><subfield code=\"a\">Title ").append(i).append("</subfield><subfield code=\"b\">A subtitle</subfield></datafield>")
+                .append("<datafield tag=\"264\" ind1=\" \" ind2=\"1\"><subfield code=\"a\">Berlin</subfield><subfield code=\"b\">Springer</subfield><subfield code=\"c\">2024</subfield></datafield>")
+                .append("</record></zs:recordData></zs:record>\n");
+            mods.append("<mods ID=\"key").append(i).append("\"><titleInfo><title>Title ").append(i).append("</title></titleInfo>")
+                .append("<name type=\"personal\"><namePart type=\"family\">Lastname</namePart><namePart type=\"given\">Firstname</namePart>")
+                .append("<role><roleTerm authority=\"marcrelator\" type=\"text\">author</roleTerm></role></name>")
+                .append("<originInfo><dateIssued>2024</dateIssued><publisher>Springer</publisher></originInfo></mods>\n");
+            medline.append("<PubmedArticle><MedlineCitation><PMID>").append(i).append("</PMID><Article>")
+                   .append("<Journal><Title>Journal of Applied Stuff</Title><JournalIssue><Volume>12</Volume><PubDate><Year>2024</Year></PubDate></JournalIssue></Journal>")
+                   .append("<ArticleTitle>Title ").append(i).append("</ArticleTitle>")
+                   .append("<AuthorList><Author><LastName>Lastname</LastName><ForeName>Firstname</ForeName></Author></AuthorList>")
+                   .append("</Article></MedlineCitation></PubmedArticle>\n");
+        }
+        marc.append("</zs:records></zs:searchRetrieveResponse>\n");
+        mods.append("</modsCollection>\n");
+        medline.append("</PubmedArticleSet>\n");
+
+        marcFile = Files.writeString(Files.createTempFile("marc", ".xml"), marc);
+        modsFile = Files.writeString(Files.createTempFile("mods", ".xml"), mods);
+        medlineFile = Files.writeString(Files.createTempFile("medline", ".xml"), medline);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(marcFile);
+        Files.deleteIfExists(modsFile);
+        Files.deleteIfExists(medlineFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void marcXml(Blackhole blackhole) throws IOException, ParseException {
+        try (InputStream inputStream = Files.newInputStream(marcFile)) {
+            new MarcXmlParser().parseEntries(inputStream, blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void mods(Blackhole blackhole) throws IOException {
+        modsImporter.importEntries(modsFile, blackhole::consume);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void medline(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(medlineFile, StandardCharsets.UTF_8)) {
+            medlineImporter.importEntries(reader, blackhole::consume);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
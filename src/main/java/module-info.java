@@ -62,6 +62,7 @@ open module org.jabref {
     requires java.net.http;
     requires jakarta.ws.rs;
     requires org.glassfish.grizzly;
+    requires org.glassfish.grizzly.http.server;
 
     // data mapping
     requires jakarta.xml.bind;
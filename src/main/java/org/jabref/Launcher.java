@@ -20,9 +20,11 @@ import org.jabref.logic.UiCommand;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.predatory.PredatoryJournalListLoader;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
@@ -32,6 +34,7 @@ import org.jabref.logic.util.OS;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
+import org.jabref.preferences.InternalPreferences;
 import org.jabref.preferences.JabRefPreferences;
 import org.jabref.preferences.PreferencesService;
 
@@ -50,6 +53,8 @@ import org.tinylog.configuration.Configuration;
  */
 @AllowedToUseStandardStreams("Direct output to the user")
 public class Launcher {
+    private static final long HTTP_RESPONSE_CACHE_SIZE = 50 * 1024 * 1024;
+
     private static Logger LOGGER;
     private static boolean isDebugEnabled;
 
@@ -85,6 +90,7 @@ public class Launcher {
             // Initialize rest of preferences
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
+            configureHttpResponseCache(preferences.getInternalPreferences());
             initGlobals(preferences);
             clearOldSearchIndices();
 
@@ -207,6 +213,24 @@ public class Launcher {
         TrustStoreManager.createTruststoreFileIfNotExist(Path.of(sslPreferences.getTruststorePath()));
     }
 
+    private static void configureHttpResponseCache(InternalPreferences internalPreferences) {
+        setHttpResponseCacheEnabled(internalPreferences.isHttpResponseCacheEnabled());
+        internalPreferences.httpResponseCacheEnabledProperty().addListener((obs, oldValue, enabled) -> setHttpResponseCacheEnabled(enabled));
+    }
+
+    private static void setHttpResponseCacheEnabled(boolean enabled) {
+        if (!enabled) {
+            URLDownload.setResponseCache(null);
+            return;
+        }
+        Path cacheDirectory = OS.getNativeDesktop().getHttpResponseCacheDirectory();
+        try {
+            URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, HTTP_RESPONSE_CACHE_SIZE));
+        } catch (IOException e) {
+            LOGGER.warn("Could not create the cache for web responses at {}. Responses are not cached.", cacheDirectory, e);
+        }
+    }
+
     private static void clearOldSearchIndices() {
         Path currentIndexPath = OS.getNativeDesktop().getFulltextIndexBaseDirectory();
         Path appData = currentIndexPath.getParent();
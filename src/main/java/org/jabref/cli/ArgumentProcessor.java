@@ -1,6 +1,7 @@
 package org.jabref.cli;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -10,6 +11,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.prefs.BackingStoreException;
 
 import org.jabref.gui.Globals;
@@ -17,7 +19,9 @@ import org.jabref.gui.externalfiles.AutoSetFileLinksUtil;
 import org.jabref.gui.undo.NamedCompound;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.UiCommand;
+import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
@@ -213,6 +217,10 @@ public class ArgumentProcessor {
             importPreferences();
         }
 
+        if (cli.isConvert()) {
+            convertFile(cli.getConvert());
+        }
+
         List<ParserResult> loaded = importAndOpenFiles();
 
         if (!cli.isBlank() && cli.isFetcherEngine()) {
@@ -608,7 +616,59 @@ public class ArgumentProcessor {
         }
     }
 
+    /**
+     * Converts a file to BibTeX. If the import format consists of entries only (e.g., RIS), each entry is written as
+     * soon as it is imported, thus huge files can be converted without holding all entries in memory. Other formats
+     * (e.g., BibTeX with its strings, preamble, and metadata) are imported completely and saved as library.
+     *
+     * @param argument <code>file,format,outputFile</code>
+     */
+    private void convertFile(String argument) {
+        String[] data = argument.split(",");
+        if (data.length != 3) {
+            System.err.println(Localization.lang("The convert option requires an input file, an import format, and an output file."));
+            return;
+        }
+        Path inputFile = Path.of(data[0]);
+        Path outputFile = Path.of(data[2]);
+
+        ImportFormatReader importFormatReader = new ImportFormatReader(
+                preferencesService.getImporterPreferences(),
+                preferencesService.getImportFormatPreferences(),
+                fileUpdateMonitor);
+        if (!importFormatReader.supportsEntryStreaming(data[1])) {
+            importFile(inputFile, data[1]).ifPresent(parserResult -> saveDatabase(parserResult.getDatabaseContext(), data[2]));
+            return;
+        }
+
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(preferencesService.getFieldPreferences()), entryTypesManager);
+        BibDatabaseMode mode = preferencesService.getLibraryPreferences().getDefaultBibDatabaseMode();
+
+        System.out.println(Localization.lang("Importing %0", inputFile));
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(outputFile, StandardCharsets.UTF_8)) {
+            BibWriter bibWriter = new BibWriter(fileWriter, OS.NEWLINE);
+            AtomicInteger convertedEntries = new AtomicInteger();
+            importFormatReader.importEntriesFromFile(data[1], inputFile, entry -> {
+                try {
+                    entryWriter.write(entry, bibWriter, mode);
+                    convertedEntries.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            System.out.println(Localization.lang("Converted %0 entries to %1", convertedEntries.get(), outputFile));
+        } catch (ImportException e) {
+            System.err.println(Localization.lang("Error opening file '%0'", inputFile) + "\n" + e.getLocalizedMessage());
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println(Localization.lang("Could not save file.") + "\n" + e.getLocalizedMessage());
+        }
+    }
+
     private void saveDatabase(BibDatabase newBase, String subName) {
+        saveDatabase(new BibDatabaseContext(newBase), subName);
+    }
+
+    private void saveDatabase(BibDatabaseContext databaseContext, String subName) {
         try {
             System.out.println(Localization.lang("Saving") + ": " + subName);
             try (AtomicFileWriter fileWriter = new AtomicFileWriter(Path.of(subName), StandardCharsets.UTF_8)) {
@@ -621,7 +681,7 @@ public class ArgumentProcessor {
                         preferencesService.getFieldPreferences(),
                         preferencesService.getCitationKeyPatternPreferences(),
                         entryTypesManager);
-                databaseWriter.saveDatabase(new BibDatabaseContext(newBase));
+                databaseWriter.saveDatabase(databaseContext);
 
                 // Show just a warning message if encoding did not work for all characters:
                 if (fileWriter.hasEncodingProblems()) {
@@ -107,6 +107,14 @@ public class JabRefCLI {
         return cl.getOptionValue("import");
     }
 
+    public boolean isConvert() {
+        return cl.hasOption("convert");
+    }
+
+    public String getConvert() {
+        return cl.getOptionValue("convert");
+    }
+
     public boolean isAuxImport() {
         return cl.hasOption("aux");
     }
@@ -224,6 +232,14 @@ public class JabRefCLI {
                 .argName("FILE[,FORMAT]")
                 .build());
 
+        options.addOption(Option
+                .builder()
+                .longOpt("convert")
+                .desc("%s: '%s'".formatted(Localization.lang("Convert a file to BibTeX entry by entry"), "--convert pubmed.txt,medlineplain,pubmed.bib"))
+                .hasArg()
+                .argName("FILE,FORMAT,OUTPUT_FILE")
+                .build());
+
         options.addOption(Option
                 .builder("m")
                 .longOpt("exportMatches")
@@ -65,6 +65,7 @@ import org.jabref.logic.pdf.FileAnnotationCache;
 import org.jabref.logic.pdf.search.IndexingTaskManager;
 import org.jabref.logic.pdf.search.PdfIndexer;
 import org.jabref.logic.pdf.search.PdfIndexerManager;
+import org.jabref.logic.search.LatexFreeFieldCache;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.util.UpdateField;
@@ -74,6 +75,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.BibEntry;
@@ -175,7 +177,7 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, taskExecutor);
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
@@ -191,7 +193,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        registerUpdateTimestampListener();
 
         this.entryEditor = new EntryEditor(this);
 
@@ -227,6 +229,15 @@ public class LibraryTab extends Tab {
         text.append("]");
     }
 
+    /**
+     * Registers the {@link UpdateTimestampListener} for single changes and for changes made during a batch change
+     */
+    private void registerUpdateTimestampListener() {
+        UpdateTimestampListener updateTimestampListener = new UpdateTimestampListener(this.getDatabase(), preferencesService);
+        this.getDatabase().registerListener(updateTimestampListener);
+        this.getDatabase().getFieldChangeListeners().register(FieldChangedEvent.class, updateTimestampListener::listenDuringBatchChange);
+    }
+
     private void setDataLoadingTask(BackgroundTask<ParserResult> dataLoadingTask) {
         this.loading.set(true);
         this.dataLoadingTask = dataLoadingTask;
@@ -297,7 +308,7 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, taskExecutor);
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
 
@@ -311,7 +322,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferencesService));
+        registerUpdateTimestampListener();
 
         this.entryEditor = new EntryEditor(this);
 
@@ -836,6 +847,11 @@ public class LibraryTab extends Tab {
         } catch (RuntimeException e) {
             LOGGER.error("Problem when shutting down PDF indexer", e);
         }
+        try {
+            LatexFreeFieldCache.store(bibDatabaseContext);
+        } catch (RuntimeException e) {
+            LOGGER.error("Problem when storing latex free field cache", e);
+        }
         try {
             AutosaveManager.shutdown(bibDatabaseContext);
         } catch (RuntimeException e) {
@@ -1064,22 +1080,33 @@ public class LibraryTab extends Tab {
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
             if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
-                if (fieldChangedEvent.getField().equals(StandardField.FILE)) {
-                    List<LinkedFile> oldFileList = FileFieldParser.parse(fieldChangedEvent.getOldValue());
-                    List<LinkedFile> newFileList = FileFieldParser.parse(fieldChangedEvent.getNewValue());
-
-                    List<LinkedFile> addedFiles = new ArrayList<>(newFileList);
-                    addedFiles.remove(oldFileList);
-                    List<LinkedFile> removedFiles = new ArrayList<>(oldFileList);
-                    removedFiles.remove(newFileList);
-
-                    try {
-                        PdfIndexer indexer = PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences());
-                        indexingTaskManager.addToIndex(indexer, fieldChangedEvent.getBibEntry(), addedFiles);
-                        indexingTaskManager.removeFromIndex(indexer, removedFiles);
-                    } catch (IOException e) {
-                        LOGGER.warn("I/O error when writing lucene index", e);
-                    }
+                updateLinkedFiles(fieldChangedEvent);
+            }
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
+                entriesChangedEvent.getFieldChanges().forEach(this::updateLinkedFiles);
+            }
+        }
+
+        private void updateLinkedFiles(FieldChangedEvent fieldChangedEvent) {
+            if (fieldChangedEvent.getField().equals(StandardField.FILE)) {
+                List<LinkedFile> oldFileList = FileFieldParser.parse(fieldChangedEvent.getOldValue());
+                List<LinkedFile> newFileList = FileFieldParser.parse(fieldChangedEvent.getNewValue());
+
+                List<LinkedFile> addedFiles = new ArrayList<>(newFileList);
+                addedFiles.remove(oldFileList);
+                List<LinkedFile> removedFiles = new ArrayList<>(oldFileList);
+                removedFiles.remove(newFileList);
+
+                try {
+                    PdfIndexer indexer = PdfIndexerManager.getIndexer(bibDatabaseContext, preferencesService.getFilePreferences());
+                    indexingTaskManager.addToIndex(indexer, fieldChangedEvent.getBibEntry(), addedFiles);
+                    indexingTaskManager.removeFromIndex(indexer, removedFiles);
+                } catch (IOException e) {
+                    LOGGER.warn("I/O error when writing lucene index", e);
                 }
             }
         }
@@ -1,7 +1,9 @@
 package org.jabref.gui;
 
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.preferences.PreferencesService;
 
@@ -11,9 +13,11 @@ import com.google.common.eventbus.Subscribe;
  * Updates the timestamp of changed entries if the feature is enabled
  */
 class UpdateTimestampListener {
+    private final BibDatabase database;
     private final PreferencesService preferencesService;
 
-    UpdateTimestampListener(PreferencesService preferencesService) {
+    UpdateTimestampListener(BibDatabase database, PreferencesService preferencesService) {
+        this.database = database;
         this.preferencesService = preferencesService;
     }
 
@@ -26,4 +30,15 @@ class UpdateTimestampListener {
                     preferencesService.getTimestampPreferences().now());
         }
     }
+
+    /**
+     * Updates the timestamp of an entry changed during a batch change. To be registered as
+     * {@link BibDatabase#getFieldChangeListeners() typed listener}, which is notified immediately. Thus, the timestamp
+     * becomes part of the same batch instead of being set in a handler of the {@link org.jabref.model.database.event.EntriesChangedEvent}.
+     */
+    public void listenDuringBatchChange(FieldChangedEvent event) {
+        if (database.isBatchChangeInProgress() && (event.getField() != StandardField.MODIFICATIONDATE)) {
+            listen(event);
+        }
+    }
 }
@@ -122,15 +122,20 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
                         int entriesDone = 0;
-                        for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-                            entriesDone++;
-                            int finalEntriesDone = entriesDone;
-                            DefaultTaskExecutor.runInJavaFXThread(() -> {
-                                updateProgress(finalEntriesDone, entries.size());
-                                messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
-                            });
+                        databaseContext.getDatabase().beginBatchChange();
+                        try {
+                            for (BibEntry entry : entries) {
+                                keyGenerator.generateAndSetKey(entry)
+                                            .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
+                                entriesDone++;
+                                int finalEntriesDone = entriesDone;
+                                DefaultTaskExecutor.runInJavaFXThread(() -> {
+                                    updateProgress(finalEntriesDone, entries.size());
+                                    messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
+                                });
+                            }
+                        } finally {
+                            databaseContext.getDatabase().commitBatchChange();
                         }
                         compound.end();
                     });
@@ -138,17 +138,23 @@ public class CleanupAction extends SimpleCommand {
     }
 
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
-
-            doCleanup(databaseContext, cleanupPreferences, entry, ce);
-
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                undoManager.addEdit(ce);
+        // listeners such as autosave and the shared database synchronization process all changes at once
+        databaseContext.getDatabase().beginBatchChange();
+        try {
+            for (BibEntry entry : stateManager.getSelectedEntries()) {
+                // undo granularity is on entry level
+                NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+
+                doCleanup(databaseContext, cleanupPreferences, entry, ce);
+
+                ce.end();
+                if (ce.hasEdits()) {
+                    modifiedEntriesCount++;
+                    undoManager.addEdit(ce);
+                }
             }
+        } finally {
+            databaseContext.getDatabase().commitBatchChange();
         }
     }
 }
@@ -103,6 +103,16 @@ public abstract class NativeDesktop {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    /**
+     * Returns the directory of the cache for the responses of web requests (see {@link org.jabref.logic.net.HttpResponseCache})
+     */
+    public Path getHttpResponseCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserCacheDir(OS.APP_DIR_APP_NAME,
+                                             "http",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public Path getSslDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
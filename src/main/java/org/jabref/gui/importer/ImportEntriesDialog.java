@@ -7,6 +7,8 @@ import javax.swing.undo.UndoManager;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -70,6 +72,7 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
     public CodeArea bibTeXData;
     public VBox bibTeXDataBox;
     private final BackgroundTask<ParserResult> task;
+    private final ObservableList<BibEntry> foundEntries;
     private final BibDatabaseContext database;
     private ImportEntriesViewModel viewModel;
     @Inject private TaskExecutor taskExecutor;
@@ -87,8 +90,21 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
      * @param task     the task executed for parsing the selected files(s).
      */
     public ImportEntriesDialog(BibDatabaseContext database, BackgroundTask<ParserResult> task) {
+        this(database, task, FXCollections.emptyObservableList());
+    }
+
+    /**
+     * Imports the given entries into the given database. The entries are provided using the BackgroundTask. The entries
+     * found while the task is running (e.g., the results of the first fetchers of a web search) are shown immediately.
+     *
+     * @param database     the database to import into
+     * @param task         the task executed for parsing the selected files(s).
+     * @param foundEntries the entries found so far, to be modified on the JavaFX thread only
+     */
+    public ImportEntriesDialog(BibDatabaseContext database, BackgroundTask<ParserResult> task, ObservableList<BibEntry> foundEntries) {
         this.database = database;
         this.task = task;
+        this.foundEntries = foundEntries;
         ViewLoader.view(this)
                   .load()
                   .setAsDialogPane(this);
@@ -112,7 +128,7 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
 
     @FXML
     private void initialize() {
-        viewModel = new ImportEntriesViewModel(task, taskExecutor, database, dialogService, undoManager, preferences, stateManager, entryTypesManager, fileUpdateMonitor);
+        viewModel = new ImportEntriesViewModel(task, foundEntries, taskExecutor, database, dialogService, undoManager, preferences, stateManager, entryTypesManager, fileUpdateMonitor);
         Label placeholder = new Label();
         placeholder.textProperty().bind(viewModel.messageProperty());
         entriesListView.setPlaceholder(placeholder);
@@ -2,8 +2,11 @@ package org.jabref.gui.importer;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.swing.undo.UndoManager;
 
@@ -12,6 +15,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import org.jabref.gui.AbstractViewModel;
@@ -57,8 +61,10 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     /**
      * @param databaseContext the database to import into
      * @param task            the task executed for parsing the selected files(s).
+     * @param foundEntries    the entries found so far while the task is running. They are shown immediately.
      */
     public ImportEntriesViewModel(BackgroundTask<ParserResult> task,
+                                  ObservableList<BibEntry> foundEntries,
                                   TaskExecutor taskExecutor,
                                   BibDatabaseContext databaseContext,
                                   DialogService dialogService,
@@ -80,11 +86,25 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         this.message.bind(task.messageProperty());
         this.selectedDb = new SimpleObjectProperty<>();
 
+        entries.addAll(foundEntries);
+        foundEntries.addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                if (change.wasAdded()) {
+                    entries.addAll(change.getAddedSubList());
+                }
+            }
+        });
+
         task.onSuccess(parserResult -> {
             // store the complete parser result (to import groups, ... later on)
             this.parserResult = parserResult;
             // fill in the list for the user, where one can select the entries to import
-            entries.addAll(parserResult.getDatabase().getEntries());
+            // (the entries found while the task was running are shown already)
+            Set<BibEntry> shownEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            shownEntries.addAll(entries);
+            parserResult.getDatabase().getEntries().stream()
+                        .filter(entry -> !shownEntries.contains(entry))
+                        .forEach(entries::add);
             if (entries.isEmpty()) {
                task.updateMessage(Localization.lang("No entries corresponding to given query"));
             }
@@ -142,14 +162,18 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         // Remember the selection in the dialog
         preferences.getFilePreferences().setDownloadLinkedFiles(shouldDownloadFiles);
 
-        new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator()).mergeStrings(
-                databaseContext.getDatabase(),
-                parserResult.getDatabase());
-        new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator()).mergeMetaData(
-                databaseContext.getMetaData(),
-                parserResult.getMetaData(),
-                parserResult.getPath().map(path -> path.getFileName().toString()).orElse("unknown"),
-                parserResult.getDatabase().getEntries());
+        // The parser result is missing if the entries found so far are imported while the task is still running.
+        // These entries come without strings and metadata.
+        if (parserResult != null) {
+            new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator()).mergeStrings(
+                    databaseContext.getDatabase(),
+                    parserResult.getDatabase());
+            new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator()).mergeMetaData(
+                    databaseContext.getMetaData(),
+                    parserResult.getMetaData(),
+                    parserResult.getPath().map(path -> path.getFileName().toString()).orElse("unknown"),
+                    parserResult.getDatabase().getEntries());
+        }
 
         buildImportHandlerThenImportEntries(entriesToImport);
     }
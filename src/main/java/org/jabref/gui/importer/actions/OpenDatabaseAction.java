@@ -30,6 +30,7 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.search.LatexFreeFieldCache;
 import org.jabref.logic.shared.DatabaseNotSupportedException;
 import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
 import org.jabref.logic.shared.exception.NotASharedDatabaseException;
@@ -231,6 +232,8 @@ public class OpenDatabaseAction extends SimpleCommand {
                         fileUpdateMonitor);
             }
 
+            LatexFreeFieldCache.load(parserResult.getDatabaseContext());
+
             if (parserResult.hasWarnings()) {
                 String content = Localization.lang("Please check your library file for wrong syntax.")
                         + "\n\n" + parserResult.getErrorMessage();
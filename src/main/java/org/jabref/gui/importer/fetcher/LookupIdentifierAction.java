@@ -2,6 +2,11 @@ package org.jabref.gui.importer.fetcher;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.undo.UndoManager;
 
@@ -32,6 +37,8 @@ public class LookupIdentifierAction<T extends Identifier> extends SimpleCommand
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LookupIdentifierAction.class);
 
+    private static final int MAX_CONCURRENT_LOOKUPS = 8;
+
     private final IdFetcher<T> fetcher;
     private final StateManager stateManager;
     private final UndoManager undoManager;
@@ -71,34 +78,54 @@ public class LookupIdentifierAction<T extends Identifier> extends SimpleCommand
     private String lookupIdentifiers(List<BibEntry> bibEntries) {
         String totalCount = Integer.toString(bibEntries.size());
         NamedCompound namedCompound = new NamedCompound(Localization.lang("Look up %0", fetcher.getIdentifierName()));
-        int count = 0;
-        int foundCount = 0;
-        for (BibEntry bibEntry : bibEntries) {
-            count++;
-            final String statusMessage = Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
-                    fetcher.getIdentifierName(), Integer.toString(count), totalCount, Integer.toString(foundCount));
-            DefaultTaskExecutor.runInJavaFXThread(() -> dialogService.notify(statusMessage));
-            Optional<T> identifier = Optional.empty();
-            try {
-                identifier = fetcher.findIdentifier(bibEntry);
-            } catch (FetcherException e) {
-                LOGGER.error("Could not fetch " + fetcher.getIdentifierName(), e);
-            }
-            if (identifier.isPresent() && !bibEntry.hasField(identifier.get().getDefaultField())) {
-                Optional<FieldChange> fieldChange = bibEntry.setField(identifier.get().getDefaultField(), identifier.get().getNormalized());
-                if (fieldChange.isPresent()) {
-                    namedCompound.addEdit(new UndoableFieldChange(fieldChange.get()));
-                    foundCount++;
-                    final String nextStatusMessage = Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
-                            fetcher.getIdentifierName(), Integer.toString(count), totalCount, Integer.toString(foundCount));
-                    DefaultTaskExecutor.runInJavaFXThread(() -> dialogService.notify(nextStatusMessage));
+        AtomicInteger count = new AtomicInteger();
+        AtomicInteger foundCount = new AtomicInteger();
+
+        // The requests of the fetcher are limited by the FetcherRateLimiter, thus the entries are looked up in parallel
+        ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_LOOKUPS);
+        try {
+            List<Future<Optional<T>>> identifiers = bibEntries.stream()
+                                                              .map(bibEntry -> executor.submit(() -> {
+                                                                  final String statusMessage = Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
+                                                                          fetcher.getIdentifierName(), Integer.toString(count.incrementAndGet()), totalCount, Integer.toString(foundCount.get()));
+                                                                  DefaultTaskExecutor.runInJavaFXThread(() -> dialogService.notify(statusMessage));
+                                                                  return findIdentifier(bibEntry);
+                                                              }))
+                                                              .toList();
+            for (int i = 0; i < bibEntries.size(); i++) {
+                BibEntry bibEntry = bibEntries.get(i);
+                Optional<T> identifier = identifiers.get(i).get();
+                if (identifier.isPresent() && !bibEntry.hasField(identifier.get().getDefaultField())) {
+                    Optional<FieldChange> fieldChange = bibEntry.setField(identifier.get().getDefaultField(), identifier.get().getNormalized());
+                    if (fieldChange.isPresent()) {
+                        namedCompound.addEdit(new UndoableFieldChange(fieldChange.get()));
+                        final String nextStatusMessage = Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
+                                fetcher.getIdentifierName(), Integer.toString(count.get()), totalCount, Integer.toString(foundCount.incrementAndGet()));
+                        DefaultTaskExecutor.runInJavaFXThread(() -> dialogService.notify(nextStatusMessage));
+                    }
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.info("Lookup of {} was interrupted", fetcher.getIdentifierName());
+        } catch (ExecutionException e) {
+            LOGGER.error("Could not fetch {}", fetcher.getIdentifierName(), e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
         namedCompound.end();
-        if (foundCount > 0) {
+        if (foundCount.get() > 0) {
             undoManager.addEdit(namedCompound);
         }
-        return Localization.lang("Determined %0 for %1 entries", fetcher.getIdentifierName(), Integer.toString(foundCount));
+        return Localization.lang("Determined %0 for %1 entries", fetcher.getIdentifierName(), Integer.toString(foundCount.get()));
+    }
+
+    private Optional<T> findIdentifier(BibEntry bibEntry) {
+        try {
+            return fetcher.findIdentifier(bibEntry);
+        } catch (FetcherException e) {
+            LOGGER.error("Could not fetch " + fetcher.getIdentifierName(), e);
+            return Optional.empty();
+        }
     }
 }
@@ -17,11 +17,14 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.Telemetry;
 import org.jabref.gui.importer.ImportEntriesDialog;
 import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.importer.CompositeIdFetcher;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
+import org.jabref.logic.importer.fetcher.CompositeSearchBasedFetcher;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.OptionalUtil;
 import org.jabref.preferences.PreferencesService;
@@ -146,7 +149,15 @@ public class WebSearchPaneViewModel {
         }
 
         SearchBasedFetcher activeFetcher = getSelectedFetcher();
-        Callable<ParserResult> parserResultCallable = () -> new ParserResult(activeFetcher.performSearch(query));
+        ObservableList<BibEntry> foundEntries = FXCollections.observableArrayList();
+        Callable<ParserResult> parserResultCallable;
+        if (activeFetcher instanceof CompositeSearchBasedFetcher compositeFetcher) {
+            // Show the results of each fetcher as soon as it returns
+            parserResultCallable = () -> new ParserResult(compositeFetcher.performSearch(query,
+                    entries -> DefaultTaskExecutor.runInJavaFXThread(() -> foundEntries.addAll(entries))));
+        } else {
+            parserResultCallable = () -> new ParserResult(activeFetcher.performSearch(query));
+        }
         String fetcherName = activeFetcher.getName();
 
         if (CompositeIdFetcher.containsValidId(query)) {
@@ -163,7 +174,7 @@ public class WebSearchPaneViewModel {
                              .withInitialMessage(Localization.lang("Processing %0", query));
         task.onFailure(dialogService::showErrorDialogAndWait);
 
-        ImportEntriesDialog dialog = new ImportEntriesDialog(stateManager.getActiveDatabase().get(), task);
+        ImportEntriesDialog dialog = new ImportEntriesDialog(stateManager.getActiveDatabase().get(), task, foundEntries);
         dialog.setTitle(finalFetcherName);
         dialogService.showCustomDialogAndWait(dialog);
     }
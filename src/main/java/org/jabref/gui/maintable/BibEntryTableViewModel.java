@@ -14,6 +14,7 @@ import javafx.beans.Observable;
 import javafx.beans.binding.Binding;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.value.ObservableValue;
 
@@ -44,10 +45,19 @@ public class BibEntryTableViewModel {
     private final EasyBinding<Map<Field, String>> linkedIdentifiers;
     private final Binding<List<AbstractGroup>> matchedGroups;
     private final BibDatabaseContext bibDatabaseContext;
+    private final ObservableValue<Double> relevance;
 
     public BibEntryTableViewModel(BibEntry entry, BibDatabaseContext bibDatabaseContext, ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter) {
+        this(entry, bibDatabaseContext, fieldValueFormatter, new SimpleObjectProperty<>(Map.of()));
+    }
+
+    /**
+     * @param relevances the relevances of the best ranked entries for the active search query, empty if there is no search
+     */
+    public BibEntryTableViewModel(BibEntry entry, BibDatabaseContext bibDatabaseContext, ObservableValue<MainTableFieldValueFormatter> fieldValueFormatter, ObservableValue<Map<BibEntry, Double>> relevances) {
         this.entry = entry;
         this.fieldValueFormatter = fieldValueFormatter;
+        this.relevance = EasyBind.map(relevances, topRelevances -> topRelevances.getOrDefault(entry, 0.0));
 
         this.linkedFiles = getField(StandardField.FILE).mapOpt(FileFieldParser::parse).orElseOpt(Collections.emptyList());
         this.linkedIdentifiers = createLinkedIdentifiersBinding(entry);
@@ -142,6 +152,14 @@ public class BibEntryTableViewModel {
         return value;
     }
 
+    /**
+     * Returns the relevance of the entry for the active search query, 0 if there is no search or the entry is not
+     * among the best ranked entries.
+     */
+    public ObservableValue<Double> getRelevance() {
+        return relevance;
+    }
+
     public StringProperty bibDatabaseContextProperty() {
         return new ReadOnlyStringWrapper(bibDatabaseContext.getDatabasePath().map(Path::toString).orElse(""));
     }
@@ -99,6 +99,9 @@ public class MainTableColumnFactory {
             case LIBRARY_NAME:
                 returnColumn = createLibraryColumn(column);
                 break;
+            case RELEVANCE:
+                returnColumn = createRelevanceColumn(column);
+                break;
             case EXTRAFILE:
                 if (!column.getQualifier().isBlank()) {
                     returnColumn = createExtraFileColumn(column);
@@ -311,4 +314,19 @@ public class MainTableColumnFactory {
     private TableColumn<BibEntryTableViewModel, String> createLibraryColumn(MainTableColumnModel columnModel) {
         return new LibraryColumn(columnModel);
     }
+
+    /**
+     * Creates a column with the relevance of the best ranked entries for the active search query. Sorting by this column
+     * ranks the search results.
+     */
+    private TableColumn<BibEntryTableViewModel, Double> createRelevanceColumn(MainTableColumnModel columnModel) {
+        TableColumn<BibEntryTableViewModel, Double> column = new MainTableColumn<>(columnModel);
+        column.setText(MainTableColumnModel.Type.RELEVANCE.getDisplayName());
+        column.setStyle("-fx-alignment: CENTER-RIGHT;");
+        column.setCellValueFactory(cellData -> cellData.getValue().getRelevance());
+        new ValueTableCellFactory<BibEntryTableViewModel, Double>()
+                .withText(relevance -> relevance > 0 ? "%.2f".formatted(relevance) : "")
+                .install(column);
+        return column;
+    }
 }
@@ -41,7 +41,8 @@ public class MainTableColumnModel {
         LINKED_IDENTIFIER("linked_id", Localization.lang("Linked identifiers")),
         NORMALFIELD("field"),
         SPECIALFIELD("special", Localization.lang("Special")),
-        LIBRARY_NAME("library", Localization.lang("Library"));
+        LIBRARY_NAME("library", Localization.lang("Library")),
+        RELEVANCE("relevance", Localization.lang("Relevance"));
 
         public static final EnumSet<Type> ICON_COLUMNS = EnumSet.of(EXTRAFILE, FILES, GROUPS, GROUP_ICONS, LINKED_IDENTIFIER);
 
@@ -143,7 +144,8 @@ public class MainTableColumnModel {
 
     public String getDisplayName() {
         if ((Type.ICON_COLUMNS.contains(typeProperty.getValue()) && qualifierProperty.getValue().isBlank())
-                || (typeProperty.getValue() == Type.INDEX)) {
+                || (typeProperty.getValue() == Type.INDEX)
+                || (typeProperty.getValue() == Type.RELEVANCE)) {
             return typeProperty.getValue().getDisplayName();
         } else {
             // In case an OrField is used, `FieldFactory.parseField` returns UnknownField, which leads to
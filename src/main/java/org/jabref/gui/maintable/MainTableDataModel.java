@@ -1,6 +1,8 @@
 package org.jabref.gui.maintable;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.beans.binding.Bindings;
@@ -15,7 +17,10 @@ import javafx.collections.transformation.SortedList;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.groups.GroupsPreferences;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.search.RelevanceScorer;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -27,23 +32,33 @@ import org.jabref.preferences.PreferencesService;
 import com.tobiasdiez.easybind.EasyBind;
 
 public class MainTableDataModel {
+    /**
+     * Number of search results ranked in the relevance column
+     */
+    static final int RANKED_ENTRIES = 100;
+
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesFilteredAndSorted;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter = new SimpleObjectProperty<>();
+    private final ObjectProperty<Map<BibEntry, Double>> relevances = new SimpleObjectProperty<>(Map.of());
     private final GroupsPreferences groupsPreferences;
     private final NameDisplayPreferences nameDisplayPreferences;
     private final BibDatabaseContext bibDatabaseContext;
+    private final TaskExecutor taskExecutor;
+    private BackgroundTask<Map<BibEntry, Double>> relevanceTask;
 
-    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
+    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         this.groupsPreferences = preferencesService.getGroupsPreferences();
         this.nameDisplayPreferences = preferencesService.getNameDisplayPreferences();
         this.bibDatabaseContext = context;
+        this.taskExecutor = taskExecutor;
 
         resetFieldFormatter();
 
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
-                new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
+                new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter, relevances));
+        EasyBind.subscribe(stateManager.activeSearchQueryProperty(), this::updateRelevances);
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
@@ -60,6 +75,41 @@ public class MainTableDataModel {
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
 
+    /**
+     * Ranks the entries matching the query in the background: computing the statistics of the library and searching
+     * the linked files takes too long for the JavaFX thread. Until the task finishes, no entry has a relevance.
+     * The relevances are not updated when entries are edited during the search.
+     */
+    private void updateRelevances(Optional<SearchQuery> query) {
+        if (relevanceTask != null) {
+            relevanceTask.cancel();
+            relevanceTask = null;
+        }
+        relevances.set(Map.of());
+        if (query.isEmpty()) {
+            return;
+        }
+
+        SearchQuery searchQuery = query.get();
+        List<BibEntry> entries = List.copyOf(bibDatabaseContext.getDatabase().getEntries());
+        BackgroundTask<Map<BibEntry, Double>> task = BackgroundTask.wrap(() -> {
+            RelevanceScorer scorer = new RelevanceScorer(searchQuery, entries);
+            List<BibEntry> matches = entries.stream().filter(searchQuery::isMatch).toList();
+            // The table looks up the entries themselves, equal entries are ranked independently
+            Map<BibEntry, Double> topRelevances = new IdentityHashMap<>();
+            for (BibEntry entry : scorer.getTopEntries(matches, RANKED_ENTRIES)) {
+                topRelevances.put(entry, scorer.score(entry));
+            }
+            return topRelevances;
+        });
+        relevanceTask = task;
+        task.onSuccess(topRelevances -> {
+            if (relevanceTask == task) {
+                relevances.set(topRelevances);
+            }
+        }).executeWith(taskExecutor);
+    }
+
     private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
         return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
     }
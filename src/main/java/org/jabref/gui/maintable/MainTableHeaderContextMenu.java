@@ -184,6 +184,7 @@ public class MainTableHeaderContextMenu extends ContextMenu {
         commonColumns.add(new MainTableColumnModel(MainTableColumnModel.Type.GROUP_ICONS));
         commonColumns.add(new MainTableColumnModel(MainTableColumnModel.Type.FILES));
         commonColumns.add(new MainTableColumnModel(MainTableColumnModel.Type.LINKED_IDENTIFIER));
+        commonColumns.add(new MainTableColumnModel(MainTableColumnModel.Type.RELEVANCE));
         commonColumns.add(new MainTableColumnModel(MainTableColumnModel.Type.NORMALFIELD, entryTypeQualifier));
         commonColumns.add(new MainTableColumnModel(MainTableColumnModel.Type.NORMALFIELD, authorEditQualifier));
         commonColumns.add(new MainTableColumnModel(MainTableColumnModel.Type.NORMALFIELD, titleQualifier));
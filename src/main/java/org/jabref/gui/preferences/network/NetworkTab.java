@@ -31,6 +31,7 @@ import org.controlsfx.control.textfield.CustomPasswordField;
 
 public class NetworkTab extends AbstractPreferenceTabView<NetworkTabViewModel> implements PreferencesTab {
     @FXML private CheckBox versionCheck;
+    @FXML private CheckBox httpResponseCache;
     @FXML private CheckBox proxyUse;
     @FXML private Label proxyHostnameLabel;
     @FXML private TextField proxyHostname;
@@ -74,6 +75,7 @@ public class NetworkTab extends AbstractPreferenceTabView<NetworkTabViewModel> i
         this.viewModel = new NetworkTabViewModel(dialogService, preferencesService);
 
         versionCheck.selectedProperty().bindBidirectional(viewModel.versionCheckProperty());
+        httpResponseCache.selectedProperty().bindBidirectional(viewModel.httpResponseCacheProperty());
 
         proxyUse.selectedProperty().bindBidirectional(viewModel.proxyUseProperty());
         proxyHostnameLabel.disableProperty().bind(proxyUse.selectedProperty().not());
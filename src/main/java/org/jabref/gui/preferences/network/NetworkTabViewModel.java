@@ -42,6 +42,7 @@ import kong.unirest.UnirestException;
 
 public class NetworkTabViewModel implements PreferenceTabViewModel {
     private final BooleanProperty versionCheckProperty = new SimpleBooleanProperty();
+    private final BooleanProperty httpResponseCacheProperty = new SimpleBooleanProperty();
     private final BooleanProperty proxyUseProperty = new SimpleBooleanProperty();
     private final StringProperty proxyHostnameProperty = new SimpleStringProperty("");
     private final StringProperty proxyPortProperty = new SimpleStringProperty("");
@@ -123,6 +124,7 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
     @Override
     public void setValues() {
         versionCheckProperty.setValue(internalPreferences.isVersionCheckEnabled());
+        httpResponseCacheProperty.setValue(internalPreferences.isHttpResponseCacheEnabled());
 
         setProxyValues();
         setSSLValues();
@@ -159,6 +161,8 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
 
     @Override
     public void storeSettings() {
+        internalPreferences.setHttpResponseCacheEnabled(httpResponseCacheProperty.getValue());
+
         proxyPreferences.setUseProxy(proxyUseProperty.getValue());
         proxyPreferences.setHostname(proxyHostnameProperty.getValue().trim());
         proxyPreferences.setPort(proxyPortProperty.getValue().trim());
@@ -268,6 +272,10 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
         return versionCheckProperty;
     }
 
+    public BooleanProperty httpResponseCacheProperty() {
+        return httpResponseCacheProperty;
+    }
+
     public BooleanProperty proxyUseProperty() {
         return proxyUseProperty;
     }
@@ -2,6 +2,8 @@ package org.jabref.gui.slr;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.jabref.gui.DialogService;
 import org.jabref.gui.LibraryTabContainer;
@@ -12,6 +14,7 @@ import org.jabref.gui.importer.actions.OpenDatabaseAction;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.crawler.Crawler;
+import org.jabref.logic.crawler.FetcherProgress;
 import org.jabref.logic.git.SlrGitHandler;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.l10n.Localization;
@@ -122,19 +125,46 @@ public class ExistingStudySearchAction extends SimpleCommand {
         }
 
         dialogService.notify(Localization.lang("Searching..."));
-        BackgroundTask.wrap(() -> {
-                          crawler.performCrawl();
-                          return 0; // Return any value to make this a callable instead of a runnable. This allows throwing exceptions.
-                      })
-                      .onFailure(e -> {
-                          LOGGER.error("Error during persistence of crawling results.");
-                          dialogService.showErrorDialogAndWait(Localization.lang("Error during persistence of crawling results."), e);
-                      })
-                      .onSuccess(unused -> {
-                          dialogService.notify(Localization.lang("Finished Searching"));
-                          openDatabaseAction.openFile(Path.of(this.studyDirectory.toString(), Crawler.FILENAME_STUDY_RESULT_BIB));
-                      })
-                      .executeWith(taskExecutor);
+        BackgroundTask<Integer> crawlTask = new BackgroundTask<>() {
+            private final Map<String, FetcherProgress> progressPerFetcher = new HashMap<>();
+
+            @Override
+            protected Integer call() throws Exception {
+                crawler.performCrawl(this::reportProgress);
+                return 0; // Return any value to make this a callable instead of a runnable. This allows throwing exceptions.
+            }
+
+            /**
+             * Shows the progress of all requests and the progress of the E-Library requested last
+             */
+            private synchronized void reportProgress(FetcherProgress progress) {
+                progressPerFetcher.put(progress.fetcherName(), progress);
+                int doneRequests = progressPerFetcher.values().stream().mapToInt(fetcher -> fetcher.completedRequests() + fetcher.failedRequests()).sum();
+                int pendingRequests = progressPerFetcher.values().stream().mapToInt(FetcherProgress::pendingRequests).sum();
+                updateProgress(doneRequests, doneRequests + pendingRequests);
+                updateMessage(Localization.lang("%0: %1 entries fetched, %2 requests failed, %3 requests pending",
+                        progress.fetcherName(),
+                        String.valueOf(progress.fetchedEntries()),
+                        String.valueOf(progress.failedRequests()),
+                        String.valueOf(progress.pendingRequests())));
+            }
+        };
+        crawlTask.titleProperty().set(Localization.lang("Searching..."));
+        crawlTask.showToUser(true);
+        crawlTask.isCanceledProperty().addListener((observable, wasCanceled, isCanceled) -> {
+            if (isCanceled) {
+                crawler.cancel();
+            }
+        });
+        crawlTask.onFailure(e -> {
+                     LOGGER.error("Error during persistence of crawling results.");
+                     dialogService.showErrorDialogAndWait(Localization.lang("Error during persistence of crawling results."), e);
+                 })
+                 .onSuccess(unused -> {
+                     dialogService.notify(Localization.lang("Finished Searching"));
+                     openDatabaseAction.openFile(Path.of(this.studyDirectory.toString(), Crawler.FILENAME_STUDY_RESULT_BIB));
+                 })
+                 .executeWith(taskExecutor);
     }
 
     /**
@@ -2,6 +2,7 @@ package org.jabref.http.dto;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Set;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
@@ -11,6 +12,7 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.SharedBibEntryData;
+import org.jabref.model.entry.field.Field;
 
 import com.google.common.base.MoreObjects;
 import org.slf4j.Logger;
@@ -36,6 +38,26 @@ public record BibEntryDTO(SharedBibEntryData sharingMetadata, String userComment
         );
     }
 
+    /**
+     * Creates a DTO containing only the given fields of the entry. The entry type and the citation key are always included.
+     */
+    public BibEntryDTO(BibEntry bibEntry, Set<Field> fields, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
+        this(bibEntry.getSharedBibEntryData(),
+                bibEntry.getUserComments(),
+                bibEntry.getCitationKey().orElse(""),
+                convertToString(project(bibEntry, fields), bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager)
+        );
+    }
+
+    private static BibEntry project(BibEntry entry, Set<Field> fields) {
+        BibEntry projection = new BibEntry(entry.getType());
+        entry.getCitationKey().ifPresent(projection::setCitationKey);
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> projection.setField(field, value));
+        }
+        return projection;
+    }
+
     private static String convertToString(BibEntry entry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
         StringWriter rawEntry = new StringWriter();
         BibWriter bibWriter = new BibWriter(rawEntry, "\n");
@@ -0,0 +1,66 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+
+import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes entries as JSON array of {@link BibEntryDTO}s. Each DTO is created and written on its own, thus the server
+ * does not hold the whole response in memory.
+ */
+public class BibEntryDTOStreamingOutput implements StreamingOutput {
+
+    private final Collection<BibEntry> entries;
+    private final Set<Field> fields;
+    private final BibDatabaseMode mode;
+    private final FieldPreferences fieldPreferences;
+    private final BibEntryTypesManager entryTypesManager;
+    private final Gson gson;
+
+    /**
+     * @param fields the fields to include, all fields if empty
+     */
+    public BibEntryDTOStreamingOutput(Collection<BibEntry> entries, Set<Field> fields, BibDatabaseMode mode, FieldPreferences fieldPreferences, BibEntryTypesManager entryTypesManager, Gson gson) {
+        this.entries = entries;
+        this.fields = fields;
+        this.mode = mode;
+        this.fieldPreferences = fieldPreferences;
+        this.entryTypesManager = entryTypesManager;
+        this.gson = gson;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        jsonWriter.beginArray();
+        for (BibEntry entry : entries) {
+            gson.toJson(toDTO(entry), BibEntryDTO.class, jsonWriter);
+        }
+        jsonWriter.endArray();
+        // The output stream is closed by the container
+        jsonWriter.flush();
+    }
+
+    private BibEntryDTO toDTO(BibEntry entry) {
+        if (fields.isEmpty()) {
+            return new BibEntryDTO(entry, mode, fieldPreferences, entryTypesManager);
+        }
+        return new BibEntryDTO(entry, fields, mode, fieldPreferences, entryTypesManager);
+    }
+}
@@ -0,0 +1,207 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the parsed libraries served by the http server, so that a request does not need to parse the library again.
+ * <p>
+ * A cached library is dropped as soon as the {@link FileUpdateMonitor} reports a change of its file. As the monitor
+ * might not be active (or report the change with some delay), the modification time and size of the file are
+ * compared on each access, too.
+ */
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private static final int MAX_CONCURRENT_SERIALIZATIONS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Identifies a version of a library file.
+     */
+    public record LibraryVersion(FileTime lastModified, long size) {
+
+        static LibraryVersion of(Path library) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+            return new LibraryVersion(attributes.lastModifiedTime(), attributes.size());
+        }
+
+        public Date lastModifiedDate() {
+            return new Date(lastModified.toMillis());
+        }
+
+        /**
+         * Returns the entity tag of the given representation (e.g., "json") of this version.
+         * Different representations of the same version need to have different tags.
+         */
+        public EntityTag entityTag(String representation) {
+            return new EntityTag(Long.toHexString(lastModified.toMillis()) + "-" + Long.toHexString(size) + "-" + representation);
+        }
+    }
+
+    /**
+     * @param entriesByCitationKey  the first entry of each citation key, used for lookups by citation key
+     * @param serializationPermits bounds the number of concurrent serializations of this library
+     */
+    public record CachedLibrary(ParserResult parserResult, LibraryVersion version, Map<String, BibEntry> entriesByCitationKey, Semaphore serializationPermits) {
+
+        public BibDatabaseContext databaseContext() {
+            return parserResult.getDatabaseContext();
+        }
+
+        /**
+         * Same as {@link org.jabref.model.database.BibDatabase#getEntryByCitationKey(String)}, but without scanning all entries.
+         */
+        public Optional<BibEntry> getEntryByCitationKey(String citationKey) {
+            return Optional.ofNullable(entriesByCitationKey.get(citationKey));
+        }
+
+        /**
+         * Runs the given serialization of this library. If the maximum number of concurrent serializations is
+         * reached, the caller waits. Requests are handled on virtual threads, thus waiting is cheap, but
+         * serializing a large library many times in parallel would exhaust the memory.
+         */
+        public <T> T serialize(Supplier<T> serialization) {
+            serializationPermits.acquireUninterruptibly();
+            try {
+                return serialization.get();
+            } finally {
+                serializationPermits.release();
+            }
+        }
+
+        /**
+         * Same as {@link #serialize(Supplier)} for responses written after the resource method returned.
+         */
+        public StreamingOutput serialize(StreamingOutput output) {
+            return outputStream -> {
+                serializationPermits.acquireUninterruptibly();
+                try {
+                    output.write(outputStream);
+                } finally {
+                    serializationPermits.release();
+                }
+            };
+        }
+    }
+
+    private final FileUpdateMonitor fileUpdateMonitor;
+    /**
+     * The parsed libraries. A future is stored as soon as the parsing starts, thus concurrent requests wait for it
+     * instead of parsing the library again. The parsing itself runs outside of the map's locks.
+     */
+    private final Map<Path, CompletableFuture<CachedLibrary>> libraries = new ConcurrentHashMap<>();
+    private final Set<Path> monitoredLibraries = ConcurrentHashMap.newKeySet();
+
+    public LibraryCache(FileUpdateMonitor fileUpdateMonitor) {
+        this.fileUpdateMonitor = fileUpdateMonitor;
+    }
+
+    /**
+     * Returns the parsed library. The library is parsed if it was not cached before or changed since then.
+     * Concurrent requests for the same library wait for a single parse.
+     */
+    public CachedLibrary get(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Path path = library.toAbsolutePath();
+        LibraryVersion currentVersion = LibraryVersion.of(path);
+        while (true) {
+            CompletableFuture<CachedLibrary> cached = libraries.get(path);
+            if (cached != null) {
+                CachedLibrary cachedLibrary = await(cached);
+                if (cachedLibrary.version().equals(currentVersion)) {
+                    return cachedLibrary;
+                }
+            }
+
+            CompletableFuture<CachedLibrary> parsing = new CompletableFuture<>();
+            boolean isParsing = (cached == null) ? (libraries.putIfAbsent(path, parsing) == null) : libraries.replace(path, cached, parsing);
+            if (!isParsing) {
+                // Another request started parsing meanwhile
+                continue;
+            }
+            try {
+                parsing.complete(parse(path, currentVersion, importFormatPreferences));
+            } catch (IOException | RuntimeException e) {
+                libraries.remove(path, parsing);
+                parsing.completeExceptionally(e);
+                throw e;
+            }
+            monitor(path);
+            return parsing.join();
+        }
+    }
+
+    private static CachedLibrary await(CompletableFuture<CachedLibrary> parsing) throws IOException {
+        try {
+            return parsing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the version of the library file without parsing it
+     */
+    public LibraryVersion getVersion(Path library) throws IOException {
+        return LibraryVersion.of(library.toAbsolutePath());
+    }
+
+    public void invalidate(Path library) {
+        libraries.remove(library.toAbsolutePath());
+    }
+
+    private static CachedLibrary parse(Path library, LibraryVersion version, ImportFormatPreferences importFormatPreferences) throws IOException {
+        LOGGER.debug("Parsing library {}", library);
+        ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(library);
+        Map<String, BibEntry> entriesByCitationKey = new HashMap<>();
+        for (BibEntry entry : parserResult.getDatabase().getEntries()) {
+            // The shared id is used by clients to identify the entries. It is computed once per version of the library.
+            entry.getSharedBibEntryData().setSharedID(Objects.hash(entry));
+            entry.getCitationKey().ifPresent(key -> entriesByCitationKey.putIfAbsent(key, entry));
+        }
+        return new CachedLibrary(parserResult, version, entriesByCitationKey, new Semaphore(MAX_CONCURRENT_SERIALIZATIONS));
+    }
+
+    private void monitor(Path library) {
+        if (!monitoredLibraries.add(library)) {
+            return;
+        }
+        try {
+            fileUpdateMonitor.addListenerForFile(library, () -> invalidate(library));
+        } catch (IOException e) {
+            // Try again on next access
+            monitoredLibraries.remove(library);
+            LOGGER.warn("Could not monitor library {}. Changes are detected on access only.", library, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.jabref.http.server;
+
+import org.jabref.gui.Globals;
+
+import org.glassfish.hk2.api.Factory;
+
+/**
+ * Provides the single {@link LibraryCache} of the server. The cache is shared by all requests.
+ */
+public class LibraryCacheFactory implements Factory<LibraryCache> {
+
+    private final LibraryCache libraryCache = new LibraryCache(Globals.getFileUpdateMonitor());
+
+    @Override
+    public LibraryCache provide() {
+        return libraryCache;
+    }
+
+    @Override
+    public void dispose(LibraryCache instance) {
+    }
+}
@@ -2,30 +2,48 @@ package org.jabref.http.server;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jabref.gui.Globals;
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
-import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.search.DatabaseSearcher;
+import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.paging.Page;
+import org.jabref.model.search.rules.SearchRules;
+import org.jabref.model.strings.StringUtil;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,48 +51,78 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Inject
     PreferencesService preferences;
 
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
+    @Context
+    Request request;
+
+    @Context
+    UriInfo uriInfo;
+
+    /**
+     * Returns the entries as JSON array of {@link org.jabref.http.dto.BibEntryDTO}s. The array is written entry by entry.
+     *
+     * @param offset the number of entries to skip
+     * @param limit  the maximum number of entries to return. If set, the total number of entries is returned in the
+     *               header {@value #TOTAL_COUNT_HEADER} and the next page is linked (<code>rel="next"</code>).
+     * @param fields comma separated list of the fields to include, e.g., <code>title,author</code>. All fields if not set.
+     */
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+    public Response getJson(@PathParam("id") String id,
+                            @QueryParam("offset") @DefaultValue("0") int offset,
+                            @QueryParam("limit") Integer limit,
+                            @QueryParam("fields") String fields) {
+        if ((offset < 0) || ((limit != null) && (limit <= 0))) {
+            throw new BadRequestException("offset must not be negative and limit must be positive");
+        }
+        Set<Field> projection = parseFields(fields);
+        return respond(id, "json", cachedLibrary -> {
+            BibDatabaseContext databaseContext = cachedLibrary.databaseContext();
+            List<BibEntry> allEntries = databaseContext.getDatabase().getEntries();
+            Page<BibEntry> page = getPage(allEntries, offset, (limit == null) ? Integer.MAX_VALUE : limit);
+            Response.ResponseBuilder response = Response.ok();
+            if (limit != null) {
+                response.header(TOTAL_COUNT_HEADER, allEntries.size());
+                int nextOffset = offset + page.getSize();
+                if (nextOffset < allEntries.size()) {
+                    response.link(uriInfo.getRequestUriBuilder().replaceQueryParam("offset", nextOffset).build(), "next");
+                }
+            }
+            return response.entity(cachedLibrary.serialize(new BibEntryDTOStreamingOutput(page.getContent(), projection, databaseContext.getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager, gson)));
+        });
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
-    }
-
-    private ParserResult getParserResult(String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
-        try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
-        } catch (IOException e) {
-            LOGGER.warn("Could not find open library file {}", library, e);
-            throw new InternalServerErrorException("Could not parse library", e);
-        }
-        return parserResult;
+    public Response getClsItemJson(@PathParam("id") String id) {
+        return respond(id, "csl-json", cachedLibrary -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(cachedLibrary.databaseContext(), new BibEntryTypesManager());
+            return Response.ok(cachedLibrary.serialize(jabRefItemDataProvider::toJson));
+        });
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
     public Response getBibtex(@PathParam("id") String id) {
         java.nio.file.Path library = getLibraryPath(id);
+        LibraryCache.LibraryVersion version = getVersion(library);
+        EntityTag entityTag = version.entityTag("bibtex");
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.lastModifiedDate(), entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
         String libraryAsString;
         try {
             libraryAsString = Files.readString(library);
@@ -84,9 +132,139 @@ public class LibraryResource {
         }
         return Response.ok()
                 .entity(libraryAsString)
+                .tag(entityTag)
+                .lastModified(version.lastModifiedDate())
                 .build();
     }
 
+    /**
+     * Returns the first entry having the given citation key as {@link org.jabref.http.dto.BibEntryDTO}
+     */
+    @GET
+    @Path("entries/{citationKey}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntryJson(@PathParam("id") String id, @PathParam("citationKey") String citationKey) {
+        return respond(id, "entry-json", cachedLibrary -> {
+            BibEntry entry = cachedLibrary.getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+            return Response.ok(gson.toJson(new BibEntryDTO(entry, cachedLibrary.databaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager)));
+        });
+    }
+
+    /**
+     * Returns the first entry having the given citation key as BibTeX
+     */
+    @GET
+    @Path("entries/{citationKey}")
+    @Produces(JabrefMediaType.BIBTEX)
+    public Response getEntryBibtex(@PathParam("id") String id, @PathParam("citationKey") String citationKey) {
+        return respond(id, "entry-bibtex", cachedLibrary -> {
+            BibEntry entry = cachedLibrary.getEntryByCitationKey(citationKey).orElseThrow(NotFoundException::new);
+            return Response.ok(new BibEntryDTO(entry, cachedLibrary.databaseContext().getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager).bibtex());
+        });
+    }
+
+    /**
+     * Returns the entries matching the search query as JSON array of {@link org.jabref.http.dto.BibEntryDTO}s.
+     *
+     * @param query         the search expression, either a simple search or a grammar based one (e.g., <code>author=smith and year=2023</code>)
+     * @param caseSensitive whether to search case sensitive
+     * @param regex         whether the search terms are regular expressions
+     * @param fields        comma separated list of the fields to include. All fields if not set.
+     */
+    @GET
+    @Path("search")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response search(@PathParam("id") String id,
+                           @QueryParam("q") String query,
+                           @QueryParam("caseSensitive") @DefaultValue("false") boolean caseSensitive,
+                           @QueryParam("regex") @DefaultValue("false") boolean regex,
+                           @QueryParam("fields") String fields) {
+        if (StringUtil.isBlank(query)) {
+            throw new BadRequestException("The search query (parameter q) must not be empty");
+        }
+        EnumSet<SearchRules.SearchFlags> searchFlags = EnumSet.noneOf(SearchRules.SearchFlags.class);
+        if (caseSensitive) {
+            searchFlags.add(SearchRules.SearchFlags.CASE_SENSITIVE);
+        }
+        if (regex) {
+            searchFlags.add(SearchRules.SearchFlags.REGULAR_EXPRESSION);
+        }
+        SearchQuery searchQuery = new SearchQuery(query, searchFlags);
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search query");
+        }
+        Set<Field> projection = parseFields(fields);
+
+        return respond(id, "search-json", cachedLibrary -> {
+            BibDatabaseContext databaseContext = cachedLibrary.databaseContext();
+            List<BibEntry> matches = new DatabaseSearcher(searchQuery, databaseContext.getDatabase()).getMatches();
+            return Response.ok()
+                           .header(TOTAL_COUNT_HEADER, matches.size())
+                           .entity(cachedLibrary.serialize(new BibEntryDTOStreamingOutput(matches, projection, databaseContext.getMode(), preferences.getFieldPreferences(), Globals.entryTypesManager, gson)));
+        });
+    }
+
+    /**
+     * Answers a conditional request with "304 Not Modified" if the library did not change. Otherwise, the response is
+     * built from the cached library. Serializations of the whole library need to be wrapped using
+     * {@link LibraryCache.CachedLibrary#serialize}, which bounds the number of concurrent ones.
+     *
+     * @param representation distinguishes the entity tags of the different media types
+     */
+    private Response respond(String id, String representation, Function<LibraryCache.CachedLibrary, Response.ResponseBuilder> serializer) {
+        java.nio.file.Path library = getLibraryPath(id);
+        LibraryCache.LibraryVersion version = getVersion(library);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.lastModifiedDate(), version.entityTag(representation));
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        LibraryCache.CachedLibrary cachedLibrary = getCachedLibrary(library);
+        // The library might have changed in the meantime. Thus, the version of the parsed library is used.
+        return serializer.apply(cachedLibrary)
+                         .tag(cachedLibrary.version().entityTag(representation))
+                         .lastModified(cachedLibrary.version().lastModifiedDate())
+                         .build();
+    }
+
+    /**
+     * The entries starting at the offset. The page number is derived from offset and limit.
+     */
+    private static Page<BibEntry> getPage(List<BibEntry> entries, int offset, int limit) {
+        int from = Math.min(offset, entries.size());
+        int to = (int) Math.min((long) from + limit, entries.size());
+        return new Page<>("", offset / limit, entries.subList(from, to));
+    }
+
+    private static Set<Field> parseFields(String fields) {
+        if (StringUtil.isBlank(fields)) {
+            return Set.of();
+        }
+        return Arrays.stream(fields.split(","))
+                     .map(String::trim)
+                     .filter(StringUtil::isNotBlank)
+                     .map(FieldFactory::parseField)
+                     .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private LibraryCache.CachedLibrary getCachedLibrary(java.nio.file.Path library) {
+        try {
+            return libraryCache.get(library, preferences.getImportFormatPreferences());
+        } catch (IOException e) {
+            LOGGER.warn("Could not find open library file {}", library, e);
+            throw new InternalServerErrorException("Could not parse library", e);
+        }
+    }
+
+    private LibraryCache.LibraryVersion getVersion(java.nio.file.Path library) {
+        try {
+            return libraryCache.getVersion(library);
+        } catch (IOException e) {
+            LOGGER.error("Could not read library {}", library, e);
+            throw new InternalServerErrorException("Could not read library " + library, e);
+        }
+    }
+
     private java.nio.file.Path getLibraryPath(String id) {
         return preferences.getGuiPreferences().getLastFilesOpened()
                           .stream()
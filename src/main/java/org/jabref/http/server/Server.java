@@ -1,11 +1,16 @@
 package org.jabref.http.server;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.net.ssl.SSLContext;
 
@@ -17,6 +22,8 @@ import org.jabref.preferences.JabRefPreferences;
 
 import jakarta.ws.rs.SeBootstrap;
 import net.harawata.appdirs.AppDirsFactory;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +33,11 @@ import org.slf4j.bridge.SLF4JBridgeHandler;
 public class Server {
     private static final Logger LOGGER = LoggerFactory.getLogger(Server.class);
 
+    /**
+     * Jersey's <code>ServerProperties.WEBSERVER_AUTO_START</code>. The server is started after its thread pool is configured.
+     */
+    private static final String WEBSERVER_AUTO_START = "jersey.config.server.bootstrap.webserver.autostart";
+
     private static SeBootstrap.Instance serverInstance;
 
     /**
@@ -76,14 +88,13 @@ public class Server {
 
     private static void startServer() {
         SSLContext sslContext = getSslContext();
-        SeBootstrap.Configuration configuration = SeBootstrap.Configuration
+        SeBootstrap.Configuration.Builder configuration = SeBootstrap.Configuration
                 .builder()
                 .sslContext(sslContext)
                 .protocol("HTTPS")
-                .port(6051)
-                .build();
+                .port(6051);
         LOGGER.debug("Starting server...");
-        SeBootstrap.start(Application.class, configuration).thenAccept(instance -> {
+        start(configuration).thenAccept(instance -> {
             LOGGER.debug("Server started.");
             instance.stopOnShutdown(stopResult ->
                     System.out.printf("Stop result: %s [Native stop result: %s].%n", stopResult,
@@ -96,6 +107,51 @@ public class Server {
         });
     }
 
+    /**
+     * Starts the server using the given configuration. The requests are handled on virtual threads, so that requests
+     * waiting for a library being parsed do not block a thread of a fixed size pool.
+     */
+    public static CompletionStage<SeBootstrap.Instance> start(SeBootstrap.Configuration.Builder configuration) {
+        return SeBootstrap.start(Application.class, withoutAutoStart(configuration))
+                          .thenApply(Server::startOnVirtualThreads);
+    }
+
+    /**
+     * Starts the server for the given application, e.g., a <code>ResourceConfig</code> binding other services
+     *
+     * @see #start(SeBootstrap.Configuration.Builder)
+     */
+    public static CompletionStage<SeBootstrap.Instance> start(jakarta.ws.rs.core.Application application, SeBootstrap.Configuration.Builder configuration) {
+        return SeBootstrap.start(application, withoutAutoStart(configuration))
+                          .thenApply(Server::startOnVirtualThreads);
+    }
+
+    private static SeBootstrap.Configuration withoutAutoStart(SeBootstrap.Configuration.Builder configuration) {
+        return configuration.property(WEBSERVER_AUTO_START, false).build();
+    }
+
+    /**
+     * Configures the worker thread pool of Grizzly before starting the server, as the pool must not be replaced while
+     * connections are handled.
+     */
+    private static SeBootstrap.Instance startOnVirtualThreads(SeBootstrap.Instance instance) {
+        HttpServer httpServer = instance.unwrap(HttpServer.class);
+        if (httpServer.isStarted()) {
+            LOGGER.warn("Server was started before configuring its thread pool. Keeping the default thread pool.");
+            return instance;
+        }
+        ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        for (NetworkListener listener : httpServer.getListeners()) {
+            listener.getTransport().setWorkerThreadPool(virtualThreadExecutor);
+        }
+        try {
+            httpServer.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start server", e);
+        }
+        return instance;
+    }
+
     private static SSLContext getSslContext() {
         SSLContextConfigurator sslContextConfig = new SSLContextConfigurator();
         Path serverKeyStore = Path.of(AppDirsFactory.getInstance()
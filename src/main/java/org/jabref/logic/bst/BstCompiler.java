@@ -0,0 +1,188 @@
+package org.jabref.logic.bst;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.bst.BstProgram.Block;
+import org.jabref.logic.bst.BstProgram.BuiltIn;
+import org.jabref.logic.bst.BstProgram.Command;
+import org.jabref.logic.bst.BstProgram.Quoted;
+import org.jabref.model.entry.field.StandardField;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Lowers the parse tree of a bst file to a {@link BstProgram}.
+ */
+class BstCompiler {
+
+    static final String SORT_KEY = "sort.key$";
+    static final String ENTRY_MAX = "entry.max$";
+    static final String GLOBAL_MAX = "global.max$";
+
+    private final List<String> symbols = new ArrayList<>();
+    private final Map<String, Integer> symbolIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final Map<Integer, Quoted> quoted = new HashMap<>();
+    private final List<Block> blocks = new ArrayList<>();
+    private final Map<Integer, Integer> fieldSlots = new LinkedHashMap<>();
+    private final Map<Integer, Integer> entryIntegerSlots = new HashMap<>();
+    private final Map<Integer, Integer> entryStringSlots = new HashMap<>();
+
+    BstCompiler() {
+        // The symbol of a built-in function is its ordinal
+        for (BuiltIn builtIn : BuiltIn.values()) {
+            symbol(builtIn.getName());
+        }
+        symbol(ENTRY_MAX);
+        symbol(GLOBAL_MAX);
+        // Declared by READ and ENTRY, respectively
+        fieldSlots.put(symbol(StandardField.CROSSREF.getName()), 0);
+        entryStringSlots.put(symbol(SORT_KEY), 0);
+    }
+
+    BstProgram compile(ParseTree tree, Path path) {
+        BstParser.BstFileContext bstFile = (BstParser.BstFileContext) tree;
+        List<Command> commands = new ArrayList<>();
+        for (BstParser.CommandsContext command : bstFile.commands()) {
+            commands.add(compileCommand(command));
+        }
+
+        int[] fieldSlotsBySymbol = slotsBySymbol(fieldSlots);
+        String[] fieldNames = new String[fieldSlots.size()];
+        fieldSlots.forEach((symbol, slot) -> fieldNames[slot] = symbols.get(symbol));
+        Quoted[] quotedBySymbol = new Quoted[symbols.size()];
+        quoted.forEach((symbol, value) -> quotedBySymbol[symbol] = value);
+
+        return new BstProgram(List.copyOf(commands), symbols.toArray(String[]::new), Map.copyOf(symbolIndexes),
+                strings.toArray(String[]::new), quotedBySymbol, blocks.toArray(Block[]::new),
+                fieldSlotsBySymbol, slotsBySymbol(entryIntegerSlots), slotsBySymbol(entryStringSlots), fieldNames,
+                entryIntegerSlots.size(), entryStringSlots.size(), path);
+    }
+
+    private Command compileCommand(BstParser.CommandsContext command) {
+        return switch (command) {
+            case BstParser.StringsCommandContext ctx ->
+                    new BstProgram.StringsCommand(symbols(ctx.ids.identifier()));
+            case BstParser.IntegersCommandContext ctx ->
+                    new BstProgram.IntegersCommand(symbols(ctx.ids.identifier()));
+            case BstParser.FunctionCommandContext ctx ->
+                    new BstProgram.FunctionCommand(symbol(ctx.id.getText()), compileStack(ctx.function));
+            case BstParser.MacroCommandContext ctx -> {
+                String replacement = ctx.repl.getText().substring(1, ctx.repl.getText().length() - 1);
+                yield new BstProgram.MacroCommand(symbol(ctx.id.getText()), replacement);
+            }
+            case BstParser.ReadCommandContext ignored ->
+                    new BstProgram.ReadCommand();
+            case BstParser.ExecuteCommandContext ctx ->
+                    new BstProgram.ExecuteCommand(compileFunctionCall(ctx.bstFunction()));
+            case BstParser.IterateCommandContext ctx ->
+                    new BstProgram.IterateCommand(compileFunctionCall(ctx.bstFunction()));
+            case BstParser.ReverseCommandContext ctx ->
+                    new BstProgram.ReverseCommand(compileFunctionCall(ctx.bstFunction()));
+            case BstParser.EntryCommandContext ctx -> {
+                int[] fields = symbols(ctx.idListOpt(0).identifier());
+                int[] integers = symbols(ctx.idListOpt(1).identifier());
+                int[] entryStrings = symbols(ctx.idListOpt(2).identifier());
+                Arrays.stream(fields).forEach(symbol -> fieldSlots.putIfAbsent(symbol, fieldSlots.size()));
+                Arrays.stream(integers).forEach(symbol -> entryIntegerSlots.putIfAbsent(symbol, entryIntegerSlots.size()));
+                Arrays.stream(entryStrings).forEach(symbol -> entryStringSlots.putIfAbsent(symbol, entryStringSlots.size()));
+                yield new BstProgram.EntryCommand(fields, integers, entryStrings);
+            }
+            case BstParser.SortCommandContext ignored ->
+                    new BstProgram.SortCommand();
+            default ->
+                    throw new BstVMException("Unknown command " + command.getText());
+        };
+    }
+
+    private Block compileFunctionCall(BstParser.BstFunctionContext ctx) {
+        List<Integer> code = new ArrayList<>(BstProgram.INSTRUCTION_SIZE);
+        emitFunctionCall(ctx, code);
+        return toBlock(code);
+    }
+
+    private Block compileStack(BstParser.StackContext ctx) {
+        List<Integer> code = new ArrayList<>();
+        for (BstParser.StackitemContext stackitem : ctx.stackitem()) {
+            ParseTree child = stackitem.getChild(0);
+            int line = stackitem.start.getLine();
+            if (child instanceof TerminalNode token) {
+                String text = token.getText();
+                switch (token.getSymbol().getType()) {
+                    case BstParser.STRING ->
+                            emit(code, BstProgram.PUSH_STRING, string(text.substring(1, text.length() - 1)), line);
+                    case BstParser.INTEGER ->
+                            emit(code, BstProgram.PUSH_INTEGER, Integer.parseInt(text.substring(1)), line);
+                    case BstParser.QUOTED -> {
+                        int symbol = symbol(text.substring(1));
+                        quoted.computeIfAbsent(symbol, key -> new Quoted(symbols.get(key), key));
+                        emit(code, BstProgram.PUSH_QUOTED, symbol, line);
+                    }
+                    default ->
+                            throw new BstVMException("Unexpected token %s (line %d)".formatted(text, line));
+                }
+            } else if (child instanceof BstParser.StackContext nestedStack) {
+                Block block = compileStack(nestedStack);
+                blocks.add(block);
+                emit(code, BstProgram.PUSH_BLOCK, blocks.size() - 1, line);
+            } else {
+                emitFunctionCall((BstParser.BstFunctionContext) child, code);
+            }
+        }
+        return toBlock(code);
+    }
+
+    private void emitFunctionCall(BstParser.BstFunctionContext ctx, List<Integer> code) {
+        String name = ctx.getChild(0).getText();
+        int line = ctx.start.getLine();
+        if (ctx.getChild(0) instanceof TerminalNode) {
+            // Operators cannot be redefined, as FUNCTION and MACRO require an identifier
+            emit(code, BstProgram.CALL_BUILT_IN, symbol(name), line);
+        } else {
+            emit(code, BstProgram.CALL, symbol(name), line);
+        }
+    }
+
+    private static void emit(List<Integer> code, int opcode, int operand, int line) {
+        code.add(opcode);
+        code.add(operand);
+        code.add(line);
+    }
+
+    private static Block toBlock(List<Integer> code) {
+        return new Block(code.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private int symbol(String name) {
+        return symbolIndexes.computeIfAbsent(name, key -> {
+            symbols.add(key);
+            return symbols.size() - 1;
+        });
+    }
+
+    private int[] symbols(List<BstParser.IdentifierContext> identifiers) {
+        return identifiers.stream().mapToInt(identifier -> symbol(identifier.getText())).toArray();
+    }
+
+    private int string(String value) {
+        return stringIndexes.computeIfAbsent(value, key -> {
+            strings.add(key);
+            return strings.size() - 1;
+        });
+    }
+
+    private int[] slotsBySymbol(Map<Integer, Integer> slots) {
+        int[] result = new int[symbols.size()];
+        Arrays.fill(result, -1);
+        slots.forEach((symbol, slot) -> result[symbol] = slot);
+        return result;
+    }
+}
@@ -288,6 +288,10 @@ public class BstFunctions {
             throw new BstVMException("Can only add a period to a string for add.period$ (line %d)".formatted(ctx.start.getLine()));
         }
 
+        stack.push(addPeriod(s));
+    }
+
+    static String addPeriod(String s) {
         Matcher m = ADD_PERIOD_PATTERN.matcher(s);
 
         if (m.find()) {
@@ -298,9 +302,9 @@ public class BstFunctions {
             if (group2 != null) {
                 sb.append(m.group(2));
             }
-            stack.push(sb.toString());
+            return sb.toString();
         } else {
-            stack.push(s);
+            return s;
         }
     }
 
@@ -474,14 +478,18 @@ public class BstFunctions {
         if (names == null) {
             stack.push("");
         } else {
-            AuthorList a = AuthorList.parse(names);
-            if (name > a.getNumberOfAuthors()) {
-                throw new BstVMException("Author Out of Bounds. Number %d invalid for %s (line %d)".formatted(name, names, ctx.start.getLine()));
-            }
-            Author author = a.getAuthor(name - 1);
+            stack.push(formatName(format, name, names, ctx.start.getLine()));
+        }
+    }
 
-            stack.push(BstNameFormatter.formatName(author, format));
+    static String formatName(String format, int name, String names, int line) {
+        AuthorList a = AuthorList.parse(names);
+        if (name > a.getNumberOfAuthors()) {
+            throw new BstVMException("Author Out of Bounds. Number %d invalid for %s (line %d)".formatted(name, names, line));
         }
+        Author author = a.getAuthor(name - 1);
+
+        return BstNameFormatter.formatName(author, format);
     }
 
     /**
@@ -696,6 +704,10 @@ public class BstFunctions {
             throw new BstVMException("Expecting two integers and a string for substring$ (line %d)".formatted(ctx.start.getLine()));
         }
 
+        stack.push(substring(s, start, len));
+    }
+
+    static String substring(String s, int start, int len) {
         int lenI = len;
         int startI = start;
 
@@ -715,7 +727,7 @@ public class BstFunctions {
             startI += s.length() + 1;
             startI = Math.max(1, (startI + 1) - lenI);
         }
-        stack.push(s.substring(startI - 1, Math.min((startI - 1) + lenI, s.length())));
+        return s.substring(startI - 1, Math.min((startI - 1) + lenI, s.length()));
     }
 
     /**
@@ -758,6 +770,10 @@ public class BstFunctions {
             throw new BstVMException("Can only perform operation on a string text.length$ (line %d)".formatted(ctx.start.getLine()));
         }
 
+        stack.push(textLength(s));
+    }
+
+    static int textLength(String s) {
         char[] c = s.toCharArray();
         int result = 0;
         int i = 0;
@@ -790,7 +806,7 @@ public class BstFunctions {
                 result++;
             }
         }
-        stack.push(result);
+        return result;
     }
 
     /**
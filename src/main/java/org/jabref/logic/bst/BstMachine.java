@@ -0,0 +1,744 @@
+package org.jabref.logic.bst;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.logic.bst.BstProgram.Block;
+import org.jabref.logic.bst.BstProgram.BuiltIn;
+import org.jabref.logic.bst.BstProgram.Quoted;
+import org.jabref.logic.bst.util.BstCaseChanger;
+import org.jabref.logic.bst.util.BstPurifier;
+import org.jabref.logic.bst.util.BstTextPrefixer;
+import org.jabref.logic.bst.util.BstWidthCalculator;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a {@link BstProgram} for one rendering.
+ * <p>
+ * The stack is kept in two arrays: integers are stored unboxed in {@link #integers}, and their position in
+ * {@link #values} is marked by {@link #INTEGER}. All other values (strings, null for missing fields, quoted
+ * identifiers and blocks) are stored in {@link #values}.
+ * <p>
+ * The built-in functions behave as the ones of {@link BstFunctions}. Where the interpreter fails with an unchecked
+ * exception other than {@link BstVMException} (e.g., when writing an integer), a {@link BstVMException} is thrown.
+ */
+class BstMachine {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BstMachine.class);
+
+    private static final Object INTEGER = new Object();
+    private static final BuiltIn[] BUILT_INS = BuiltIn.values();
+
+    // Kinds of the targets a symbol resolves to, stored in the lowest bits of a target
+    private static final int UNDEFINED = 0;
+    private static final int FIELD = 1;
+    private static final int ENTRY_STRING = 2;
+    private static final int ENTRY_INTEGER = 3;
+    private static final int GLOBAL_STRING = 4;
+    private static final int GLOBAL_INTEGER = 5;
+    private static final int FUNCTION = 6;
+    private static final int FUNCTION_WITHOUT_ENTRY = 7;
+    private static final int KIND_BITS = 3;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+
+    private static final class Entry {
+        private final BibEntry entry;
+        private final String[] fields;
+        private final String[] strings;
+        private final int[] integers;
+        private final int typeSymbol;
+
+        private Entry(BibEntry entry, BstProgram program) {
+            this.entry = entry;
+            this.fields = new String[program.fieldNames.length];
+            this.strings = new String[program.numberOfEntryStrings];
+            this.integers = new int[program.numberOfEntryIntegers];
+            this.typeSymbol = program.symbolIndexes.getOrDefault(entry.getType().getName(), -1);
+        }
+    }
+
+    private final BstProgram program;
+    private final List<Entry> entries;
+    private final BibDatabase bibDatabase;
+    private final String preamble;
+    private final StringBuilder bbl = new StringBuilder();
+
+    // Declarations, indexed by symbol
+    private final Object[] functions;
+    private final String[] globalStrings;
+    private final int[] globalIntegers;
+    private final boolean[] globalStringDeclared;
+    private final boolean[] globalIntegerDeclared;
+
+    // Declarations, indexed by slot
+    private final boolean[] fieldDeclared;
+    private final boolean[] entryStringDeclared;
+    private final boolean[] entryIntegerDeclared;
+
+    // Targets of the symbols when called (within a function body or by a command) and when quoted (called by if$)
+    private final int[] callTargets;
+    private final int[] callTargetsWithoutEntry;
+    private final int[] quotedTargets;
+    private final int[] quotedTargetsWithoutEntry;
+
+    private Object[] values = new Object[64];
+    private int[] integers = new int[64];
+    private int size;
+
+    private Entry entry;
+    private int bstWarning = 0;
+
+    BstMachine(BstProgram program, Collection<BibEntry> bibEntries, BibDatabase bibDatabase) {
+        this.program = program;
+        this.bibDatabase = bibDatabase;
+        this.preamble = Optional.ofNullable(bibDatabase).flatMap(BibDatabase::getPreamble).orElse("");
+        this.entries = new ArrayList<>(bibEntries.size());
+        for (BibEntry bibEntry : bibEntries) {
+            entries.add(new Entry(bibEntry, program));
+        }
+
+        int numberOfSymbols = program.symbols.length;
+        this.functions = new Object[numberOfSymbols];
+        this.globalStrings = new String[numberOfSymbols];
+        this.globalIntegers = new int[numberOfSymbols];
+        this.globalStringDeclared = new boolean[numberOfSymbols];
+        this.globalIntegerDeclared = new boolean[numberOfSymbols];
+        this.fieldDeclared = new boolean[program.fieldNames.length];
+        this.entryStringDeclared = new boolean[program.numberOfEntryStrings];
+        this.entryIntegerDeclared = new boolean[program.numberOfEntryIntegers];
+        this.callTargets = new int[numberOfSymbols];
+        this.callTargetsWithoutEntry = new int[numberOfSymbols];
+        this.quotedTargets = new int[numberOfSymbols];
+        this.quotedTargetsWithoutEntry = new int[numberOfSymbols];
+
+        for (BuiltIn builtIn : BUILT_INS) {
+            functions[builtIn.ordinal()] = builtIn;
+        }
+        declareGlobalInteger(program.symbolIndexes.get(BstCompiler.ENTRY_MAX), Integer.MAX_VALUE);
+        declareGlobalInteger(program.symbolIndexes.get(BstCompiler.GLOBAL_MAX), Integer.MAX_VALUE);
+        for (int symbol = 0; symbol < numberOfSymbols; symbol++) {
+            link(symbol);
+        }
+    }
+
+    String run() {
+        try {
+            for (BstProgram.Command command : program.commands) {
+                execute(command);
+            }
+        } catch (BstVMException e) {
+            program.path.ifPresentOrElse(
+                    path -> LOGGER.error("{} ({})", e.getMessage(), path),
+                    () -> LOGGER.error(e.getMessage()));
+            throw e;
+        }
+        return bbl.toString();
+    }
+
+    /**
+     * Returns the stack in the representation of {@link BstVM#getStack()}, for testing
+     */
+    Deque<Object> getStack() {
+        Deque<Object> stack = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            Object value = values[i];
+            if (value instanceof Quoted quoted) {
+                stack.push(new BstVMVisitor.Identifier(quoted.name()));
+            } else {
+                stack.push(toLoggable(value, integers[i]));
+            }
+        }
+        return stack;
+    }
+
+    private void execute(BstProgram.Command command) {
+        switch (command) {
+            case BstProgram.StringsCommand strings -> {
+                if (strings.symbols().length > 20) {
+                    throw new BstVMException("Strings limit reached");
+                }
+                for (int symbol : strings.symbols()) {
+                    globalStringDeclared[symbol] = true;
+                    globalStrings[symbol] = null;
+                    link(symbol);
+                }
+            }
+            case BstProgram.IntegersCommand integersCommand -> {
+                for (int symbol : integersCommand.symbols()) {
+                    declareGlobalInteger(symbol, 0);
+                    link(symbol);
+                }
+            }
+            case BstProgram.FunctionCommand function -> {
+                functions[function.symbol()] = function.body();
+                link(function.symbol());
+            }
+            case BstProgram.MacroCommand macro -> {
+                functions[macro.symbol()] = macro.replacement();
+                link(macro.symbol());
+            }
+            case BstProgram.ReadCommand ignored -> read();
+            case BstProgram.ExecuteCommand execute -> {
+                entry = null;
+                execute(execute.function());
+            }
+            case BstProgram.IterateCommand iterate -> {
+                for (Entry bstEntry : entries) {
+                    entry = bstEntry;
+                    execute(iterate.function());
+                }
+            }
+            case BstProgram.ReverseCommand reverse -> {
+                for (int i = entries.size() - 1; i >= 0; i--) {
+                    entry = entries.get(i);
+                    execute(reverse.function());
+                }
+            }
+            case BstProgram.EntryCommand entryCommand -> declareEntryVariables(entryCommand);
+            case BstProgram.SortCommand ignored -> {
+                int sortKeySlot = program.entryStringSlots[program.symbolIndexes.get(BstCompiler.SORT_KEY)];
+                entries.sort(Comparator.comparing(bstEntry -> bstEntry.strings[sortKeySlot]));
+            }
+        }
+    }
+
+    private void declareGlobalInteger(int symbol, int value) {
+        globalIntegerDeclared[symbol] = true;
+        globalIntegers[symbol] = value;
+    }
+
+    private void declareEntryVariables(BstProgram.EntryCommand entryCommand) {
+        for (int symbol : entryCommand.fields()) {
+            int slot = program.fieldSlots[symbol];
+            fieldDeclared[slot] = true;
+            entries.forEach(bstEntry -> bstEntry.fields[slot] = null);
+            link(symbol);
+        }
+        for (int symbol : entryCommand.integers()) {
+            int slot = program.entryIntegerSlots[symbol];
+            entryIntegerDeclared[slot] = true;
+            entries.forEach(bstEntry -> bstEntry.integers[slot] = 0);
+            link(symbol);
+        }
+        for (int symbol : entryCommand.strings()) {
+            int slot = program.entryStringSlots[symbol];
+            entryStringDeclared[slot] = true;
+            entries.forEach(bstEntry -> bstEntry.strings[slot] = null);
+            link(symbol);
+        }
+        int sortKey = program.symbolIndexes.get(BstCompiler.SORT_KEY);
+        int sortKeySlot = program.entryStringSlots[sortKey];
+        entryStringDeclared[sortKeySlot] = true;
+        entries.forEach(bstEntry -> bstEntry.strings[sortKeySlot] = null);
+        link(sortKey);
+    }
+
+    private void read() {
+        FieldWriter fieldWriter = BstVMVisitor.createFieldWriter();
+        for (int slot = 0; slot < fieldDeclared.length; slot++) {
+            if (!fieldDeclared[slot]) {
+                continue;
+            }
+            Field field = FieldFactory.parseField(program.fieldNames[slot]);
+            for (Entry bstEntry : entries) {
+                bstEntry.fields[slot] = BstVMVisitor.readField(bstEntry.entry, field, bibDatabase, fieldWriter);
+            }
+        }
+
+        int crossref = program.symbolIndexes.get(StandardField.CROSSREF.getName());
+        fieldDeclared[program.fieldSlots[crossref]] = true;
+        link(crossref);
+    }
+
+    /**
+     * Updates the targets of the given symbol after it was declared. The order of the checks is the one of
+     * {@link BstVMVisitor#visitBstFunction} and {@link BstVMVisitor#resolveIdentifier}.
+     */
+    private void link(int symbol) {
+        int variableWithEntry = resolveVariable(symbol, true);
+        int variableWithoutEntry = resolveVariable(symbol, false);
+        if (functions[symbol] == null) {
+            callTargets[symbol] = variableWithEntry;
+            callTargetsWithoutEntry[symbol] = variableWithoutEntry;
+            quotedTargets[symbol] = variableWithEntry;
+            quotedTargetsWithoutEntry[symbol] = variableWithoutEntry;
+        } else {
+            callTargets[symbol] = target(FUNCTION, symbol);
+            callTargetsWithoutEntry[symbol] = target(FUNCTION, symbol);
+            quotedTargets[symbol] = variableWithEntry != UNDEFINED ? variableWithEntry : target(FUNCTION_WITHOUT_ENTRY, symbol);
+            quotedTargetsWithoutEntry[symbol] = variableWithoutEntry != UNDEFINED ? variableWithoutEntry : target(FUNCTION_WITHOUT_ENTRY, symbol);
+        }
+    }
+
+    private int resolveVariable(int symbol, boolean withEntry) {
+        if (withEntry) {
+            int slot = program.fieldSlots[symbol];
+            if ((slot >= 0) && fieldDeclared[slot]) {
+                return target(FIELD, slot);
+            }
+            slot = program.entryStringSlots[symbol];
+            if ((slot >= 0) && entryStringDeclared[slot]) {
+                return target(ENTRY_STRING, slot);
+            }
+            slot = program.entryIntegerSlots[symbol];
+            if ((slot >= 0) && entryIntegerDeclared[slot]) {
+                return target(ENTRY_INTEGER, slot);
+            }
+        }
+        if (globalStringDeclared[symbol]) {
+            return target(GLOBAL_STRING, symbol);
+        }
+        if (globalIntegerDeclared[symbol]) {
+            return target(GLOBAL_INTEGER, symbol);
+        }
+        return UNDEFINED;
+    }
+
+    private static int target(int kind, int slot) {
+        return (slot << KIND_BITS) | kind;
+    }
+
+    private void execute(Block block) {
+        int[] code = block.code;
+        for (int i = 0; i < code.length; i += BstProgram.INSTRUCTION_SIZE) {
+            int operand = code[i + 1];
+            switch (code[i]) {
+                case BstProgram.PUSH_INTEGER -> pushInteger(operand);
+                case BstProgram.PUSH_STRING -> push(program.strings[operand]);
+                case BstProgram.PUSH_QUOTED -> push(program.quoted[operand]);
+                case BstProgram.PUSH_BLOCK -> push(program.blocks[operand]);
+                case BstProgram.CALL -> call(entry == null ? callTargetsWithoutEntry[operand] : callTargets[operand], operand, code[i + 2]);
+                case BstProgram.CALL_BUILT_IN -> execute(BUILT_INS[operand], entry, code[i + 2]);
+                default -> throw new IllegalStateException("Unknown opcode " + code[i]);
+            }
+        }
+    }
+
+    private void call(int target, int symbol, int line) {
+        int slot = target >>> KIND_BITS;
+        switch (target & KIND_MASK) {
+            case FIELD -> push(entry.fields[slot]);
+            case ENTRY_STRING -> push(entry.strings[slot]);
+            case ENTRY_INTEGER -> pushInteger(entry.integers[slot]);
+            case GLOBAL_STRING -> push(globalStrings[slot]);
+            case GLOBAL_INTEGER -> pushInteger(globalIntegers[slot]);
+            case FUNCTION -> invoke(slot, entry, line);
+            case FUNCTION_WITHOUT_ENTRY -> invoke(slot, null, line);
+            default -> throw new BstVMException("No matching identifier found: " + program.symbols[symbol]);
+        }
+    }
+
+    /**
+     * @param bstEntry the entry passed to built-in functions. User defined functions always use the selected entry.
+     */
+    private void invoke(int symbol, Entry bstEntry, int line) {
+        Object function = functions[symbol];
+        if (function instanceof BuiltIn builtIn) {
+            execute(builtIn, bstEntry, line);
+        } else if (function instanceof Block body) {
+            execute(body);
+        } else {
+            // Macro
+            push(function);
+        }
+    }
+
+    /**
+     * Executes a function literal popped by if$: a block is executed, a quoted identifier is resolved, and any other
+     * value is pushed back.
+     */
+    private void callLiteral(Object function, int integer, int line) {
+        if (function instanceof Block block) {
+            execute(block);
+        } else if (function instanceof Quoted quoted) {
+            int symbol = quoted.symbol();
+            call(entry == null ? quotedTargetsWithoutEntry[symbol] : quotedTargets[symbol], symbol, line);
+        } else if (function == INTEGER) {
+            pushInteger(integer);
+        } else {
+            push(function);
+        }
+    }
+
+    private void push(Object value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            integers = Arrays.copyOf(integers, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    private void pushInteger(int value) {
+        push(INTEGER);
+        integers[size - 1] = value;
+    }
+
+    private void pushBoolean(boolean value) {
+        pushInteger(value ? 1 : 0);
+    }
+
+    private void requireOperands(int count, BuiltIn builtIn, int line) {
+        if (size < count) {
+            throw new BstVMException("Not enough operands on stack for operation %s (line %d)".formatted(builtIn.getName(), line));
+        }
+    }
+
+    private static boolean isFunctionLiteral(Object value) {
+        return (value instanceof Quoted) || (value instanceof Block);
+    }
+
+    private static Object toLoggable(Object value, int integer) {
+        return value == INTEGER ? Integer.valueOf(integer) : value;
+    }
+
+    /**
+     * Executes a built-in function. The indexes {@code size}, {@code size - 1}, ... refer to the operands after they
+     * are popped.
+     *
+     * @param bstEntry the entry used by call.type$, cite$, type$ and :=, null if called without entry
+     */
+    private void execute(BuiltIn builtIn, Entry bstEntry, int line) {
+        switch (builtIn) {
+            case GREATER_THAN, LOWER_THAN, ADD, SUBTRACT -> {
+                requireOperands(2, builtIn, line);
+                size -= 2;
+                if ((values[size] != INTEGER) || (values[size + 1] != INTEGER)) {
+                    throw new BstVMException("Can only use two integers with %s (line %d)".formatted(builtIn.getName(), line));
+                }
+                int o1 = integers[size];
+                int o2 = integers[size + 1];
+                switch (builtIn) {
+                    case GREATER_THAN -> pushBoolean(o1 > o2);
+                    case LOWER_THAN -> pushBoolean(o1 < o2);
+                    case ADD -> pushInteger(o1 + o2);
+                    default -> pushInteger(o1 - o2);
+                }
+            }
+            case EQUALS -> {
+                requireOperands(2, builtIn, line);
+                size -= 2;
+                Object o1 = values[size + 1];
+                Object o2 = values[size];
+                if ((o1 == INTEGER) || (o2 == INTEGER)) {
+                    pushBoolean((o1 == o2) && (integers[size] == integers[size + 1]));
+                } else if ((o1 == null) || (o2 == null)) {
+                    pushBoolean(o1 == o2);
+                } else {
+                    pushBoolean(o1.equals(o2));
+                }
+            }
+            case CONCAT -> {
+                requireOperands(2, builtIn, line);
+                size -= 2;
+                Object o1 = values[size] == null ? "" : values[size];
+                Object o2 = values[size + 1] == null ? "" : values[size + 1];
+                if (!((o1 instanceof String s1) && (o2 instanceof String s2))) {
+                    throw new BstVMException("Can only concatenate two String with * (line %d)".formatted(line));
+                }
+                push(s1.concat(s2));
+            }
+            case ASSIGN -> assign(bstEntry, line);
+            case ADD_PERIOD -> {
+                requireOperands(1, builtIn, line);
+                if (!(values[--size] instanceof String s)) {
+                    throw new BstVMException("Can only add a period to a string for add.period$ (line %d)".formatted(line));
+                }
+                push(BstFunctions.addPeriod(s));
+            }
+            case CALL_TYPE -> {
+                if (bstEntry == null) {
+                    throw new BstVMException("Call.type$ can only be called from within a context (ITERATE or REVERSE). (line %d)".formatted(line));
+                }
+                if ((bstEntry.typeSymbol < 0) || (functions[bstEntry.typeSymbol] == null)) {
+                    throw new BstVMException("No function for entry type %s (line %d)".formatted(bstEntry.entry.getType().getName(), line));
+                }
+                invoke(bstEntry.typeSymbol, bstEntry, line);
+            }
+            case CHANGE_CASE -> {
+                requireOperands(2, builtIn, line);
+                if (!((values[--size] instanceof String format) && (format.length() == 1))) {
+                    throw new BstVMException("A format string of length 1 is needed for change.case$ (line %d)".formatted(line));
+                }
+                if (!(values[--size] instanceof String toChange)) {
+                    throw new BstVMException("A string is needed as second parameter for change.case$ (line %d)".formatted(line));
+                }
+                push(BstCaseChanger.changeCase(toChange, BstCaseChanger.FormatMode.of(format)));
+            }
+            case CHR_TO_INT -> {
+                requireOperands(1, builtIn, line);
+                if (!((values[--size] instanceof String s) && (s.length() == 1))) {
+                    throw new BstVMException("Can only perform chr.to.int$ on string with length 1 (line %d)".formatted(line));
+                }
+                pushInteger(s.charAt(0));
+            }
+            case CITE -> {
+                if (bstEntry == null) {
+                    throw new BstVMException("Must have an entry to cite$ (line %d)".formatted(line));
+                }
+                push(bstEntry.entry.getCitationKey().orElse(null));
+            }
+            case DUPLICATE -> {
+                requireOperands(1, builtIn, line);
+                push(values[size - 1]);
+                integers[size - 1] = integers[size - 2];
+            }
+            case EMPTY -> {
+                requireOperands(1, builtIn, line);
+                Object o1 = values[--size];
+                if (o1 == null) {
+                    pushBoolean(true);
+                } else if (o1 instanceof String s) {
+                    pushBoolean(s.trim().isEmpty());
+                } else {
+                    throw new BstVMException("Operand does not match function empty$ (line %d)".formatted(line));
+                }
+            }
+            case FORMAT_NAME -> formatName(line);
+            case IF -> {
+                requireOperands(3, builtIn, line);
+                size -= 3;
+                Object f1 = values[size + 2];
+                Object f2 = values[size + 1];
+                Object i = values[size];
+                if (!isFunctionLiteral(f1) && isFunctionLiteral(f2) && (i == INTEGER)) {
+                    throw new BstVMException("Expecting two functions and an integer for if$ (line %d)".formatted(line));
+                }
+                if (i != INTEGER) {
+                    throw new BstVMException("Expecting an integer as condition for if$ (line %d)".formatted(line));
+                }
+                if (integers[size] > 0) {
+                    callLiteral(f2, integers[size + 1], line);
+                } else {
+                    callLiteral(f1, integers[size + 2], line);
+                }
+            }
+            case INT_TO_CHR -> {
+                requireOperands(1, builtIn, line);
+                if (values[--size] != INTEGER) {
+                    throw new BstVMException("Can only perform operation int.to.chr$ on an Integer (line %d)".formatted(line));
+                }
+                push(String.valueOf((char) integers[size]));
+            }
+            case INT_TO_STR -> {
+                requireOperands(1, builtIn, line);
+                if (values[--size] != INTEGER) {
+                    throw new BstVMException("Can only transform an integer to an string using int.to.str$ (line %d)".formatted(line));
+                }
+                push(Integer.toString(integers[size]));
+            }
+            case MISSING -> {
+                requireOperands(1, builtIn, line);
+                Object o1 = values[--size];
+                if ((o1 != null) && !(o1 instanceof String)) {
+                    LOGGER.warn("Not a string or missing field in operation missing$ (line {})", line);
+                }
+                pushBoolean(!(o1 instanceof String));
+            }
+            case NEWLINE -> bbl.append('\n');
+            case NUM_NAMES -> {
+                requireOperands(1, builtIn, line);
+                if (!(values[--size] instanceof String s)) {
+                    throw new BstVMException("Need a string at the top of the stack for num.names$ (line %d)".formatted(line));
+                }
+                pushInteger(AuthorList.parse(s).getNumberOfAuthors());
+            }
+            case POP -> {
+                requireOperands(1, builtIn, line);
+                size--;
+            }
+            case PREAMBLE -> push(preamble);
+            case PURIFY -> {
+                requireOperands(1, builtIn, line);
+                if (values[--size] instanceof String s) {
+                    push(BstPurifier.purify(s));
+                } else {
+                    LOGGER.warn("A string is needed for purify$");
+                    push("");
+                }
+            }
+            case QUOTE -> push("\"");
+            case SKIP -> {
+                // no-op
+            }
+            case STACK -> {
+                while (size > 0) {
+                    size--;
+                    LOGGER.debug("Stack entry {}", toLoggable(values[size], integers[size]));
+                }
+            }
+            case SUBSTRING -> {
+                requireOperands(3, builtIn, line);
+                size -= 3;
+                if (!((values[size + 2] == INTEGER) && (values[size + 1] == INTEGER) && (values[size] instanceof String s))) {
+                    throw new BstVMException("Expecting two integers and a string for substring$ (line %d)".formatted(line));
+                }
+                push(BstFunctions.substring(s, integers[size + 1], integers[size + 2]));
+            }
+            case SWAP -> {
+                requireOperands(2, builtIn, line);
+                Object value = values[size - 1];
+                int integer = integers[size - 1];
+                values[size - 1] = values[size - 2];
+                integers[size - 1] = integers[size - 2];
+                values[size - 2] = value;
+                integers[size - 2] = integer;
+            }
+            case TEXT_LENGTH -> {
+                requireOperands(1, builtIn, line);
+                if (!(values[--size] instanceof String s)) {
+                    throw new BstVMException("Can only perform operation on a string text.length$ (line %d)".formatted(line));
+                }
+                pushInteger(BstFunctions.textLength(s));
+            }
+            case TEXT_PREFIX -> {
+                requireOperands(2, builtIn, line);
+                if (values[--size] != INTEGER) {
+                    LOGGER.warn("An integer is needed as first parameter to text.prefix$ (line {})", line);
+                    push("");
+                    return;
+                }
+                int length = integers[size];
+                if (!(values[--size] instanceof String s)) {
+                    LOGGER.warn("A string is needed as second parameter to text.prefix$ (line {})", line);
+                    push("");
+                    return;
+                }
+                push(BstTextPrefixer.textPrefix(length, s));
+            }
+            case TOP -> {
+                requireOperands(1, builtIn, line);
+                size--;
+                LOGGER.debug("Stack entry {} (line {})", toLoggable(values[size], integers[size]), line);
+            }
+            case TYPE -> {
+                if (bstEntry == null) {
+                    throw new BstVMException("type$ need a context (line %d)".formatted(line));
+                }
+                push(bstEntry.entry.getType().getName());
+            }
+            case WARNING -> {
+                requireOperands(1, builtIn, line);
+                size--;
+                LOGGER.warn("Warning (#{}): {}", bstWarning++, toLoggable(values[size], integers[size]));
+            }
+            case WHILE -> bstWhile(line);
+            case WIDTH -> {
+                requireOperands(1, builtIn, line);
+                if (values[--size] instanceof String s) {
+                    pushInteger(BstWidthCalculator.width(s));
+                } else {
+                    LOGGER.warn("A string is needed for width$");
+                    pushInteger(0);
+                }
+            }
+            case WRITE -> {
+                requireOperands(1, builtIn, line);
+                Object o1 = values[--size];
+                if ((o1 != null) && !(o1 instanceof String)) {
+                    throw new BstVMException("Can only write a string with write$ (line %d)".formatted(line));
+                }
+                bbl.append((String) o1);
+            }
+        }
+    }
+
+    private void assign(Entry bstEntry, int line) {
+        requireOperands(2, BuiltIn.ASSIGN, line);
+        size -= 2;
+        if (!(values[size + 1] instanceof Quoted quoted)) {
+            throw new BstVMException("Invalid parameters (line %d)".formatted(line));
+        }
+        int symbol = quoted.symbol();
+        Object value = values[size];
+
+        if (value instanceof String string) {
+            int slot = program.entryStringSlots[symbol];
+            if ((bstEntry != null) && (slot >= 0) && entryStringDeclared[slot]) {
+                bstEntry.strings[slot] = string;
+            } else if (globalStringDeclared[symbol]) {
+                globalStrings[symbol] = string;
+            }
+        } else if (value == INTEGER) {
+            int slot = program.entryIntegerSlots[symbol];
+            if ((bstEntry != null) && (slot >= 0) && entryIntegerDeclared[slot]) {
+                bstEntry.integers[slot] = integers[size];
+            } else if (globalIntegerDeclared[symbol]) {
+                globalIntegers[symbol] = integers[size];
+            }
+        } else {
+            throw new BstVMException("Invalid parameters (line %d)".formatted(line));
+        }
+    }
+
+    private void formatName(int line) {
+        requireOperands(3, BuiltIn.FORMAT_NAME, line);
+        size -= 3;
+        Object format = values[size + 2];
+        Object name = values[size + 1];
+        Object names = values[size];
+
+        if (!(format instanceof String) && (name != INTEGER) && !(names instanceof String)) {
+            push("");
+            return;
+        }
+        if (!((format == null) || (format instanceof String))
+                || !((name == null) || (name == INTEGER))
+                || !((names == null) || (names instanceof String))) {
+            throw new BstVMException("Expecting a string, an integer and a string for format.name$ (line %d)".formatted(line));
+        }
+
+        if (names == null) {
+            push("");
+        } else if (name == null) {
+            throw new BstVMException("Expecting an integer for format.name$ (line %d)".formatted(line));
+        } else {
+            push(BstFunctions.formatName((String) format, integers[size + 1], (String) names, line));
+        }
+    }
+
+    private void bstWhile(int line) {
+        requireOperands(2, BuiltIn.WHILE, line);
+        size -= 2;
+        Object f1 = values[size];
+        Object f2 = values[size + 1];
+
+        if (!isFunctionLiteral(f1) && isFunctionLiteral(f2)) {
+            throw new BstVMException("Expecting two functions for while$ (line %d)".formatted(line));
+        }
+        if (!(f1 instanceof Block condition)) {
+            throw new BstVMException("Expecting a block as condition for while$ (line %d)".formatted(line));
+        }
+
+        do {
+            execute(condition);
+
+            requireOperands(1, BuiltIn.WHILE, line);
+            size--;
+            if (values[size] != INTEGER) {
+                throw new BstVMException("First parameter to while has to return an integer but was %s (line %d)"
+                        .formatted(values[size], line));
+            }
+            if (integers[size] <= 0) {
+                break;
+            }
+            if (!(f2 instanceof Block body)) {
+                throw new BstVMException("Expecting a block as body for while$ (line %d)".formatted(line));
+            }
+            execute(body);
+        } while (true);
+    }
+}
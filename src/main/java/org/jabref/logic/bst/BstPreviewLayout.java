@@ -3,6 +3,7 @@ package org.jabref.logic.bst;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import org.jabref.logic.cleanup.ConvertToBibtexCleanup;
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
@@ -13,7 +14,12 @@ import org.jabref.logic.layout.format.RemoveTilde;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.types.EntryType;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,9 +27,21 @@ public class BstPreviewLayout implements PreviewLayout {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BstPreviewLayout.class);
 
+    private static final int CACHE_SIZE = 1024;
+
     private final String name;
 
-    private BstVM bstVM;
+    /**
+     * The previews by the content of the entries. A changed entry gets a new key, and previews no longer needed are
+     * evicted as the least recently used ones.
+     * <p>
+     * The key does not contain the library: the preview is rendered without it, thus crossref fields and @String
+     * references are not resolved and the preview only depends on the entry. Rendering with the library requires
+     * a key that covers the referenced strings and crossref entries as well.
+     */
+    private final Cache<EntryContent, String> previewCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).recordStats().build();
+
+    private BstProgram bstProgram;
     private String error;
 
     public BstPreviewLayout(Path path) {
@@ -34,22 +52,39 @@ public class BstPreviewLayout implements PreviewLayout {
             return;
         }
         try {
-            bstVM = new BstVM(path);
+            bstProgram = new BstVM(path).compile();
         } catch (Exception e) {
             LOGGER.error("Could not read {}.", path.toAbsolutePath(), e);
             error = Localization.lang("Error opening file '%0'", path.toString());
         }
     }
 
+    private record EntryContent(EntryType type, Map<Field, String> fields) {
+    }
+
     @Override
     public String generatePreview(BibEntry originalEntry, BibDatabaseContext databaseContext) {
         if (error != null) {
             return error;
         }
+        EntryContent content = new EntryContent(originalEntry.getType(), Map.copyOf(originalEntry.getFieldMap()));
+        String preview = previewCache.getIfPresent(content);
+        if (preview == null) {
+            preview = render(originalEntry);
+            previewCache.put(content, preview);
+        }
+        return preview;
+    }
+
+    CacheStats getCacheStats() {
+        return previewCache.stats();
+    }
+
+    private String render(BibEntry originalEntry) {
         // ensure that the entry is of BibTeX format (and do not modify the original entry)
         BibEntry entry = (BibEntry) originalEntry.clone();
         new ConvertToBibtexCleanup().cleanup(entry);
-        String result = bstVM.render(List.of(entry));
+        String result = bstProgram.render(List.of(entry));
         // Remove all comments
         result = result.replaceAll("%.*", "");
         // Remove all LaTeX comments
@@ -0,0 +1,190 @@
+package org.jabref.logic.bst;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * A bst program compiled by {@link BstVM#compile()}.
+ * <p>
+ * The function bodies are lowered to flat instruction arrays, in which each identifier is replaced by its index in
+ * the symbol table of the program. When a declaring command (e.g., STRINGS, FUNCTION or ENTRY) is executed, the
+ * affected symbols are resolved to the slots of the built-in function, user defined function, macro, global variable
+ * or entry variable they refer to. Thus, rendering does not look up names, but still follows the resolution rules of
+ * {@link BstVMVisitor}: the output is the same as the one of {@link BstVM#render(Collection, BibDatabase)}.
+ * <p>
+ * The program is immutable and can be rendered several times, also concurrently. The state of a rendering is kept
+ * by a {@link BstMachine}.
+ */
+public final class BstProgram {
+
+    static final int PUSH_INTEGER = 0;
+    static final int PUSH_STRING = 1;
+    static final int PUSH_QUOTED = 2;
+    static final int PUSH_BLOCK = 3;
+    static final int CALL = 4;
+    static final int CALL_BUILT_IN = 5;
+
+    /**
+     * The size of an instruction in {@link Block#code}: opcode, operand, and line in the bst file
+     */
+    static final int INSTRUCTION_SIZE = 3;
+
+    enum BuiltIn {
+        GREATER_THAN(">"),
+        LOWER_THAN("<"),
+        EQUALS("="),
+        ADD("+"),
+        SUBTRACT("-"),
+        CONCAT("*"),
+        ASSIGN(":="),
+        ADD_PERIOD("add.period$"),
+        CALL_TYPE("call.type$"),
+        CHANGE_CASE("change.case$"),
+        CHR_TO_INT("chr.to.int$"),
+        CITE("cite$"),
+        DUPLICATE("duplicate$"),
+        EMPTY("empty$"),
+        FORMAT_NAME("format.name$"),
+        IF("if$"),
+        INT_TO_CHR("int.to.chr$"),
+        INT_TO_STR("int.to.str$"),
+        MISSING("missing$"),
+        NEWLINE("newline$"),
+        NUM_NAMES("num.names$"),
+        POP("pop$"),
+        PREAMBLE("preamble$"),
+        PURIFY("purify$"),
+        QUOTE("quote$"),
+        SKIP("skip$"),
+        STACK("stack$"),
+        SUBSTRING("substring$"),
+        SWAP("swap$"),
+        TEXT_LENGTH("text.length$"),
+        TEXT_PREFIX("text.prefix$"),
+        TOP("top$"),
+        TYPE("type$"),
+        WARNING("warning$"),
+        WHILE("while$"),
+        WIDTH("width$"),
+        WRITE("write$");
+
+        private final String name;
+
+        BuiltIn(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * A function body or a block pushed onto the stack. Blocks are compared by identity, as the parse trees pushed by
+     * the interpreter.
+     */
+    static final class Block {
+        final int[] code;
+
+        Block(int[] code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * A quoted identifier pushed onto the stack. There is one instance per name.
+     */
+    record Quoted(String name, int symbol) {
+    }
+
+    sealed interface Command {
+    }
+
+    record StringsCommand(int[] symbols) implements Command {
+    }
+
+    record IntegersCommand(int[] symbols) implements Command {
+    }
+
+    record FunctionCommand(int symbol, Block body) implements Command {
+    }
+
+    record MacroCommand(int symbol, String replacement) implements Command {
+    }
+
+    record ReadCommand() implements Command {
+    }
+
+    record ExecuteCommand(Block function) implements Command {
+    }
+
+    record IterateCommand(Block function) implements Command {
+    }
+
+    record ReverseCommand(Block function) implements Command {
+    }
+
+    record EntryCommand(int[] fields, int[] integers, int[] strings) implements Command {
+    }
+
+    record SortCommand() implements Command {
+    }
+
+    final List<Command> commands;
+    final String[] symbols;
+    final Map<String, Integer> symbolIndexes;
+    final String[] strings;
+    final Quoted[] quoted;
+    final Block[] blocks;
+
+    // Slots of the entry variables, indexed by symbol (-1 if the symbol is not declared as such a variable)
+    final int[] fieldSlots;
+    final int[] entryIntegerSlots;
+    final int[] entryStringSlots;
+    final String[] fieldNames;
+    final int numberOfEntryIntegers;
+    final int numberOfEntryStrings;
+
+    final Optional<Path> path;
+
+    BstProgram(List<Command> commands, String[] symbols, Map<String, Integer> symbolIndexes, String[] strings, Quoted[] quoted, Block[] blocks,
+               int[] fieldSlots, int[] entryIntegerSlots, int[] entryStringSlots, String[] fieldNames, int numberOfEntryIntegers, int numberOfEntryStrings,
+               Path path) {
+        this.commands = commands;
+        this.symbols = symbols;
+        this.symbolIndexes = symbolIndexes;
+        this.strings = strings;
+        this.quoted = quoted;
+        this.blocks = blocks;
+        this.fieldSlots = fieldSlots;
+        this.entryIntegerSlots = entryIntegerSlots;
+        this.entryStringSlots = entryStringSlots;
+        this.fieldNames = fieldNames;
+        this.numberOfEntryIntegers = numberOfEntryIntegers;
+        this.numberOfEntryStrings = numberOfEntryStrings;
+        this.path = Optional.ofNullable(path);
+    }
+
+    /**
+     * Transforms the given list of BibEntries to a rendered list of references using the compiled bst program
+     *
+     * @param bibEntries  list of entries to convert
+     * @param bibDatabase (may be null) the bibDatabase used for resolving strings / crossref
+     * @return list of references in plain text form
+     */
+    public String render(Collection<BibEntry> bibEntries, BibDatabase bibDatabase) {
+        Objects.requireNonNull(bibEntries);
+        return new BstMachine(this, bibEntries, bibDatabase).run();
+    }
+
+    public String render(Collection<BibEntry> bibEntries) {
+        return render(bibEntries, null);
+    }
+}
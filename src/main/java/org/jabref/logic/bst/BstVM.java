@@ -61,6 +61,9 @@ public class BstVM {
 
     /**
      * Transforms the given list of BibEntries to a rendered list of references using the parsed bst program
+     * <p>
+     * The program is interpreted, which keeps the state of the rendering (see {@link #getStack()}) for inspection.
+     * Use {@link #compile()} to render many entries or to render repeatedly.
      *
      * @param bibEntries  list of entries to convert
      * @param bibDatabase (may be null) the bibDatabase used for resolving strings / crossref
@@ -93,6 +96,14 @@ public class BstVM {
         return render(bibEntries, null);
     }
 
+    /**
+     * Compiles the parsed bst program. The compiled program renders the same output as {@link #render(Collection, BibDatabase)},
+     * but considerably faster, and is thus preferred for rendering many entries or rendering repeatedly.
+     */
+    public BstProgram compile() {
+        return new BstCompiler().compile(tree, path);
+    }
+
     protected Deque<Object> getStack() {
         if (latestContext != null) {
             return latestContext.stack();
@@ -9,6 +9,8 @@ import java.util.Map;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Month;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
@@ -73,34 +75,11 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitReadCommand(BstParser.ReadCommandContext ctx) {
-        FieldWriter fieldWriter = new FieldWriter(new FieldPreferences(true, List.of(StandardField.MONTH), Collections.emptyList()));
+        FieldWriter fieldWriter = createFieldWriter();
         for (BstEntry e : bstVMContext.entries()) {
             for (Map.Entry<String, String> mEntry : e.fields.entrySet()) {
                 Field field = FieldFactory.parseField(mEntry.getKey());
-                String fieldValue = e.entry.getResolvedFieldOrAlias(field, bstVMContext.bibDatabase())
-                                           .map(content -> {
-                                               try {
-                                                   String result = fieldWriter.write(field, content);
-                                                   if (result.startsWith("{")) {
-                                                       // Strip enclosing {} from the output
-                                                       return result.substring(1, result.length() - 1);
-                                                   }
-                                                   if (field == StandardField.MONTH) {
-                                                       // We don't have the internal BibTeX strings at hand.
-                                                       // Thus, we look up the full month name in the generic table.
-                                                       return Month.parse(result)
-                                                                   .map(Month::getFullName)
-                                                                   .orElse(result);
-                                                   }
-                                                   return result;
-                                               } catch (
-                                                       InvalidFieldValueException invalidFieldValueException) {
-                                                   // in case there is something wrong with the content, just return the content itself
-                                                   return content;
-                                               }
-                                           })
-                                           .orElse(null);
-                mEntry.setValue(fieldValue);
+                mEntry.setValue(readField(e.entry, field, bstVMContext.bibDatabase(), fieldWriter));
             }
         }
 
@@ -113,6 +92,39 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         return BstVM.TRUE;
     }
 
+    static FieldWriter createFieldWriter() {
+        return new FieldWriter(new FieldPreferences(true, List.of(StandardField.MONTH), Collections.emptyList()));
+    }
+
+    /**
+     * Returns the value of the given field as seen by the bst program, or null if the entry does not have the field
+     */
+    static String readField(BibEntry entry, Field field, BibDatabase bibDatabase, FieldWriter fieldWriter) {
+        return entry.getResolvedFieldOrAlias(field, bibDatabase)
+                    .map(content -> {
+                        try {
+                            String result = fieldWriter.write(field, content);
+                            if (result.startsWith("{")) {
+                                // Strip enclosing {} from the output
+                                return result.substring(1, result.length() - 1);
+                            }
+                            if (field == StandardField.MONTH) {
+                                // We don't have the internal BibTeX strings at hand.
+                                // Thus, we look up the full month name in the generic table.
+                                return Month.parse(result)
+                                            .map(Month::getFullName)
+                                            .orElse(result);
+                            }
+                            return result;
+                        } catch (
+                                InvalidFieldValueException invalidFieldValueException) {
+                            // in case there is something wrong with the content, just return the content itself
+                            return content;
+                        }
+                    })
+                    .orElse(null);
+    }
+
     @Override
     public Integer visitExecuteCommand(BstParser.ExecuteCommandContext ctx) {
         this.selectedBstEntry = null;
@@ -4,6 +4,7 @@ import java.util.Objects;
 
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
@@ -62,6 +63,14 @@ public class CitationStyleCache {
             citationStyleCache.invalidate(entryChangedEvent.getBibEntry());
         }
 
+        /**
+         * removes the outdated citations of the entries changed by a batch change
+         */
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            citationStyleCache.invalidateAll(entriesChangedEvent.getBibEntries());
+        }
+
         /**
          * removes the citation of the removed entries as they are not needed anymore
          */
@@ -0,0 +1,151 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Keeps track of the crawling state of a study for each pair of query and fetcher.
+ * <p>
+ * For each pair, the hash of the last persisted fetch result, the last page fetched, and the time of the fetch are
+ * stored. This allows to skip persisting results that did not change since the last crawl, and to resume a crawl that
+ * failed before all results were persisted: pairs persisted after the start of an unfinished crawl are not fetched
+ * again. The last page is recorded only: a crawl still fetches all pages, since the result hash covers the complete
+ * result.
+ * <p>
+ * The checkpoints are stored in {@value #FILE_NAME} in the root of the study repository. The file is local state of
+ * the crawler and is ignored by git.
+ */
+class CrawlCheckpoints {
+    public static final String FILE_NAME = ".crawl-checkpoints.yml";
+
+    record CrawlCheckpoint(String resultHash, int lastPage, LocalDateTime crawledAt) {
+    }
+
+    private record State(LocalDateTime unfinishedCrawlStartedAt, Map<String, Map<String, CrawlCheckpoint>> checkpoints) {
+    }
+
+    private final Path file;
+    private final Map<String, Map<String, CrawlCheckpoint>> checkpoints;
+    private LocalDateTime unfinishedCrawlStartedAt;
+
+    private CrawlCheckpoints(Path file, State state) {
+        this.file = file;
+        this.unfinishedCrawlStartedAt = state.unfinishedCrawlStartedAt();
+        this.checkpoints = new TreeMap<>();
+        if (state.checkpoints() != null) {
+            state.checkpoints().forEach((query, checkpointsPerFetcher) -> checkpoints.put(query, new TreeMap<>(checkpointsPerFetcher)));
+        }
+    }
+
+    /**
+     * Loads the checkpoints stored in the given study repository. If there are none, no pair has a checkpoint.
+     */
+    public static CrawlCheckpoints load(Path repositoryPath) throws IOException {
+        Path file = repositoryPath.resolve(FILE_NAME);
+        if (Files.notExists(file) || Files.size(file) == 0) {
+            return new CrawlCheckpoints(file, new State(null, null));
+        }
+        return new CrawlCheckpoints(file, createYamlMapper().readValue(file.toFile(), State.class));
+    }
+
+    private static ObjectMapper createYamlMapper() {
+        return new ObjectMapper(new YAMLFactory().disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
+                                                 .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES))
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    public synchronized void save() throws IOException {
+        createYamlMapper().writeValue(file.toFile(), new State(unfinishedCrawlStartedAt, checkpoints));
+    }
+
+    /**
+     * Marks the start of a crawl. If the previous crawl did not finish, its start is kept, so that the pairs persisted
+     * since then are skipped.
+     */
+    public synchronized void startCrawl() throws IOException {
+        if (unfinishedCrawlStartedAt == null) {
+            unfinishedCrawlStartedAt = now();
+            save();
+        }
+    }
+
+    /**
+     * Marks that all results of the current crawl are persisted.
+     */
+    public synchronized void finishCrawl() throws IOException {
+        unfinishedCrawlStartedAt = null;
+        save();
+    }
+
+    public synchronized Optional<CrawlCheckpoint> getCheckpoint(String query, String fetcherName) {
+        return Optional.ofNullable(checkpoints.getOrDefault(query, Map.of()).get(fetcherName));
+    }
+
+    /**
+     * Returns true if the results of the given pair were already persisted by a crawl that did not finish.
+     */
+    public synchronized boolean isPersistedByUnfinishedCrawl(String query, String fetcherName) {
+        return unfinishedCrawlStartedAt != null
+                && getCheckpoint(query, fetcherName).map(checkpoint -> checkpoint.crawledAt().isAfter(unfinishedCrawlStartedAt))
+                                                    .orElse(false);
+    }
+
+    /**
+     * Returns true if the given fetch result equals the last persisted result of the pair.
+     */
+    public synchronized boolean isUnchanged(String query, String fetcherName, String resultHash) {
+        return getCheckpoint(query, fetcherName).map(checkpoint -> checkpoint.resultHash().equals(resultHash))
+                                                .orElse(false);
+    }
+
+    public synchronized void update(String query, String fetcherName, String resultHash, int lastPage) {
+        checkpoints.computeIfAbsent(query, key -> new TreeMap<>())
+                   .put(fetcherName, new CrawlCheckpoint(resultHash, lastPage, now()));
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Computes a hash of the given entries that is independent of their order and of their internal ids.
+     * It has to be computed before citation keys are generated for the entries.
+     */
+    public static String computeResultHash(BibDatabase entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            List<String> canonicalEntries = entries.getEntries().stream()
+                                                   .map(BibEntry::toString)
+                                                   .sorted()
+                                                   .toList();
+            for (String canonicalEntry : canonicalEntries) {
+                digest.update(canonicalEntry.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
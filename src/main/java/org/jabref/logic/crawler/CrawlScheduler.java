@@ -0,0 +1,187 @@
+package org.jabref.logic.crawler;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Executes the requests of a crawl on a dedicated thread pool.
+ * <p>
+ * At most {@code maxConcurrentRequests} requests run at the same time, and at most
+ * {@code maxConcurrentRequestsPerFetcher} of them are sent to the same fetcher, so that a single library is not flooded
+ * with requests. Requests exceeding the limit of their fetcher wait in a queue of the fetcher and do not occupy a
+ * thread. After each request, the progress of its fetcher is reported.
+ */
+class CrawlScheduler implements AutoCloseable {
+
+    @FunctionalInterface
+    interface SearchRequest {
+        Collection<BibEntry> perform() throws FetcherException;
+    }
+
+    private static final class FetcherQueue {
+        private final String fetcherName;
+        private final Queue<ScheduledRequest> pendingRequests = new ArrayDeque<>();
+        private int runningRequests;
+        private int completedRequests;
+        private int failedRequests;
+        private int fetchedEntries;
+        private long firstRequestStartTime;
+
+        private FetcherQueue(String fetcherName) {
+            this.fetcherName = fetcherName;
+        }
+    }
+
+    private record ScheduledRequest(FetcherQueue queue, SearchRequest request, CompletableFuture<Collection<BibEntry>> future) {
+    }
+
+    private final ExecutorService executor;
+    private final int maxConcurrentRequestsPerFetcher;
+    private final Consumer<FetcherProgress> progressListener;
+    private final Map<String, FetcherQueue> queues = new HashMap<>();
+    // Requests that were not started yet, either waiting in the queue of their fetcher or for a thread of the executor
+    private final Set<ScheduledRequest> notStartedRequests = new HashSet<>();
+    private boolean cancelled;
+
+    CrawlScheduler(int maxConcurrentRequests, int maxConcurrentRequestsPerFetcher, Consumer<FetcherProgress> progressListener) {
+        if (maxConcurrentRequests < 1 || maxConcurrentRequestsPerFetcher < 1) {
+            throw new IllegalArgumentException("At least one concurrent request is required");
+        }
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "SLR crawler");
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(maxConcurrentRequests, threadFactory);
+        this.maxConcurrentRequestsPerFetcher = maxConcurrentRequestsPerFetcher;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Schedules the given request to the given fetcher. The returned future is completed exceptionally with the
+     * {@link FetcherException} of the request, or with a {@link CancellationException} if the crawl is cancelled
+     * before the request is performed.
+     */
+    public CompletableFuture<Collection<BibEntry>> submit(String fetcherName, SearchRequest request) {
+        CompletableFuture<Collection<BibEntry>> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (cancelled) {
+                future.completeExceptionally(new CancellationException("The crawl was cancelled"));
+                return future;
+            }
+            FetcherQueue queue = queues.computeIfAbsent(fetcherName, FetcherQueue::new);
+            ScheduledRequest scheduledRequest = new ScheduledRequest(queue, request, future);
+            queue.pendingRequests.add(scheduledRequest);
+            notStartedRequests.add(scheduledRequest);
+            dispatch(queue);
+        }
+        return future;
+    }
+
+    private void dispatch(FetcherQueue queue) {
+        while (queue.runningRequests < maxConcurrentRequestsPerFetcher && !queue.pendingRequests.isEmpty()) {
+            ScheduledRequest scheduledRequest = queue.pendingRequests.poll();
+            if (queue.firstRequestStartTime == 0) {
+                queue.firstRequestStartTime = System.nanoTime();
+            }
+            queue.runningRequests++;
+            try {
+                executor.execute(() -> perform(scheduledRequest));
+            } catch (RejectedExecutionException e) {
+                // The executor is shut down, thus the crawl was cancelled or closed
+                queue.runningRequests--;
+                notStartedRequests.remove(scheduledRequest);
+                scheduledRequest.future().completeExceptionally(new CancellationException("The crawl was cancelled"));
+            }
+        }
+    }
+
+    private void perform(ScheduledRequest scheduledRequest) {
+        FetcherQueue queue = scheduledRequest.queue();
+        synchronized (this) {
+            if (!notStartedRequests.remove(scheduledRequest)) {
+                // Cancelled after it was handed to the executor
+                return;
+            }
+        }
+
+        Collection<BibEntry> result = null;
+        Exception failure = null;
+        try {
+            result = scheduledRequest.request().perform();
+        } catch (FetcherException | RuntimeException e) {
+            failure = e;
+        }
+
+        FetcherProgress progress;
+        synchronized (this) {
+            queue.runningRequests--;
+            if (failure == null) {
+                queue.completedRequests++;
+                queue.fetchedEntries += result.size();
+            } else {
+                queue.failedRequests++;
+            }
+            progress = getProgress(queue);
+            if (!cancelled) {
+                dispatch(queue);
+            }
+        }
+        progressListener.accept(progress);
+
+        // Complete the future last, as its dependent actions might submit further requests
+        if (failure == null) {
+            scheduledRequest.future().complete(result);
+        } else {
+            scheduledRequest.future().completeExceptionally(failure);
+        }
+    }
+
+    private FetcherProgress getProgress(FetcherQueue queue) {
+        Duration elapsedTime = queue.firstRequestStartTime == 0 ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - queue.firstRequestStartTime);
+        return new FetcherProgress(queue.fetcherName, queue.completedRequests, queue.failedRequests,
+                queue.pendingRequests.size() + queue.runningRequests, queue.fetchedEntries, elapsedTime);
+    }
+
+    public synchronized List<FetcherProgress> getProgress() {
+        return queues.values().stream().map(this::getProgress).toList();
+    }
+
+    /**
+     * Cancels all requests that were not started yet. Running requests are interrupted; as fetchers do not necessarily
+     * react on interrupts, they might still complete.
+     */
+    public void cancel() {
+        List<ScheduledRequest> cancelledRequests;
+        synchronized (this) {
+            cancelled = true;
+            queues.values().forEach(queue -> queue.pendingRequests.clear());
+            cancelledRequests = List.copyOf(notStartedRequests);
+            notStartedRequests.clear();
+            executor.shutdownNow();
+        }
+        cancelledRequests.forEach(request -> request.future().completeExceptionally(new CancellationException("The crawl was cancelled")));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
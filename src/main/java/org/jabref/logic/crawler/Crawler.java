@@ -3,6 +3,7 @@ package org.jabref.logic.crawler;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.git.SlrGitHandler;
@@ -52,13 +53,19 @@ public class Crawler {
                 studyRepository.getSearchQueryStrings());
     }
 
+    Crawler(StudyRepository studyRepository, StudyFetcher studyFetcher) {
+        this.studyRepository = studyRepository;
+        this.studyFetcher = studyFetcher;
+    }
+
     /**
      * This methods performs the crawling of the active libraries defined in the study definition file.
      * This method also persists the results in the same folder the study definition file is stored in.
      *
      * The whole process works as follows:
      * <ol>
-     *     <li>Then the search is executed</li>
+     *     <li>The start of the crawl is recorded in the crawl checkpoints of the repository</li>
+     *     <li>Then the search is executed, skipping the libraries whose results were persisted by an unfinished crawl</li>
      *     <li>The repository changes to the search branch</li>
      *     <li>Afterwards, the results are persisted on the search branch.</li>
      *     <li>Finally, the changes are merged into the work branch</li>
@@ -67,7 +74,36 @@ public class Crawler {
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
      */
     public void performCrawl() throws IOException, GitAPIException, SaveException {
-        List<QueryResult> results = studyFetcher.crawl();
-        studyRepository.persist(results);
+        performCrawl(progress -> {
+        });
+    }
+
+    /**
+     * Performs the crawl as {@link #performCrawl()}. After each request to an E-Library, the given listener is notified
+     * with the progress of the requests to that E-Library. The listener is called from the threads of the crawl.
+     */
+    public void performCrawl(Consumer<FetcherProgress> progressListener) throws IOException, GitAPIException, SaveException {
+        CrawlCheckpoints checkpoints = studyRepository.getCrawlCheckpoints();
+        checkpoints.startCrawl();
+        List<QueryResult> results = studyFetcher.crawl(checkpoints, progressListener);
+        // Cancelling the background task of the crawl interrupts this thread. With the interrupt flag set, interruptible
+        // I/O (e.g., file channels) fails, thus the flag is cleared while persisting and restored afterwards.
+        boolean interrupted = Thread.interrupted();
+        try {
+            // The results of a cancelled crawl are persisted as well, the next crawl resumes with the missing results
+            studyRepository.persist(results, !studyFetcher.isCancelled());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Cancels a running crawl. The requests to the E-Libraries that did not start yet are not performed, and
+     * the complete results of the E-Libraries that were crawled so far are persisted.
+     */
+    public void cancel() {
+        studyFetcher.cancel();
     }
 }
@@ -0,0 +1,15 @@
+package org.jabref.logic.crawler;
+
+import java.time.Duration;
+
+/**
+ * The progress of the requests of a crawl to one fetcher.
+ *
+ * @param pendingRequests The requests that are running or wait to be started
+ * @param elapsedTime     The time since the first request to the fetcher was started
+ */
+public record FetcherProgress(String fetcherName, int completedRequests, int failedRequests, int pendingRequests, int fetchedEntries, Duration elapsedTime) {
+    public double entriesPerSecond() {
+        return elapsedTime.isZero() ? 0 : fetchedEntries * 1000.0 / elapsedTime.toMillis();
+    }
+}
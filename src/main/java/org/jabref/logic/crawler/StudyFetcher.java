@@ -1,11 +1,15 @@
 package org.jabref.logic.crawler;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.database.BibDatabase;
@@ -19,62 +23,173 @@ import org.slf4j.LoggerFactory;
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * The requests are executed by a {@link CrawlScheduler}, which limits the number of concurrent requests overall and
+ * per E-Library.
  */
 class StudyFetcher {
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_FETCHER = 2;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final int maxConcurrentRequests;
+    private final int maxConcurrentRequestsPerFetcher;
+    private final Consumer<FetcherProgress> progressListener;
+
+    private CrawlScheduler currentScheduler;
+    private boolean cancelled;
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_CONCURRENT_REQUESTS_PER_FETCHER,
+                progress -> LOGGER.debug("{}: {} requests completed, {} failed, {} pending, {} entries fetched",
+                        progress.fetcherName(), progress.completedRequests(), progress.failedRequests(), progress.pendingRequests(), progress.fetchedEntries()));
+    }
+
+    /**
+     * @param maxConcurrentRequests           The maximum number of requests running at the same time
+     * @param maxConcurrentRequestsPerFetcher The maximum number of requests to the same E-Library running at the same time
+     * @param progressListener                Notified after each request with the progress of the requested E-Library
+     */
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers,
+                 List<String> searchQueries,
+                 int maxConcurrentRequests,
+                 int maxConcurrentRequestsPerFetcher,
+                 Consumer<FetcherProgress> progressListener) throws IllegalArgumentException {
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxConcurrentRequestsPerFetcher = maxConcurrentRequestsPerFetcher;
+        this.progressListener = progressListener;
     }
 
     /**
      * Each Map Entry contains the results for one search term for all libraries.
      * Each entry of the internal map contains the results for a given library.
      * If any library API is not available, its corresponding entry is missing from the internal map.
+     * Libraries whose results for a search term were already persisted by an unfinished crawl are missing as well,
+     * and so are the libraries whose results were not complete when the crawl was cancelled.
      */
-    public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
+    public List<QueryResult> crawl(CrawlCheckpoints checkpoints) {
+        return crawl(checkpoints, progress -> {
+        });
     }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+    /**
+     * Crawls as {@link #crawl(CrawlCheckpoints)}, additionally notifying the given listener after each request
+     *
+     * @param crawlProgressListener Notified after each request with the progress of the requested E-Library
+     */
+    public List<QueryResult> crawl(CrawlCheckpoints checkpoints, Consumer<FetcherProgress> crawlProgressListener) {
+        CrawlScheduler scheduler = new CrawlScheduler(maxConcurrentRequests, maxConcurrentRequestsPerFetcher, progressListener.andThen(crawlProgressListener));
+        synchronized (this) {
+            currentScheduler = scheduler;
+            if (cancelled) {
+                scheduler.cancel();
+            }
+        }
+        try (scheduler) {
+            // All requests are scheduled first, so that the scheduler can run requests to different libraries at the same time
+            List<List<CompletableFuture<FetchResult>>> resultsPerQuery = new ArrayList<>();
+            for (String searchQuery : searchQueries) {
+                resultsPerQuery.add(activeFetchers.stream()
+                                                  .filter(fetcher -> !checkpoints.isPersistedByUnfinishedCrawl(searchQuery, fetcher.getName()))
+                                                  .map(fetcher -> performSearchOnQueryForFetcher(scheduler, searchQuery, fetcher))
+                                                  .toList());
+            }
+
+            List<QueryResult> queryResults = new ArrayList<>();
+            for (int i = 0; i < searchQueries.size(); i++) {
+                queryResults.add(new QueryResult(searchQueries.get(i), resultsPerQuery.get(i).stream()
+                                                                                      .map(CompletableFuture::join)
+                                                                                      .filter(Objects::nonNull)
+                                                                                      .collect(Collectors.toList())));
+            }
+            scheduler.getProgress().forEach(progress -> LOGGER.info("{}: {} requests completed, {} failed, {} entries fetched ({} entries/s)",
+                    progress.fetcherName(), progress.completedRequests(), progress.failedRequests(), progress.fetchedEntries(),
+                    "%.1f".formatted(progress.entriesPerSecond())));
+            return queryResults;
+        } finally {
+            synchronized (this) {
+                currentScheduler = null;
+            }
+        }
     }
 
     /**
-     * Queries all catalogs on the given searchQuery.
-     *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * Cancels the crawl: requests that did not start yet are not performed.
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
+    public synchronized void cancel() {
+        cancelled = true;
+        if (currentScheduler != null) {
+            currentScheduler.cancel();
+        }
     }
 
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
-        try {
-            List<BibEntry> fetchResult = new ArrayList<>();
-            if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
-                int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / basedFetcher.getPageSize());
-                for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(basedFetcher.performSearchPaged(searchQuery, page).getContent());
-                }
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Schedules the search of the given fetcher for the given query.
+     *
+     * @return The retrieved publications of the fetcher, or {@code null} if the search failed or was cancelled
+     */
+    private CompletableFuture<FetchResult> performSearchOnQueryForFetcher(CrawlScheduler scheduler, String searchQuery, SearchBasedFetcher fetcher) {
+        CompletableFuture<FetchResult> fetchResult;
+        if (fetcher instanceof PagedSearchBasedFetcher pagedFetcher) {
+            fetchResult = performPagedSearch(scheduler, searchQuery, pagedFetcher);
+        } else {
+            fetchResult = scheduler.submit(fetcher.getName(), () -> fetcher.performSearch(searchQuery))
+                                   .thenApply(entries -> new FetchResult(fetcher.getName(), new BibDatabase(new ArrayList<>(entries))));
+        }
+        return fetchResult.exceptionally(exception -> {
+            Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            if (cause instanceof CancellationException) {
+                LOGGER.debug("Search of {} for {} was cancelled", fetcher.getName(), searchQuery);
             } else {
-                fetchResult = fetcher.performSearch(searchQuery);
+                LOGGER.warn("%s API request failed".formatted(fetcher.getName()), cause);
             }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
-        } catch (FetcherException e) {
-            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
             return null;
-        }
+        });
+    }
+
+    /**
+     * Fetches the first page on its own, as all results might fit onto it. If it is full, the remaining pages are
+     * fetched at the same time (as far as the scheduler permits). The results end with the first page that is not full.
+     */
+    private CompletableFuture<FetchResult> performPagedSearch(CrawlScheduler scheduler, String searchQuery, PagedSearchBasedFetcher fetcher) {
+        int pageSize = fetcher.getPageSize();
+        int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / pageSize);
+        return fetchPage(scheduler, searchQuery, fetcher, 0).thenCompose(firstPage -> {
+            List<CompletableFuture<Collection<BibEntry>>> furtherPages = new ArrayList<>();
+            if (firstPage.size() >= pageSize) {
+                for (int page = 1; page < pages; page++) {
+                    furtherPages.add(fetchPage(scheduler, searchQuery, fetcher, page));
+                }
+            }
+            return CompletableFuture.allOf(furtherPages.toArray(new CompletableFuture[0])).thenApply(unused -> {
+                List<BibEntry> fetchResult = new ArrayList<>(firstPage);
+                Collection<BibEntry> previousPage = firstPage;
+                int lastFetchedPage = 0;
+                for (CompletableFuture<Collection<BibEntry>> page : furtherPages) {
+                    // A page that is not full is the last page of results
+                    if (previousPage.size() < pageSize) {
+                        break;
+                    }
+                    previousPage = page.join();
+                    fetchResult.addAll(previousPage);
+                    lastFetchedPage++;
+                }
+                return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult), lastFetchedPage);
+            });
+        });
+    }
+
+    private CompletableFuture<Collection<BibEntry>> fetchPage(CrawlScheduler scheduler, String searchQuery, PagedSearchBasedFetcher fetcher, int page) {
+        return scheduler.submit(fetcher.getName(), () -> fetcher.performSearchPaged(searchQuery, page).getContent());
     }
 }
@@ -1,12 +1,14 @@
 package org.jabref.logic.crawler;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -69,6 +71,7 @@ public class StudyRepository {
     private final PreferencesService preferencesService;
     private final FileUpdateMonitor fileUpdateMonitor;
     private final BibEntryTypesManager bibEntryTypesManager;
+    private final CrawlCheckpoints crawlCheckpoints;
 
     /**
      * Creates a study repository.
@@ -95,6 +98,7 @@ public class StudyRepository {
         if (Files.notExists(repositoryPath)) {
             throw new IOException("The given repository does not exists.");
         }
+        this.crawlCheckpoints = CrawlCheckpoints.load(repositoryPath);
         try {
             gitHandler.createCommitOnCurrentBranch("Save changes before searching.", false);
             gitHandler.checkoutBranch(WORK_BRANCH);
@@ -206,6 +210,10 @@ public class StudyRepository {
         return study;
     }
 
+    CrawlCheckpoints getCrawlCheckpoints() {
+        return crawlCheckpoints;
+    }
+
     /**
      * Persists the result locally and remotely by following the steps:
      * Precondition: Currently checking out work branch
@@ -217,15 +225,43 @@ public class StudyRepository {
      *     context sensitive. So we can just prepend the patch without checking the "context" lines.</li>
      *     <li>Update the remote tracking branches of the work and search branch</li>
      * </ol>
+     * If persisting the results fails, the results persisted so far are committed nevertheless. As the crawl checkpoints
+     * record these results, the next crawl resumes with the remaining results.
      */
     public void persist(List<QueryResult> crawlResults) throws IOException, GitAPIException, SaveException {
+        persist(crawlResults, true);
+    }
+
+    /**
+     * Persists the results as {@link #persist(List)}.
+     *
+     * @param crawlComplete If false, the crawl checkpoints keep the crawl unfinished, such that the next crawl resumes it
+     */
+    public void persist(List<QueryResult> crawlResults, boolean crawlComplete) throws IOException, GitAPIException, SaveException {
         updateWorkAndSearchBranch();
 
         gitHandler.checkoutBranch(SEARCH_BRANCH);
-        persistResults(crawlResults);
+        try {
+            persistResults(crawlResults);
+        } catch (IOException | SaveException e) {
+            commitSearchResults("Conducted incomplete search: " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+            throw e;
+        }
+        if (crawlComplete) {
+            crawlCheckpoints.finishCrawl();
+            commitSearchResults("Conducted search: " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        } else {
+            commitSearchResults("Conducted incomplete search: " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Commits the persisted results on the search branch, patches them onto the work branch and updates the remote.
+     * Precondition: Currently checking out search branch
+     */
+    private void commitSearchResults(String commitMessage) throws IOException {
         try {
             // First commit changes to search branch and update remote
-            String commitMessage = "Conducted search: " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
             boolean newSearchResults = gitHandler.createCommitOnCurrentBranch(commitMessage, false);
             gitHandler.checkoutBranch(WORK_BRANCH);
             if (!newSearchResults) {
@@ -280,6 +316,7 @@ public class StudyRepository {
      * Create for each query a folder, and for each fetcher a bib file in the query folder to store its results.
      */
     private void setUpRepositoryStructureForQueriesAndFetchers() throws IOException {
+        ignoreCrawlCheckpoints();
         // Cannot use stream here since IOException has to be thrown
         StudyCatalogToFetcherConverter converter = new StudyCatalogToFetcherConverter(
                 this.getActiveLibraryEntries(),
@@ -294,6 +331,21 @@ public class StudyRepository {
         createStudyResultFile();
     }
 
+    /**
+     * The crawl checkpoints are local state of the crawler, committing them would create a commit for each crawl.
+     */
+    private void ignoreCrawlCheckpoints() throws IOException {
+        Path gitignore = repositoryPath.resolve(".gitignore");
+        String ignoredCheckpoints = "/" + CrawlCheckpoints.FILE_NAME;
+        if (Files.notExists(gitignore)) {
+            Files.writeString(gitignore, ignoredCheckpoints + OS.NEWLINE, StandardCharsets.UTF_8);
+        } else if (Files.readAllLines(gitignore, StandardCharsets.UTF_8).stream().noneMatch(ignoredCheckpoints::equals)) {
+            String content = Files.readString(gitignore, StandardCharsets.UTF_8);
+            String separator = content.isEmpty() || content.endsWith("\n") ? "" : OS.NEWLINE;
+            Files.writeString(gitignore, content + separator + ignoredCheckpoints + OS.NEWLINE, StandardCharsets.UTF_8);
+        }
+    }
+
     /**
      * Creates a folder using the query and its corresponding query id.
      * This folder name is unique for each query, as long as the query id in the study definition is unique for each query.
@@ -378,45 +430,78 @@ public class StudyRepository {
 
     /**
      * Persists the crawling results in the local file based repository.
+     * <p>
+     * Results of a fetcher that equal its last persisted results are skipped, and result files are only written if
+     * their content changes. The crawl checkpoints are saved after the results of each fetcher are persisted.
      *
      * @param crawlResults The results that shall be persisted.
      */
     private void persistResults(List<QueryResult> crawlResults) throws IOException, SaveException {
         DatabaseMerger merger = new DatabaseMerger(preferencesService.getBibEntryPreferences().getKeywordSeparator());
         BibDatabase newStudyResultEntries = new BibDatabase();
+        List<String> fetcherNames = getActiveFetcherNames();
 
         for (QueryResult result : crawlResults) {
             BibDatabase queryResultEntries = new BibDatabase();
+
+            // Results persisted by an unfinished crawl might be missing in the query and study result files
+            List<String> fetchersPersistedByUnfinishedCrawl = fetcherNames.stream()
+                    .filter(fetcherName -> crawlCheckpoints.isPersistedByUnfinishedCrawl(result.getQuery(), fetcherName))
+                    .toList();
+            for (String fetcherName : fetchersPersistedByUnfinishedCrawl) {
+                merger.merge(queryResultEntries, getFetcherResultEntries(result.getQuery(), fetcherName).getDatabase());
+            }
+
             for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
                 BibDatabase fetcherEntries = fetcherResult.getFetchResult();
-                BibDatabaseContext existingFetcherResult = getFetcherResultEntries(result.getQuery(), fetcherResult.getFetcherName());
+                String resultHash = CrawlCheckpoints.computeResultHash(fetcherEntries);
+                if (!crawlCheckpoints.isUnchanged(result.getQuery(), fetcherResult.getFetcherName(), resultHash)) {
+                    BibDatabaseContext existingFetcherResult = getFetcherResultEntries(result.getQuery(), fetcherResult.getFetcherName());
 
-                // Merge new entries into fetcher result file
-                merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
+                    // Merge new entries into fetcher result file
+                    merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
 
-                // Create citation keys for all entries that do not have one
-                generateCiteKeys(existingFetcherResult, fetcherEntries);
+                    // Create citation keys for all entries that do not have one
+                    generateCiteKeys(existingFetcherResult, fetcherEntries);
 
-                // Aggregate each fetcher result into the query result
-                merger.merge(queryResultEntries, fetcherEntries);
+                    // Aggregate each fetcher result into the query result
+                    merger.merge(queryResultEntries, fetcherEntries);
 
-                writeResultToFile(getPathToFetcherResultFile(result.getQuery(), fetcherResult.getFetcherName()), existingFetcherResult);
+                    writeResultToFile(getPathToFetcherResultFile(result.getQuery(), fetcherResult.getFetcherName()), existingFetcherResult);
+                }
+                crawlCheckpoints.update(result.getQuery(), fetcherResult.getFetcherName(), resultHash, fetcherResult.getLastFetchedPage());
+                crawlCheckpoints.save();
             }
-            BibDatabaseContext existingQueryEntries = getQueryResultEntries(result.getQuery());
+            if (queryResultEntries.hasEntries()) {
+                BibDatabaseContext existingQueryEntries = getQueryResultEntries(result.getQuery());
 
-            // Merge new entries into query result file
-            merger.merge(existingQueryEntries.getDatabase(), queryResultEntries);
-            // Aggregate all new entries for every query into the study result
-            merger.merge(newStudyResultEntries, queryResultEntries);
+                // Merge new entries into query result file
+                merger.merge(existingQueryEntries.getDatabase(), queryResultEntries);
+                // Aggregate all new entries for every query into the study result
+                merger.merge(newStudyResultEntries, queryResultEntries);
 
-            writeResultToFile(getPathToQueryResultFile(result.getQuery()), existingQueryEntries);
+                writeResultToFile(getPathToQueryResultFile(result.getQuery()), existingQueryEntries);
+            }
         }
-        BibDatabaseContext existingStudyResultEntries = getStudyResultEntries();
+        if (newStudyResultEntries.hasEntries()) {
+            BibDatabaseContext existingStudyResultEntries = getStudyResultEntries();
 
-        // Merge new entries into study result file
-        merger.merge(existingStudyResultEntries.getDatabase(), newStudyResultEntries);
+            // Merge new entries into study result file
+            merger.merge(existingStudyResultEntries.getDatabase(), newStudyResultEntries);
 
-        writeResultToFile(getPathToStudyResultFile(), existingStudyResultEntries);
+            writeResultToFile(getPathToStudyResultFile(), existingStudyResultEntries);
+        }
+    }
+
+    private List<String> getActiveFetcherNames() {
+        return new StudyCatalogToFetcherConverter(
+                getActiveLibraryEntries(),
+                preferencesService.getImportFormatPreferences(),
+                preferencesService.getImporterPreferences())
+                .getActiveFetchers()
+                .stream()
+                .map(SearchBasedFetcher::getName)
+                .toList();
     }
 
     private void generateCiteKeys(BibDatabaseContext existingEntries, BibDatabase targetEntries) {
@@ -425,12 +510,16 @@ public class StudyRepository {
         targetEntries.getEntries().stream().filter(bibEntry -> !bibEntry.hasCitationKey()).forEach(citationKeyGenerator::generateAndSetKey);
     }
 
+    /**
+     * Writes the given library to the given file, unless the file already has the same content.
+     */
     private void writeResultToFile(Path pathToFile, BibDatabaseContext context) throws SaveException {
-        try (AtomicFileWriter fileWriter = new AtomicFileWriter(pathToFile, StandardCharsets.UTF_8)) {
+        try {
+            StringWriter stringWriter = new StringWriter();
             SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
                     .withSaveOrder(context.getMetaData().getSaveOrder().map(so -> SelfContainedSaveOrder.of(so)).orElse(SaveOrder.getDefaultSaveOrder()))
                     .withReformatOnSave(preferencesService.getLibraryPreferences().shouldAlwaysReformatOnSave());
-            BibWriter bibWriter = new BibWriter(fileWriter, OS.NEWLINE);
+            BibWriter bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
             BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
                     bibWriter,
                     saveConfiguration,
@@ -438,6 +527,14 @@ public class StudyRepository {
                     preferencesService.getCitationKeyPatternPreferences(),
                     bibEntryTypesManager);
             databaseWriter.saveDatabase(context);
+
+            String content = stringWriter.toString();
+            if (Files.exists(pathToFile) && Arrays.equals(Files.readAllBytes(pathToFile), content.getBytes(StandardCharsets.UTF_8))) {
+                return;
+            }
+            try (AtomicFileWriter fileWriter = new AtomicFileWriter(pathToFile, StandardCharsets.UTF_8)) {
+                fileWriter.write(content);
+            }
         } catch (UnsupportedCharsetException ex) {
             throw new SaveException(Localization.lang("Character encoding UTF-8 is not supported.", ex));
         } catch (IOException ex) {
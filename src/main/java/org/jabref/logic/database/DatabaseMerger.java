@@ -1,11 +1,12 @@
 package org.jabref.logic.database;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -53,12 +54,23 @@ public class DatabaseMerger {
         mergeMetaData(target.getMetaData(), other.getMetaData(), otherFileName, other.getEntries());
     }
 
+    /**
+     * Adds the entries of the other database which are not a duplicate of an entry of the target database or of an
+     * entry added before. The duplicates are looked up using a {@link DuplicateCandidateIndex}, thus the time needed
+     * grows linearly with the number of entries.
+     */
     private void mergeEntries(BibDatabase target, BibDatabase other) {
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
-        List<BibEntry> newEntries = other.getEntries().stream()
-                                         // Remove all entries that are already part of the database (duplicate)
-                                         .filter(entry -> duplicateCheck.containsDuplicate(target, entry, BibDatabaseModeDetection.inferMode(target)).isEmpty())
-                                         .collect(Collectors.toList());
+        BibDatabaseMode mode = BibDatabaseModeDetection.inferMode(target);
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(target.getEntries());
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (BibEntry entry : other.getEntries()) {
+            // Remove all entries that are already part of the database (duplicate)
+            if (duplicateCheck.containsDuplicate(index, entry, mode).isEmpty()) {
+                newEntries.add(entry);
+                index.add(entry);
+            }
+        }
         target.insertEntries(newEntries);
     }
 
@@ -0,0 +1,78 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Index of entries to find the candidates for duplicates of an entry without comparing the entry to all entries.
+ * <p>
+ * The entries are indexed by their identifiers (DOI, ePrint, PubMed ID), their ISBN, and their normalized title
+ * (lower case letters and digits only). Entries without a title are indexed by their type. The candidates still have to
+ * be checked using {@link DuplicateCheck#isDuplicate}; only entries sharing one of these keys are found, thus
+ * duplicates with a differently spelled title and without a common identifier are not.
+ */
+public class DuplicateCandidateIndex {
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+
+    public DuplicateCandidateIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    public void add(BibEntry entry) {
+        for (String key : getKeys(entry)) {
+            entriesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    /**
+     * Returns the indexed entries sharing a key with the given entry, each entry once.
+     */
+    public Collection<BibEntry> getCandidates(BibEntry entry) {
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> orderedCandidates = new ArrayList<>();
+        for (String key : getKeys(entry)) {
+            for (BibEntry candidate : entriesByKey.getOrDefault(key, Collections.emptyList())) {
+                if (candidates.add(candidate)) {
+                    orderedCandidates.add(candidate);
+                }
+            }
+        }
+        return orderedCandidates;
+    }
+
+    private static Set<String> getKeys(BibEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> keys.add(field.getName() + "=" + value));
+        }
+        entry.getDOI().ifPresent(doi -> keys.add("normalized-doi=" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add("normalized-isbn=" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        String title = entry.getFieldLatexFree(StandardField.TITLE)
+                            .map(value -> NON_WORD_CHARACTERS.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ").trim())
+                            .orElse("");
+        if (title.isEmpty()) {
+            keys.add("untitled-type=" + entry.getType().getName());
+        } else {
+            keys.add("title=" + title);
+        }
+        return keys;
+    }
+}
@@ -380,4 +380,16 @@ public class DuplicateCheck {
 
         return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
+
+    /**
+     * Checks the candidates of the index for a duplicate of the given entry, in contrast to
+     * {@link #containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)} without comparing the entry to all entries.
+     *
+     * @return The first duplicate entry found. Empty Optional if no duplicates are found.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateCandidateIndex index,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+        return index.getCandidates(entry).stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+    }
 }
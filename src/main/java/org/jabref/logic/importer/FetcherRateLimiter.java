@@ -0,0 +1,338 @@
+package org.jabref.logic.importer;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the requests of the fetchers, so that the APIs are not queried faster than they allow.
+ * <p>
+ * A fetcher registers the limits of the APIs it uses (see {@link #register(String, RateLimit)}), usually in a static
+ * initializer. The key is the host of the API (e.g., <code>api.crossref.org</code>) or any other name shared by the
+ * requests to be limited together. {@link org.jabref.logic.net.URLDownload} acquires a {@link Permit} for the host of
+ * each request, thus requests of different fetchers (and of bulk operations running in parallel) to the same host are
+ * spaced according to the limit and at most the allowed number of requests are in flight at the same time.
+ * <p>
+ * If a server asks to slow down (HTTP status 429 or 503 with a <code>Retry-After</code> header), the host is paused
+ * (see {@link #pause(String, Duration)}) and all requests to it wait until the pause is over.
+ * <p>
+ * Requests to hosts that are neither registered nor paused are not limited.
+ */
+public class FetcherRateLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FetcherRateLimiter.class);
+
+    private static final FetcherRateLimiter INSTANCE = new FetcherRateLimiter();
+
+    private final Map<String, HostLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param requestsPerSecond     the maximum number of requests started per second
+     * @param maxConcurrentRequests the maximum number of requests in flight at the same time
+     */
+    public record RateLimit(double requestsPerSecond, int maxConcurrentRequests) {
+
+        public static final RateLimit UNLIMITED = new RateLimit(Double.POSITIVE_INFINITY, Integer.MAX_VALUE);
+
+        public RateLimit {
+            if (!(requestsPerSecond > 0) || (maxConcurrentRequests <= 0)) {
+                throw new IllegalArgumentException("Rate and concurrency need to be positive");
+            }
+        }
+
+        /**
+         * Limits the rate only.
+         */
+        public static RateLimit ofRequestsPerSecond(double requestsPerSecond) {
+            return new RateLimit(requestsPerSecond, Integer.MAX_VALUE);
+        }
+
+        /**
+         * @return the limit which is at least as strict as this and the other limit
+         */
+        RateLimit stricter(RateLimit other) {
+            return new RateLimit(Math.min(requestsPerSecond, other.requestsPerSecond), Math.min(maxConcurrentRequests, other.maxConcurrentRequests));
+        }
+    }
+
+    /**
+     * Allows one request to be in flight. Needs to be closed as soon as the response (or at least its status and
+     * headers) has been received.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private static final Permit NONE = new Permit(null);
+
+        private final Semaphore semaphore;
+        private boolean released;
+
+        private Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public synchronized void close() {
+            if ((semaphore != null) && !released) {
+                released = true;
+                semaphore.release();
+            }
+        }
+    }
+
+    private static class HostLimiter {
+
+        private final RateLimit rateLimit;
+        private final Semaphore concurrency;
+        private long intervalNanos;
+        private long nextStartNanos;
+        private long pausedUntilNanos;
+
+        HostLimiter(RateLimit rateLimit, long now) {
+            this.rateLimit = rateLimit;
+            this.concurrency = new Semaphore(rateLimit.maxConcurrentRequests(), true);
+            this.intervalNanos = toInterval(rateLimit.requestsPerSecond());
+            this.nextStartNanos = now;
+            this.pausedUntilNanos = now;
+        }
+
+        private static long toInterval(double requestsPerSecond) {
+            return Double.isInfinite(requestsPerSecond) ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        }
+
+        /**
+         * Reserves the next start time
+         *
+         * @return the nanoseconds to wait until the reserved start time
+         */
+        synchronized long reserve(long now) {
+            long start = Math.max(now, Math.max(nextStartNanos, pausedUntilNanos));
+            nextStartNanos = start + intervalNanos;
+            return start - now;
+        }
+
+        synchronized long remainingPause(long now) {
+            return Math.max(0, pausedUntilNanos - now);
+        }
+
+        synchronized void pauseUntil(long until) {
+            if (until - pausedUntilNanos > 0) {
+                pausedUntilNanos = until;
+            }
+        }
+
+        synchronized void setRate(double requestsPerSecond) {
+            intervalNanos = toInterval(requestsPerSecond);
+        }
+
+        synchronized double getRate() {
+            return intervalNanos == 0 ? Double.POSITIVE_INFINITY : (double) TimeUnit.SECONDS.toNanos(1) / intervalNanos;
+        }
+
+        boolean isLimited() {
+            return !rateLimit.equals(RateLimit.UNLIMITED);
+        }
+    }
+
+    FetcherRateLimiter() {
+    }
+
+    public static FetcherRateLimiter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the limit of the given host. If the host is already registered, the stricter limits are kept.
+     */
+    public void register(String host, RateLimit rateLimit) {
+        limiters.compute(normalize(host), (key, existing) -> {
+            if (existing == null) {
+                return new HostLimiter(rateLimit, System.nanoTime());
+            }
+            RateLimit stricter = existing.rateLimit.stricter(rateLimit);
+            if (stricter.equals(existing.rateLimit)) {
+                return existing;
+            }
+            // Permits of the old limiter are released to the old semaphore, thus there might be some more requests in flight for a short time
+            HostLimiter limiter = new HostLimiter(stricter, System.nanoTime());
+            limiter.pauseUntil(existing.pausedUntilNanos);
+            return limiter;
+        });
+    }
+
+    /**
+     * Removes the limit and the pause of the given host. Used in tests only.
+     */
+    void unregister(String host) {
+        limiters.remove(normalize(host));
+    }
+
+    /**
+     * @return the limit of the given host, empty if the host is not registered
+     */
+    public Optional<RateLimit> getRateLimit(String host) {
+        return getLimiter(host).filter(HostLimiter::isLimited)
+                               .map(limiter -> new RateLimit(limiter.getRate(), limiter.rateLimit.maxConcurrentRequests()));
+    }
+
+    /**
+     * Changes the rate of a registered host, e.g., if the server announces a new one. Does nothing if the host is not registered.
+     */
+    public void setRate(String host, double requestsPerSecond) {
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException("Rate needs to be positive");
+        }
+        getLimiter(host).filter(HostLimiter::isLimited).ifPresent(limiter -> {
+            double oldRate = limiter.getRate();
+            // Ignore small deviations, e.g. caused by rounding the interval to nanoseconds
+            if (Math.abs(requestsPerSecond - oldRate) >= (oldRate / 100)) {
+                LOGGER.info("Updated the rate limit of {} from {} to {} requests per second", host, oldRate, requestsPerSecond);
+                limiter.setRate(requestsPerSecond);
+            }
+        });
+    }
+
+    /**
+     * Changes the rate of a registered host to the one announced by the headers <code>X-Rate-Limit-Limit</code> and
+     * <code>X-Rate-Limit-Interval</code> (as sent by Crossref). Does nothing if the headers are missing or cannot be parsed.
+     */
+    public void updateRate(String host, String rateLimitLimit, String rateLimitInterval) {
+        if ((rateLimitLimit == null) || (rateLimitInterval == null)) {
+            return;
+        }
+        try {
+            // Assuming the interval is given in seconds (e.g., "1s")
+            double newRate = Double.parseDouble(rateLimitLimit.trim()) / Double.parseDouble(rateLimitInterval.replaceAll("[^\\.0123456789]", ""));
+            if ((newRate > 0) && !Double.isInfinite(newRate)) {
+                setRate(host, newRate);
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Could not deduce the rate limit of {} from the response headers", host);
+        }
+    }
+
+    /**
+     * Lets all requests to the given host wait for the given duration, e.g., because the server asked for it using the
+     * <code>Retry-After</code> header. The host does not need to be registered.
+     */
+    public void pause(String host, Duration duration) {
+        if (duration.isNegative() || duration.isZero()) {
+            return;
+        }
+        long until = System.nanoTime() + duration.toNanos();
+        LOGGER.debug("Pausing requests to {} for {}", host, duration);
+        limiters.computeIfAbsent(normalize(host), key -> new HostLimiter(RateLimit.UNLIMITED, System.nanoTime()))
+                .pauseUntil(until);
+    }
+
+    /**
+     * Waits until the given host may be queried again (respecting the rate and a pause), without limiting the
+     * number of concurrent requests.
+     *
+     * @return the time waited in seconds
+     */
+    public double waitForTurn(String host) throws InterruptedIOException {
+        Optional<HostLimiter> limiter = getLimiter(host);
+        if (limiter.isEmpty()) {
+            return 0.0;
+        }
+        return waitForTurn(limiter.get());
+    }
+
+    private static double waitForTurn(HostLimiter limiter) throws InterruptedIOException {
+        long start = System.nanoTime();
+        sleep(limiter.reserve(start));
+        // The host might have been paused while waiting
+        long remainingPause;
+        while ((remainingPause = limiter.remainingPause(System.nanoTime())) > 0) {
+            sleep(remainingPause);
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    /**
+     * Waits until a request to the given host may be sent.
+     *
+     * @return the permit, which needs to be closed as soon as the response has been received
+     */
+    public Permit acquire(String host) throws InterruptedIOException {
+        Optional<HostLimiter> limiter = getLimiter(host);
+        if (limiter.isEmpty()) {
+            return Permit.NONE;
+        }
+        Semaphore concurrency = limiter.get().concurrency;
+        try {
+            concurrency.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a request to " + host);
+        }
+        Permit permit = new Permit(concurrency);
+        try {
+            waitForTurn(limiter.get());
+        } catch (InterruptedIOException e) {
+            permit.close();
+            throw e;
+        }
+        return permit;
+    }
+
+    private Optional<HostLimiter> getLimiter(String host) {
+        if ((host == null) || host.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(limiters.get(normalize(host)));
+    }
+
+    private static String normalize(String host) {
+        return host.toLowerCase(Locale.ROOT);
+    }
+
+    private static void sleep(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+        }
+    }
+
+    /**
+     * Parses the value of a <code>Retry-After</code> header, which is either a number of seconds or an HTTP date.
+     *
+     * @return the duration to wait, empty if the value cannot be parsed
+     */
+    public static Optional<Duration> parseRetryAfter(String value, Instant now) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return Optional.of(Duration.ofSeconds(Math.max(0, seconds)));
+        } catch (NumberFormatException e) {
+            // not a number of seconds, try an HTTP date
+        }
+        try {
+            Instant retryAt = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration duration = Duration.between(now, retryAt);
+            return Optional.of(duration.isNegative() ? Duration.ZERO : duration);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
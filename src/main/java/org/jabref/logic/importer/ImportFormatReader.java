@@ -1,13 +1,24 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
@@ -33,14 +44,37 @@ import org.jabref.logic.importer.fileformat.RepecNepImporter;
 import org.jabref.logic.importer.fileformat.RisImporter;
 import org.jabref.logic.importer.fileformat.SilverPlatterImporter;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.model.database.BibDatabases;
+import org.jabref.logic.util.FileType;
+import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
+    private static final String PDF_SIGNATURE = "%PDF";
+
+    /**
+     * Number of characters of the input the importers are scored on
+     */
+    private static final int PREFIX_LENGTH = 64 * 1024;
+
+    /**
+     * Number of best scored importers importing the whole input
+     */
+    private static final int FULL_IMPORTS = 2;
+
+    /**
+     * File types an importer can only recognize on the whole input
+     */
+    private static final Set<FileType> BINARY_FILE_TYPES = Set.of(StandardFileType.PDF, StandardFileType.CITAVI);
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -110,19 +144,42 @@ public class ImportFormatReader {
     }
 
     public ParserResult importFromFile(String format, Path file) throws ImportException {
-        Optional<Importer> importer = getByCliId(format);
+        Importer importer = getImporter(format);
 
-        if (importer.isEmpty()) {
-            throw new ImportException(Localization.lang("Unknown import format") + ": " + format);
+        try {
+            return importer.importDatabase(file);
+        } catch (IOException e) {
+            throw new ImportException(e);
         }
+    }
+
+    /**
+     * Passes the entries of the given file to the consumer while reading the file. In contrast to
+     * {@link #importFromFile(String, Path)}, only the current entry needs to be held in memory (if the importer
+     * supports it, see {@link Importer#importEntries(java.io.BufferedReader, Consumer)}).
+     */
+    public void importEntriesFromFile(String format, Path file, Consumer<BibEntry> entryConsumer) throws ImportException {
+        Importer importer = getImporter(format);
 
         try {
-            return importer.get().importDatabase(file);
+            importer.importEntries(file, entryConsumer);
         } catch (IOException e) {
             throw new ImportException(e);
         }
     }
 
+    /**
+     * Returns true if the entries of the given format can be imported using {@link #importEntriesFromFile(String, Path, Consumer)}
+     * without losing content, see {@link Importer#supportsEntryStreaming()}. False for unknown formats.
+     */
+    public boolean supportsEntryStreaming(String format) {
+        return getByCliId(format).map(Importer::supportsEntryStreaming).orElse(false);
+    }
+
+    private Importer getImporter(String format) throws ImportException {
+        return getByCliId(format).orElseThrow(() -> new ImportException(Localization.lang("Unknown import format") + ": " + format));
+    }
+
     /**
      * All importers.
      *
@@ -150,7 +207,7 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath), readPrefix(filePath), startsWithPdfSignature(filePath));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -173,48 +230,181 @@ public class ImportFormatReader {
     /**
      * Tries to import entries by iterating through the available import filters,
      * and keeping the import that seems the most promising
+     * <p>
+     * The importers are scored concurrently on a prefix of the input: an importer recognizing the prefix scores the
+     * number of entries it finds there. Importers of binary formats (PDF, Citavi) recognize the whole input instead
+     * and rank before the others. Only the {@value #FULL_IMPORTS} best scored importers import the whole input. The
+     * import with the most entries wins; on a tie, the importer coming first in the list of formats wins. The import
+     * of the second importer is cancelled if the first one found entries and the second one scored lower. If the
+     * source is not a PDF, the PDF importers are skipped, because they would load the source as PDF just to fail.
      *
      * @param importDatabase     the function to import the entries with a formatter
      * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
+     * @param prefix             the first {@value #PREFIX_LENGTH} characters of the source
+     * @param isPdf              whether the source starts with the PDF signature
      * @return an UnknownFormatImport with the imported entries and metadata
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
-    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
-
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
-            try {
-                if (!isRecognizedFormat.apply(imFo)) {
+    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat, String prefix, boolean isPdf) throws ImportException {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Optional<Score>>> scoring = new ArrayList<>(formats.size());
+            for (int i = 0; i < formats.size(); i++) {
+                Importer importer = formats.get(i);
+                int index = i;
+                if (!BINARY_FILE_TYPES.contains(importer.getFileType())) {
+                    scoring.add(executor.submit(() -> scoreOnPrefix(importer, index, prefix)));
+                } else if (isPdf || (importer.getFileType() != StandardFileType.PDF)) {
+                    scoring.add(executor.submit(() -> scoreOnWholeInput(importer, index, isRecognizedFormat)));
+                }
+            }
+            List<Score> scores = new ArrayList<>();
+            for (Future<Optional<Score>> score : scoring) {
+                getResult(score).ifPresent(scores::add);
+            }
+            scores.sort(Score.BEST_FIRST);
+
+            List<Score> candidates = scores.subList(0, Math.min(FULL_IMPORTS, scores.size()));
+            List<Future<Optional<List<BibEntry>>>> imports = new ArrayList<>(candidates.size());
+            for (Score candidate : candidates) {
+                imports.add(executor.submit(() -> tryImport(candidate.importer(), importDatabase)));
+            }
+
+            // Evaluate the results in the order of the scores to keep the result deterministic
+            Score bestScore = null;
+            List<BibEntry> bestResult = List.of();
+            for (int i = 0; i < candidates.size(); i++) {
+                if (!bestResult.isEmpty() && candidates.get(i).isLowerThan(candidates.getFirst())) {
+                    // The winner is known
+                    imports.get(i).cancel(true);
                     continue;
                 }
+                Optional<List<BibEntry>> entries = getResult(imports.get(i));
+                if (entries.isPresent() && (entries.get().size() > bestResult.size())) {
+                    bestScore = candidates.get(i);
+                    bestResult = entries.get();
+                }
+            }
+
+            LOGGER.debug("Scored {} importers, imported with {} in {} ms. Best format: {} ({} entries)", scoring.size(), candidates.size(), (System.nanoTime() - start) / 1_000_000, bestScore == null ? null : bestScore.importer().getName(), bestResult.size());
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
+            if (bestScore != null) {
+                // we found something
+                ParserResult parserResult = new ParserResult(bestResult);
+                return new UnknownFormatImport(bestScore.importer().getName(), parserResult);
+            }
+        } finally {
+            // Stops the cancelled imports without waiting for them
+            executor.shutdownNow();
+        }
 
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+    }
 
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
-                }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
+    /**
+     * The score of an importer recognizing the input
+     *
+     * @param index   the position of the importer in the list of formats
+     * @param binary  whether the importer recognized the whole input of a binary format
+     * @param entries the entries the importer found in the prefix of the input
+     */
+    private record Score(Importer importer, int index, boolean binary, List<BibEntry> entries) {
+
+        private static final Comparator<Score> BEST_FIRST = Comparator.comparing(Score::binary, Comparator.reverseOrder())
+                                                                      .thenComparing(score -> score.entries().size(), Comparator.reverseOrder())
+                                                                      .thenComparingInt(Score::index);
+
+        boolean isLowerThan(Score other) {
+            if (binary != other.binary) {
+                return other.binary;
             }
+            return entries.size() < other.entries.size();
         }
+    }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+    private static Optional<Score> scoreOnPrefix(Importer importer, int index, String prefix) {
+        try {
+            if (!importer.isRecognizedFormat(prefix)) {
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        List<BibEntry> entries;
+        try {
+            entries = importer.importDatabase(prefix).getDatabase().getEntries();
+        } catch (IOException | RuntimeException e) {
+            // The prefix may end within an entry, the importer is still a candidate
+            LOGGER.debug("Could not import prefix with {}", importer.getName(), e);
+            entries = List.of();
         }
+        return Optional.of(new Score(importer, index, false, entries));
+    }
 
-        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+    private static Optional<Score> scoreOnWholeInput(Importer importer, int index, CheckedFunction<Importer, Boolean> isRecognizedFormat) {
+        try {
+            if (isRecognizedFormat.apply(importer)) {
+                return Optional.of(new Score(importer, index, true, List.of()));
+            }
+        } catch (IOException e) {
+            // Not recognized. Go on.
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the entries if the import succeeded
+     */
+    private static Optional<List<BibEntry>> tryImport(Importer importer, CheckedFunction<Importer, ParserResult> importDatabase) {
+        try {
+            return Optional.of(importDatabase.apply(importer).getDatabase().getEntries());
+        } catch (IOException ex) {
+            // The import did not succeed. Go on.
+            return Optional.empty();
+        }
+    }
+
+    private static <T> T getResult(Future<T> result) throws ImportException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            // The detection was cancelled, the running imports are stopped on leaving
+            Thread.currentThread().interrupt();
+            throw new ImportException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ImportException(e);
+        }
+    }
+
+    /**
+     * Reads the first {@value #PREFIX_LENGTH} characters of the file to score the importers on
+     */
+    private static String readPrefix(Path filePath) {
+        try (BufferedReader reader = Importer.getReader(filePath)) {
+            char[] buffer = new char[PREFIX_LENGTH];
+            int length = 0;
+            int read;
+            while ((length < PREFIX_LENGTH) && ((read = reader.read(buffer, length, PREFIX_LENGTH - length)) != -1)) {
+                length += read;
+            }
+            return new String(buffer, 0, length);
+        } catch (IOException e) {
+            // No importer recognizes an empty prefix, except for the BibTeX importer failing on the whole input
+            return "";
+        }
+    }
+
+    private static boolean startsWithPdfSignature(Path filePath) {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return new String(inputStream.readNBytes(PDF_SIGNATURE.length()), StandardCharsets.US_ASCII).equals(PDF_SIGNATURE);
+        } catch (IOException e) {
+            // Let the importers decide
+            return true;
+        }
     }
 
     @FunctionalInterface
@@ -234,6 +424,6 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(String data) throws ImportException {
         Objects.requireNonNull(data);
 
-        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
+        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data), data.substring(0, Math.min(data.length(), PREFIX_LENGTH)), data.startsWith(PDF_SIGNATURE));
     }
 }
@@ -13,10 +13,12 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
 
 import com.ibm.icu.text.CharsetDetector;
 import com.ibm.icu.text.CharsetMatch;
@@ -107,6 +109,56 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Parses the entries in the source and passes each entry to the given consumer as soon as it is parsed.
+     * <p>
+     * The default implementation parses the complete source using {@link #importDatabase(BufferedReader)} first.
+     * Importers of record-based formats override this method, so that only the current record is held in memory.
+     * The next record is read after the consumer returned, thus a slow consumer (e.g., writing to a file) slows down
+     * the parsing instead of parsed entries piling up.
+     * <p>
+     * In contrast to {@link #importDatabase(BufferedReader)}, only the entries are passed on. Metadata, strings, and
+     * warnings of the source are dropped.
+     *
+     * @param input         the input to read from
+     * @param entryConsumer receives the entries in the order of the source
+     */
+    public void importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        importDatabase(input).getDatabase().getEntries().forEach(entryConsumer);
+    }
+
+    /**
+     * Parses the entries in the specified file, see {@link #importEntries(BufferedReader, Consumer)}.
+     * <p>
+     * Importers overriding {@link #importDatabase(Path)} (e.g., for binary formats) are handled by parsing the complete file.
+     */
+    public void importEntries(Path filePath, Consumer<BibEntry> entryConsumer) throws IOException {
+        if (overridesImportDatabaseForPaths()) {
+            importDatabase(filePath).getDatabase().getEntries().forEach(entryConsumer);
+            return;
+        }
+        try (BufferedReader bufferedReader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            importEntries(bufferedReader, entryConsumer);
+        }
+    }
+
+    /**
+     * Returns true if {@link #importEntries(BufferedReader, Consumer)} reads the source record by record and nothing
+     * but the entries is lost. Formats having content besides the entries (e.g., the strings, the preamble, and the
+     * metadata of BibTeX) need to be imported using {@link #importDatabase(Path)}.
+     */
+    public boolean supportsEntryStreaming() {
+        return false;
+    }
+
+    private boolean overridesImportDatabaseForPaths() {
+        try {
+            return getClass().getMethod("importDatabase", Path.class).getDeclaringClass() != Importer.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     protected static Charset getCharset(BufferedInputStream bufferedInputStream) {
         Charset defaultCharSet = StandardCharsets.UTF_8;
 
@@ -26,6 +26,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import org.jabref.logic.cleanup.EprintCleanup;
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherRateLimiter;
 import org.jabref.logic.importer.FulltextFetcher;
 import org.jabref.logic.importer.IdBasedFetcher;
 import org.jabref.logic.importer.IdFetcher;
@@ -396,6 +397,11 @@ public class ArXivFetcher implements FulltextFetcher, PagedSearchBasedFetcher, I
 
         private static final String API_URL = "https://export.arxiv.org/api/query";
 
+        static {
+            // "make no more than one request every three seconds, and limit requests to a single connection at a time", see https://info.arxiv.org/help/api/tou.html
+            FetcherRateLimiter.getInstance().register("export.arxiv.org", new FetcherRateLimiter.RateLimit(1 / 3.0, 1));
+        }
+
         private final ImportFormatPreferences importFormatPreferences;
 
         public ArXiv(ImportFormatPreferences importFormatPreferences) {
@@ -545,7 +551,11 @@ public class ArXivFetcher implements FulltextFetcher, PagedSearchBasedFetcher, I
                 DocumentBuilder builder = factory.newDocumentBuilder();
 
                 HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                if (connection.getResponseCode() == 400) {
+                int responseCode;
+                try (FetcherRateLimiter.Permit permit = FetcherRateLimiter.getInstance().acquire(url.getHost())) {
+                    responseCode = connection.getResponseCode();
+                }
+                if (responseCode == 400) {
                     // Bad request error from server, try to get more information
                     throw getException(builder.parse(connection.getErrorStream()));
                 } else {
@@ -1,10 +1,22 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
@@ -12,21 +24,48 @@ import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.entry.BibEntry;
 
+import org.apache.lucene.queryparser.flexible.core.QueryNodeParseException;
 import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.apache.lucene.queryparser.flexible.standard.parser.StandardSyntaxParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.jabref.logic.importer.fetcher.transformers.AbstractQueryTransformer.NO_EXPLICIT_FIELD;
+
+/**
+ * Searches using all selected fetchers at the same time.
+ * <p>
+ * Each fetcher runs on its own virtual thread. The results are passed on in the order the fetchers return
+ * (see {@link #performSearch(QueryNode, Consumer)}), thus a slow fetcher does not delay the results of the others.
+ * A fetcher not returning within the timeout is canceled, as are all outstanding fetchers as soon as the maximum
+ * number of results is reached.
+ */
 public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     public static final String FETCHER_NAME = "Search Selected";
 
+    public static final Duration DEFAULT_FETCHER_TIMEOUT = Duration.ofSeconds(30);
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeSearchBasedFetcher.class);
 
     private Set<SearchBasedFetcher> fetchers;
     private final int maximumNumberOfReturnedResults;
+    private final Duration fetcherTimeout;
+    private final Map<String, Duration> latencies = new ConcurrentHashMap<>();
+
+    private record FetcherResults(List<BibEntry> entries, Duration latency) {
+    }
 
     public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults)
             throws IllegalArgumentException {
+        this(searchBasedFetchers, importerPreferences, maximumNumberOfReturnedResults, DEFAULT_FETCHER_TIMEOUT);
+    }
+
+    /**
+     * @param fetcherTimeout the time each fetcher may take, measured from its start
+     */
+    public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults, Duration fetcherTimeout)
+            throws IllegalArgumentException {
         if (searchBasedFetchers == null) {
             throw new IllegalArgumentException("The set of searchBasedFetchers must not be null!");
         }
@@ -39,6 +78,7 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
                                                                                        .anyMatch((name -> name.equals(searchBasedFetcher.getName()))))
                                       .collect(Collectors.toSet());
         this.maximumNumberOfReturnedResults = maximumNumberOfReturnedResults;
+        this.fetcherTimeout = fetcherTimeout;
     }
 
     @Override
@@ -51,19 +91,108 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
         return Optional.empty();
     }
 
+    /**
+     * Returns the time the fetchers took for their latest search, keyed by the name of the fetcher. Fetchers which
+     * were canceled (because of the timeout or the limit of results) are not included.
+     */
+    public Map<String, Duration> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
     @Override
     public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
-        // All entries have to be converted into one format, this is necessary for the format conversion
-        return fetchers.parallelStream()
-                       .flatMap(searchBasedFetcher -> {
-                           try {
-                               return searchBasedFetcher.performSearch(luceneQuery).stream();
-                           } catch (FetcherException e) {
-                               LOGGER.warn("%s API request failed".formatted(searchBasedFetcher.getName()), e);
-                               return Stream.empty();
-                           }
-                       })
-                       .limit(maximumNumberOfReturnedResults)
-                       .collect(Collectors.toList());
+        return performSearch(luceneQuery, entries -> {
+        });
+    }
+
+    /**
+     * Looks for hits which are matched by the given free-text query.
+     *
+     * @see #performSearch(QueryNode, Consumer)
+     */
+    public List<BibEntry> performSearch(String searchQuery, Consumer<List<BibEntry>> resultConsumer) throws FetcherException {
+        if (searchQuery.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        QueryNode queryNode;
+        try {
+            queryNode = new StandardSyntaxParser().parse(searchQuery, NO_EXPLICIT_FIELD);
+        } catch (QueryNodeParseException e) {
+            throw new FetcherException("An error occurred when parsing the query");
+        }
+        return performSearch(queryNode, resultConsumer);
+    }
+
+    /**
+     * Searches using all fetchers at the same time.
+     *
+     * @param resultConsumer receives the results of each fetcher as soon as the fetcher returns. It is called on the
+     *                       calling thread, one fetcher after another, with the entries which are part of the returned list.
+     * @return the results of all fetchers, at most the maximum number of results
+     */
+    public List<BibEntry> performSearch(QueryNode luceneQuery, Consumer<List<BibEntry>> resultConsumer) throws FetcherException {
+        latencies.clear();
+        // Virtual threads, because the fetchers spend their time waiting for the servers
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ExecutorCompletionService<FetcherResults> completionService = new ExecutorCompletionService<>(executor);
+        Map<Future<FetcherResults>, SearchBasedFetcher> outstanding = new ConcurrentHashMap<>();
+        List<BibEntry> results = new ArrayList<>();
+        long deadline = System.nanoTime() + fetcherTimeout.toNanos();
+        try {
+            for (SearchBasedFetcher fetcher : fetchers) {
+                outstanding.put(completionService.submit(() -> search(fetcher, luceneQuery)), fetcher);
+            }
+            while (!outstanding.isEmpty() && (results.size() < maximumNumberOfReturnedResults)) {
+                Future<FetcherResults> done = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    LOGGER.warn("Canceled the search of {} after {}", outstanding.values().stream().map(SearchBasedFetcher::getName).sorted().toList(), fetcherTimeout);
+                    break;
+                }
+                SearchBasedFetcher fetcher = outstanding.remove(done);
+                List<BibEntry> fetcherResults = getResults(fetcher, done);
+                List<BibEntry> newResults = fetcherResults.subList(0, Math.min(fetcherResults.size(), maximumNumberOfReturnedResults - results.size()));
+                if (!newResults.isEmpty()) {
+                    results.addAll(newResults);
+                    resultConsumer.accept(List.copyOf(newResults));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Search was interrupted", e);
+        } finally {
+            // Cancels the fetchers still running, e.g., because the limit is reached. The executor is not awaited, as some connections cannot be interrupted.
+            outstanding.keySet().forEach(future -> future.cancel(true));
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static FetcherResults search(SearchBasedFetcher fetcher, QueryNode luceneQuery) {
+        long start = System.nanoTime();
+        List<BibEntry> entries;
+        try {
+            entries = fetcher.performSearch(luceneQuery);
+        } catch (FetcherException e) {
+            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
+            entries = List.of();
+        }
+        return new FetcherResults(entries, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private List<BibEntry> getResults(SearchBasedFetcher fetcher, Future<FetcherResults> done) {
+        try {
+            FetcherResults results = done.get();
+            latencies.put(fetcher.getName(), results.latency());
+            LOGGER.debug("{} returned {} entries in {} ms", fetcher.getName(), results.entries().size(), results.latency().toMillis());
+            return results.entries();
+        } catch (ExecutionException | CancellationException e) {
+            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
+            return List.of();
+        } catch (InterruptedException e) {
+            // The future is done, thus this does not happen
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
     }
 }
@@ -14,6 +14,7 @@ import org.jabref.logic.formatter.bibtexfields.ClearFormatter;
 import org.jabref.logic.formatter.bibtexfields.RemoveBracesFormatter;
 import org.jabref.logic.importer.EntryBasedParserFetcher;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherRateLimiter;
 import org.jabref.logic.importer.IdBasedParserFetcher;
 import org.jabref.logic.importer.IdParserFetcher;
 import org.jabref.logic.importer.ParseException;
@@ -46,6 +47,11 @@ public class CrossRef implements IdParserFetcher<DOI>, EntryBasedParserFetcher,
 
     private static final String API_URL = "https://api.crossref.org/works";
 
+    static {
+        // Public pool, see https://api.crossref.org/swagger-ui/index.html. The current rate is announced in the headers "X-Rate-Limit-Limit" and "X-Rate-Limit-Interval"
+        FetcherRateLimiter.getInstance().register("api.crossref.org", new FetcherRateLimiter.RateLimit(50.0, 5));
+    }
+
     private static final RemoveBracesFormatter REMOVE_BRACES_FORMATTER = new RemoveBracesFormatter();
 
     @Override
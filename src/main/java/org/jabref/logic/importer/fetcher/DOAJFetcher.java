@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherRateLimiter;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.SearchBasedParserFetcher;
@@ -41,6 +42,11 @@ public class DOAJFetcher implements SearchBasedParserFetcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(DOAJFetcher.class);
 
     private static final String SEARCH_URL = "https://doaj.org/api/v1/search/articles/";
+
+    static {
+        // 2 requests per second, see https://doaj.org/api/v4/docs
+        FetcherRateLimiter.getInstance().register("doaj.org", FetcherRateLimiter.RateLimit.ofRequestsPerSecond(2.0));
+    }
     private final ImportFormatPreferences preferences;
 
     public DOAJFetcher(ImportFormatPreferences preferences) {
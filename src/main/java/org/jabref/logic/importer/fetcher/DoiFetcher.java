@@ -17,6 +17,7 @@ import org.jabref.logic.formatter.bibtexfields.NormalizePagesFormatter;
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.EntryBasedFetcher;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherRateLimiter;
 import org.jabref.logic.importer.IdBasedFetcher;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
@@ -30,7 +31,6 @@ import org.jabref.model.entry.identifier.DOI;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.util.OptionalUtil;
 
-import com.google.common.util.concurrent.RateLimiter;
 import kong.unirest.json.JSONArray;
 import kong.unirest.json.JSONException;
 import kong.unirest.json.JSONObject;
@@ -47,17 +47,23 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DoiFetcher.class);
 
-    // 1000 request per 5 minutes. See https://support.datacite.org/docs/is-there-a-rate-limit-for-making-requests-against-the-datacite-apis
-    private static final RateLimiter DATA_CITE_DCN_RATE_LIMITER = RateLimiter.create(3.33);
-
-    /*
-     * By default, it seems that CrossRef DOI Content Negotiation responses are returned by their API pools, more specifically the public one
-     * (by default). See https://www.crossref.org/documentation/retrieve-metadata/content-negotiation/
-     * Experimentally, the rating applied to this pool is defined by response headers "X-Rate-Limit-Interval" and "X-Rate-Limit-Limit", which seems
-     * to default to 50 request / second. However, because of its dynamic nature, this rate could change between API calls, so we need to update it
-     * atomically when that happens (as multiple threads might access it at the same time)
-     */
-    private static final RateLimiter CROSSREF_DCN_RATE_LIMITER = RateLimiter.create(50.0);
+    // The content negotiation is done at doi.org, but limited by the registration agency, thus the agencies are used as keys
+    private static final String DATA_CITE_DCN = "DataCite DOI content negotiation";
+    private static final String CROSSREF_DCN = "Crossref DOI content negotiation";
+
+    static {
+        // 1000 request per 5 minutes. See https://support.datacite.org/docs/is-there-a-rate-limit-for-making-requests-against-the-datacite-apis
+        FetcherRateLimiter.getInstance().register(DATA_CITE_DCN, FetcherRateLimiter.RateLimit.ofRequestsPerSecond(3.33));
+
+        /*
+         * By default, it seems that CrossRef DOI Content Negotiation responses are returned by their API pools, more specifically the public one
+         * (by default). See https://www.crossref.org/documentation/retrieve-metadata/content-negotiation/
+         * Experimentally, the rating applied to this pool is defined by response headers "X-Rate-Limit-Interval" and "X-Rate-Limit-Limit", which seems
+         * to default to 50 request / second. However, because of its dynamic nature, this rate could change between API calls, so we need to update it
+         * when that happens (see updateCrossrefAPIRate)
+         */
+        FetcherRateLimiter.getInstance().register(CROSSREF_DCN, FetcherRateLimiter.RateLimit.ofRequestsPerSecond(50.0));
+    }
 
     private final ImportFormatPreferences preferences;
 
@@ -76,8 +82,8 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
     }
 
     private void doAPILimiting(String identifier) {
-        // Without a generic API Rate Limiter implemented on the project, use Guava's RateLimiter for avoiding
-        // API throttling when multiple threads are working, specially during DOI Content Negotiations
+        // The requests go to doi.org, thus the limit of the registration agency needs to be applied here, especially
+        // when multiple threads are working
         Optional<DOI> doi = DOI.parse(identifier);
 
         try {
@@ -85,9 +91,9 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
             if (doi.isPresent() && (agency = getAgency(doi.get())).isPresent()) {
                 double waitingTime = 0.0;
                 if ("datacite".equalsIgnoreCase(agency.get())) {
-                    waitingTime = DATA_CITE_DCN_RATE_LIMITER.acquire();
+                    waitingTime = FetcherRateLimiter.getInstance().waitForTurn(DATA_CITE_DCN);
                 } else if ("crossref".equalsIgnoreCase(agency.get())) {
-                    waitingTime = CROSSREF_DCN_RATE_LIMITER.acquire();
+                    waitingTime = FetcherRateLimiter.getInstance().waitForTurn(CROSSREF_DCN);
                 } // mEDRA does not explicit an API rating
 
                 LOGGER.trace("Thread %s, searching for DOI '%s', waited %.2fs because of API rate limiter".formatted(
@@ -180,22 +186,9 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
     }
 
     private void updateCrossrefAPIRate(URLConnection existingConnection) {
-        try {
-            // Assuming this field is given in seconds
-            String xRateLimitInterval = existingConnection.getHeaderField("X-Rate-Limit-Interval").replaceAll("[^\\.0123456789]", "");
-            String xRateLimit = existingConnection.getHeaderField("X-Rate-Limit-Limit");
-
-            double newRate = Double.parseDouble(xRateLimit) / Double.parseDouble(xRateLimitInterval);
-            double oldRate = CROSSREF_DCN_RATE_LIMITER.getRate();
-
-            // In theory, the actual update might rarely happen...
-            if (Math.abs(newRate - oldRate) >= 1.0) {
-                LOGGER.info("Updated Crossref API rate limit from %.2f to %.2f".formatted(oldRate, newRate));
-                CROSSREF_DCN_RATE_LIMITER.setRate(newRate);
-            }
-        } catch (NullPointerException | IllegalArgumentException e) {
-            LOGGER.warn("Could not deduce Crossref API's rate limit from response header. API might have changed");
-        }
+        FetcherRateLimiter.getInstance().updateRate(CROSSREF_DCN,
+                existingConnection.getHeaderField("X-Rate-Limit-Limit"),
+                existingConnection.getHeaderField("X-Rate-Limit-Interval"));
     }
 
     @Override
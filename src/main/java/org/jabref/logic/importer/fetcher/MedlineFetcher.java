@@ -6,7 +6,6 @@ import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,6 +23,7 @@ import org.jabref.logic.formatter.bibtexfields.NormalizeMonthFormatter;
 import org.jabref.logic.formatter.bibtexfields.NormalizeNamesFormatter;
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherRateLimiter;
 import org.jabref.logic.importer.IdBasedParserFetcher;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
@@ -52,6 +52,11 @@ public class MedlineFetcher implements IdBasedParserFetcher, SearchBasedFetcher
     private static final String ID_URL = "https://eutils.ncbi.nlm.nih.gov/entrez/eutils/efetch.fcgi";
     private static final String SEARCH_URL = "https://eutils.ncbi.nlm.nih.gov/entrez/eutils/esearch.fcgi";
 
+    static {
+        // Without API key, 3 requests per second are allowed. See https://www.ncbi.nlm.nih.gov/books/NBK25497/
+        FetcherRateLimiter.getInstance().register("eutils.ncbi.nlm.nih.gov", new FetcherRateLimiter.RateLimit(3.0, 3));
+    }
+
     private int numberOfResultsFound;
 
     /**
@@ -69,7 +74,7 @@ public class MedlineFetcher implements IdBasedParserFetcher, SearchBasedFetcher
             URL ncbi = createSearchUrl(query);
 
             XMLInputFactory inputFactory = XMLInputFactory.newFactory();
-            XMLStreamReader streamReader = inputFactory.createXMLStreamReader(ncbi.openStream());
+            XMLStreamReader streamReader = inputFactory.createXMLStreamReader(getUrlDownload(ncbi).asInputStream());
 
             fetchLoop:
             while (streamReader.hasNext()) {
@@ -169,9 +174,8 @@ public class MedlineFetcher implements IdBasedParserFetcher, SearchBasedFetcher
         try {
             // Separate the IDs with a comma to search multiple entries
             URL fetchURL = getUrlForIdentifier(String.join(",", ids));
-            URLConnection data = fetchURL.openConnection();
             ParserResult result = new MedlineImporter().importDatabase(
-                    new BufferedReader(new InputStreamReader(data.getInputStream(), StandardCharsets.UTF_8)));
+                    new BufferedReader(new InputStreamReader(getUrlDownload(fetchURL).asInputStream(), StandardCharsets.UTF_8)));
             if (result.hasWarnings()) {
                 LOGGER.warn(result.getErrorMessage());
             }
@@ -12,6 +12,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.jabref.logic.exporter.SaveConfiguration;
 import org.jabref.logic.importer.ImportFormatPreferences;
@@ -19,6 +20,7 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.slf4j.Logger;
@@ -56,14 +58,7 @@ public class BibtexImporter extends Importer {
     public ParserResult importDatabase(Path filePath) throws IOException {
         EncodingResult result = getEncodingResult(filePath);
 
-        // We replace unreadable characters
-        // Unfortunately, no warning will be issued to the user
-        // As this is a very seldom case, we accept that
-        CharsetDecoder decoder = result.encoding().newDecoder();
-        decoder.onMalformedInput(CodingErrorAction.REPLACE);
-
-        try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
-             BufferedReader reader = new BufferedReader(inputStreamReader)) {
+        try (BufferedReader reader = newReader(filePath, result.encoding())) {
             ParserResult parserResult = this.importDatabase(reader);
             parserResult.getMetaData().setEncoding(result.encoding());
             parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
@@ -75,6 +70,31 @@ public class BibtexImporter extends Importer {
         }
     }
 
+    /**
+     * Passes on each entry as soon as it is parsed. The strings, the preamble, and the metadata of the library are dropped.
+     */
+    @Override
+    public void importEntries(Path filePath, Consumer<BibEntry> entryConsumer) throws IOException {
+        try (BufferedReader reader = newReader(filePath, getEncoding(filePath))) {
+            importEntries(reader, entryConsumer);
+        }
+    }
+
+    @Override
+    public void importEntries(BufferedReader reader, Consumer<BibEntry> entryConsumer) throws IOException {
+        new BibtexParser(importFormatPreferences, fileMonitor).parse(reader, entryConsumer);
+    }
+
+    private static BufferedReader newReader(Path filePath, Charset encoding) throws IOException {
+        // We replace unreadable characters
+        // Unfortunately, no warning will be issued to the user
+        // As this is a very seldom case, we accept that
+        CharsetDecoder decoder = encoding.newDecoder();
+        decoder.onMalformedInput(CodingErrorAction.REPLACE);
+
+        return new BufferedReader(new InputStreamReader(Files.newInputStream(filePath), decoder));
+    }
+
     public static Charset getEncoding(Path filePath) throws IOException {
         return getEncodingResult(filePath).encoding();
     }
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.bibtex.FieldContentFormatter;
@@ -79,6 +80,7 @@ public class BibtexParser implements Parser {
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
+    private Consumer<BibEntry> entryConsumer;
     private final MetaDataParser metaDataParser;
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
@@ -131,7 +133,17 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
+        return parse(in, entry -> database.insertEntry(entry));
+    }
+
+    /**
+     * Same as {@link #parse(Reader)}, but each parsed entry is passed to the given consumer instead of being added to
+     * the database of the result. Thus, the entries of huge files do not need to be held in memory. The strings, the
+     * preamble, and the metadata are still part of the result.
+     */
+    public ParserResult parse(Reader in, Consumer<BibEntry> entryConsumer) throws IOException {
         Objects.requireNonNull(in);
+        this.entryConsumer = Objects.requireNonNull(entryConsumer);
         pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
 
         String newLineSeparator = determineNewLineSeparator();
@@ -278,7 +290,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            entryConsumer.accept(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
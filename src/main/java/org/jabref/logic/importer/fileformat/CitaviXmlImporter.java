@@ -22,8 +22,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -37,9 +37,7 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.citavi.CitaviExchangeData;
-import org.jabref.logic.importer.fileformat.citavi.CitaviExchangeData.KnowledgeItems;
 import org.jabref.logic.importer.fileformat.citavi.CitaviExchangeData.KnowledgeItems.KnowledgeItem;
-import org.jabref.logic.importer.fileformat.citavi.CitaviExchangeData.Persons.Person;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.AuthorList;
@@ -67,20 +65,17 @@ public class CitaviXmlImporter extends Importer implements Parser {
     private final HtmlToLatexFormatter htmlToLatexFormatter = new HtmlToLatexFormatter();
     private final NormalizePagesFormatter pagesFormatter = new NormalizePagesFormatter();
 
+    // The persons, keywords, and publishers of the current document by their id
     private final Map<String, Author> knownPersons = new HashMap<>();
     private final Map<String, Keyword> knownKeywords = new HashMap<>();
     private final Map<String, String> knownPublishers = new HashMap<>();
+    private final Map<String, List<KnowledgeItem>> knowledgeItemsByReference = new HashMap<>();
     private final XMLInputFactory xmlInputFactory;
     private Map<String, String> refIdWithAuthors = new HashMap<>();
     private Map<String, String> refIdWithEditors = new HashMap<>();
     private Map<String, String> refIdWithKeywords = new HashMap<>();
     private Map<String, String> refIdWithPublishers = new HashMap<>();
 
-    private CitaviExchangeData.Persons persons;
-    private CitaviExchangeData.Keywords keywords;
-    private CitaviExchangeData.Publishers publishers;
-    private KnowledgeItems knowledgeItems;
-
     private CitaviExchangeData.ReferenceAuthors refAuthors;
     private CitaviExchangeData.ReferenceEditors refEditors;
     private CitaviExchangeData.ReferenceKeywords refKeywords;
@@ -136,33 +131,79 @@ public class CitaviXmlImporter extends Importer implements Parser {
     @Override
     public ParserResult importDatabase(Path filePath) throws IOException {
         try (BufferedReader reader = getReaderFromZip(filePath)) {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            if (unmarshalledObject instanceof CitaviExchangeData data) {
-                List<BibEntry> bibEntries = parseDataList(data);
-
-                return new ParserResult(bibEntries);
-            } else {
+            XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+            if (!isCitaviExchangeData(xmlStreamReader)) {
                 return ParserResult.fromErrorMessage("File does not start with xml tag.");
             }
+
+            List<BibEntry> bibEntries = new ArrayList<>();
+            parseDataList(xmlStreamReader, bibEntries::add);
+            return new ParserResult(bibEntries);
         } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
     }
 
-    private List<BibEntry> parseDataList(CitaviExchangeData data) {
-        List<BibEntry> bibEntries;
+    @Override
+    public void importEntries(Path filePath, Consumer<BibEntry> entryConsumer) throws IOException {
+        try (BufferedReader reader = getReaderFromZip(filePath)) {
+            XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
+            if (!isCitaviExchangeData(xmlStreamReader)) {
+                throw new IOException("File does not start with xml tag.");
+            }
+            parseDataList(xmlStreamReader, entryConsumer);
+        } catch (JAXBException | XMLStreamException e) {
+            throw new IOException("could not parse document", e);
+        }
+    }
 
-        persons = data.getPersons();
-        keywords = data.getKeywords();
-        publishers = data.getPublishers();
-        knowledgeItems = data.getKnowledgeItems();
+    /**
+     * Moves the reader to the root element and checks its name
+     */
+    private static boolean isCitaviExchangeData(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement()) {
+            reader.next();
+        }
+        return "CitaviExchangeData".equals(reader.getLocalName());
+    }
 
-        refAuthors = data.getReferenceAuthors();
-        refEditors = data.getReferenceEditors();
-        refKeywords = data.getReferenceKeywords();
-        refPublishers = data.getReferencePublishers();
+    /**
+     * Unmarshals the sections of the document one after another instead of the complete document. Sections not needed
+     * for the import (e.g., the project settings, categories, or annotations) are skipped. The references are unmarshalled
+     * one by one, but can only be converted after the end of the document is reached: Citavi writes the tables linking
+     * the references to their authors, editors, keywords, publishers, and knowledge items after the references.
+     */
+    private void parseDataList(XMLStreamReader reader, Consumer<BibEntry> entryConsumer) throws XMLStreamException, JAXBException {
+        initUnmarshaller();
+        resetState();
+
+        List<CitaviExchangeData.References.Reference> references = new ArrayList<>();
+        // Step into the root element
+        reader.next();
+        while (reader.hasNext()) {
+            if (!reader.isStartElement()) {
+                reader.next();
+                continue;
+            }
+            // Each branch leaves the reader after the end of the section
+            switch (reader.getLocalName()) {
+                case "Persons" -> unmarshaller.unmarshal(reader, CitaviExchangeData.Persons.class).getValue().getPerson()
+                                              .forEach(person -> knownPersons.putIfAbsent(person.getId(), new Author(person.getFirstName(), "", "", person.getLastName(), "")));
+                case "Keywords" -> unmarshaller.unmarshal(reader, CitaviExchangeData.Keywords.class).getValue().getKeyword()
+                                               .forEach(keyword -> knownKeywords.putIfAbsent(keyword.getId(), new Keyword(keyword.getName())));
+                case "Publishers" -> unmarshaller.unmarshal(reader, CitaviExchangeData.Publishers.class).getValue().getPublisher()
+                                                 .forEach(publisher -> knownPublishers.putIfAbsent(publisher.getId(), publisher.getName()));
+                case "References" -> unmarshalChildren(reader, CitaviExchangeData.References.Reference.class, references::add);
+                case "ReferenceAuthors" -> refAuthors = unmarshaller.unmarshal(reader, CitaviExchangeData.ReferenceAuthors.class).getValue();
+                case "ReferenceEditors" -> refEditors = unmarshaller.unmarshal(reader, CitaviExchangeData.ReferenceEditors.class).getValue();
+                case "ReferenceKeywords" -> refKeywords = unmarshaller.unmarshal(reader, CitaviExchangeData.ReferenceKeywords.class).getValue();
+                case "ReferencePublishers" -> refPublishers = unmarshaller.unmarshal(reader, CitaviExchangeData.ReferencePublishers.class).getValue();
+                case "KnowledgeItems" -> unmarshalChildren(reader, KnowledgeItem.class, knowledgeItem ->
+                        knowledgeItemsByReference.computeIfAbsent(knowledgeItem.getReferenceID(), id -> new ArrayList<>()).add(knowledgeItem));
+                default -> skipElement(reader);
+            }
+        }
 
         if (refAuthors != null) {
             this.refIdWithAuthors = buildPersonList(refAuthors.getOnetoN());
@@ -177,13 +218,56 @@ public class CitaviXmlImporter extends Importer implements Parser {
             this.refIdWithPublishers = buildPublisherList(refPublishers.getOnetoN());
         }
 
-        bibEntries = data
-                         .getReferences().getReference()
-                         .stream()
-                         .map(this::parseData)
-                         .collect(Collectors.toList());
+        for (CitaviExchangeData.References.Reference reference : references) {
+            entryConsumer.accept(parseData(reference));
+        }
+    }
 
-        return bibEntries;
+    private void resetState() {
+        knownPersons.clear();
+        knownKeywords.clear();
+        knownPublishers.clear();
+        knowledgeItemsByReference.clear();
+        refIdWithAuthors = new HashMap<>();
+        refIdWithEditors = new HashMap<>();
+        refIdWithKeywords = new HashMap<>();
+        refIdWithPublishers = new HashMap<>();
+        refAuthors = null;
+        refEditors = null;
+        refKeywords = null;
+        refPublishers = null;
+    }
+
+    /**
+     * Unmarshals the child elements of the current element one by one. Afterwards, the reader is positioned after the end of the current element.
+     */
+    private <T> void unmarshalChildren(XMLStreamReader reader, Class<T> childType, Consumer<T> childConsumer) throws XMLStreamException, JAXBException {
+        reader.next();
+        while (!reader.isEndElement()) {
+            if (reader.isStartElement()) {
+                // JAXB positions the reader after the end of the child
+                childConsumer.accept(unmarshaller.unmarshal(reader, childType).getValue());
+            } else {
+                reader.next();
+            }
+        }
+        reader.next();
+    }
+
+    /**
+     * Skips the current element including its children. Afterwards, the reader is positioned after the end of the element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            reader.next();
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+        }
+        reader.next();
     }
 
     private BibEntry parseData(CitaviExchangeData.References.Reference data) {
@@ -283,11 +367,6 @@ public class CitaviXmlImporter extends Importer implements Parser {
             List<Author> jabrefAuthors = new ArrayList<>();
 
             for (String personId : personIds) {
-                // Store persons we already encountered, we can have the same author multiple times in the whole database
-                knownPersons.computeIfAbsent(personId, k -> {
-                    Optional<Person> person = persons.getPerson().stream().filter(p -> p.getId().equals(k)).findFirst();
-                    return person.map(p -> new Author(p.getFirstName(), "", "", p.getLastName(), "")).orElse(null);
-                });
                 jabrefAuthors.add(knownPersons.get(personId));
             }
             String stringifiedAuthors = AuthorList.of(jabrefAuthors).getAsLastFirstNamesWithAnd(false);
@@ -308,11 +387,6 @@ public class CitaviXmlImporter extends Importer implements Parser {
             List<Keyword> jabrefKeywords = new ArrayList<>();
 
             for (String keywordId : keywordIds) {
-                // store keywords already encountered
-                knownKeywords.computeIfAbsent(keywordId, k -> {
-                    Optional<CitaviExchangeData.Keywords.Keyword> keyword = keywords.getKeyword().stream().filter(p -> p.getId().equals(k)).findFirst();
-                    return keyword.map(kword -> new Keyword(kword.getName())).orElse(null);
-                });
                 jabrefKeywords.add(knownKeywords.get(keywordId));
             }
 
@@ -335,11 +409,6 @@ public class CitaviXmlImporter extends Importer implements Parser {
             List<String> jabrefPublishers = new ArrayList<>();
 
             for (String pubId : publisherIds) {
-                // store publishers already encountered
-                knownPublishers.computeIfAbsent(pubId, k -> {
-                    Optional<CitaviExchangeData.Publishers.Publisher> publisher = publishers.getPublisher().stream().filter(p -> p.getId().equals(k)).findFirst();
-                    return publisher.map(CitaviExchangeData.Publishers.Publisher::getName).orElse(null);
-                });
                 jabrefPublishers.add(knownPublishers.get(pubId));
             }
 
@@ -372,7 +441,7 @@ public class CitaviXmlImporter extends Importer implements Parser {
 
     private String getKnowledgeItem(CitaviExchangeData.References.Reference data) {
         StringJoiner comment = new StringJoiner("\n\n");
-        List<KnowledgeItem> foundItems = knowledgeItems.getKnowledgeItem().stream().filter(p -> data.getId().equals(p.getReferenceID())).toList();
+        List<KnowledgeItem> foundItems = knowledgeItemsByReference.getOrDefault(data.getId(), List.of());
         for (KnowledgeItem knowledgeItem : foundItems) {
             Optional<String> title = Optional.ofNullable(knowledgeItem.getCoreStatement()).filter(Predicate.not(String::isEmpty));
             title.ifPresent(t -> comment.add("# " + cleanUpText(t)));
@@ -415,19 +484,6 @@ public class CitaviXmlImporter extends Importer implements Parser {
         }
     }
 
-    private Object unmarshallRoot(BufferedReader reader) throws XMLStreamException, JAXBException {
-        initUnmarshaller();
-
-        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
-
-        // Go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
-        }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
-    }
-
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
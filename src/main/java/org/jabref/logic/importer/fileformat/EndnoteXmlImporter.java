@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -107,17 +108,7 @@ public class EndnoteXmlImporter extends Importer implements Parser {
         List<BibEntry> bibItems = new ArrayList<>();
 
         try {
-            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
-
-            while (reader.hasNext()) {
-                reader.next();
-                if (isStartXMLEvent(reader)) {
-                    String elementName = reader.getName().getLocalPart();
-                    if ("record".equals(elementName)) {
-                         parseRecord(reader, bibItems, elementName);
-                    }
-                }
-            }
+            parseRecords(input, bibItems::add);
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
@@ -125,7 +116,40 @@ public class EndnoteXmlImporter extends Importer implements Parser {
         return new ParserResult(bibItems);
     }
 
-    private void parseRecord(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    @Override
+    public boolean supportsEntryStreaming() {
+        return true;
+    }
+
+    /**
+     * Passes on each record as soon as its end tag is read.
+     */
+    @Override
+    public void importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        Objects.requireNonNull(input);
+
+        try {
+            parseRecords(input, entryConsumer);
+        } catch (XMLStreamException e) {
+            throw new IOException("could not parse document", e);
+        }
+    }
+
+    private void parseRecords(BufferedReader input, Consumer<BibEntry> entryConsumer) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+
+        while (reader.hasNext()) {
+            reader.next();
+            if (isStartXMLEvent(reader)) {
+                String elementName = reader.getName().getLocalPart();
+                if ("record".equals(elementName)) {
+                    parseRecord(reader, entryConsumer, elementName);
+                }
+            }
+        }
+    }
+
+    private void parseRecord(XMLStreamReader reader, Consumer<BibEntry> entryConsumer, String startElement)
         throws XMLStreamException {
 
         Map<Field, String> fields = new HashMap<>();
@@ -197,7 +221,7 @@ public class EndnoteXmlImporter extends Importer implements Parser {
 
         entry.setField(fields);
         entry.setFiles(linkedFiles);
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private static EntryType convertRefNameToType(String refName) {
@@ -9,6 +9,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -140,9 +141,23 @@ public class IsiImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
+        List<BibEntry> bibEntries = new ArrayList<>();
+        importEntries(reader, bibEntries::add);
+        return new ParserResult(bibEntries);
+    }
+
+    @Override
+    public boolean supportsEntryStreaming() {
+        return true;
+    }
+
+    /**
+     * Reads one item (starting with a "PT " line) at a time. The lines before the first item are handled like an item.
+     */
+    @Override
+    public void importEntries(BufferedReader reader, Consumer<BibEntry> entryConsumer) throws IOException {
         Objects.requireNonNull(reader);
 
-        List<BibEntry> bibEntries = new ArrayList<>();
         StringBuilder sb = new StringBuilder();
 
         // Pattern fieldPattern = Pattern.compile("^AU |^TI |^SO |^DT |^C1 |^AB
@@ -156,7 +171,9 @@ public class IsiImporter extends Importer {
 
             // beginning of a new item
             if ("PT ".equals(str.substring(0, 3))) {
-                sb.append("::").append(str);
+                parseEntry(sb.toString()).ifPresent(entryConsumer);
+                sb.setLength(0);
+                sb.append(str);
             } else {
                 String beg = str.substring(0, 3).trim();
 
@@ -172,165 +189,160 @@ public class IsiImporter extends Importer {
                 }
             }
         }
+        parseEntry(sb.toString()).ifPresent(entryConsumer);
+    }
 
-        String[] entries = sb.toString().split("::");
+    private Optional<BibEntry> parseEntry(String entry) {
+        String[] fields = entry.split(" ## ");
 
-        Map<Field, String> hm = new HashMap<>();
+        if (fields.length == 0) {
+            fields = entry.split("\n");
+        }
 
-        // skip the first entry as it is either empty or has document header
-        for (String entry : entries) {
-            String[] fields = entry.split(" ## ");
+        EntryType type = BibEntry.DEFAULT_TYPE;
+        String PT = "";
+        String pages = "";
+        Map<Field, String> hm = new HashMap<>();
 
-            if (fields.length == 0) {
-                fields = entry.split("\n");
+        for (String field : fields) {
+            // empty field don't do anything
+            if (field.length() <= 2) {
+                continue;
             }
 
-            EntryType type = BibEntry.DEFAULT_TYPE;
-            String PT = "";
-            String pages = "";
-            hm.clear();
-
-            for (String field : fields) {
-                // empty field don't do anything
-                if (field.length() <= 2) {
-                    continue;
-                }
+            String beg = field.substring(0, 2);
+            String value = field.substring(3);
+            if (value.startsWith(" - ")) {
+                value = value.substring(3);
+            }
+            value = value.trim();
 
-                String beg = field.substring(0, 2);
-                String value = field.substring(3);
-                if (value.startsWith(" - ")) {
-                    value = value.substring(3);
-                }
-                value = value.trim();
-
-                switch (beg) {
-                    case "PT" -> {
-                        if (value.startsWith("J")) {
-                            PT = "article";
-                        } else {
-                            PT = value;
-                        }
-                        type = StandardEntryType.Article; // make all of them PT?
+            switch (beg) {
+                case "PT" -> {
+                    if (value.startsWith("J")) {
+                        PT = "article";
+                    } else {
+                        PT = value;
                     }
-                    case "TY" -> {
-                        if ("JOUR".equals(value)) {
-                            type = StandardEntryType.Article;
-                        } else if ("CONF".equals(value)) {
-                            type = StandardEntryType.InProceedings;
-                        }
+                    type = StandardEntryType.Article; // make all of them PT?
+                }
+                case "TY" -> {
+                    if ("JOUR".equals(value)) {
+                        type = StandardEntryType.Article;
+                    } else if ("CONF".equals(value)) {
+                        type = StandardEntryType.InProceedings;
                     }
-                    case "JO" ->
-                            hm.put(StandardField.BOOKTITLE, value);
-                    case "AU" -> {
-                        String author = IsiImporter.isiAuthorsConvert(EOL_PATTERN.matcher(value).replaceAll(" and "));
-
-                        // if there is already someone there then append with "and"
-                        if (hm.get(StandardField.AUTHOR) != null) {
-                            author = hm.get(StandardField.AUTHOR) + " and " + author;
-                        }
-                        hm.put(StandardField.AUTHOR, author);
+                }
+                case "JO" ->
+                        hm.put(StandardField.BOOKTITLE, value);
+                case "AU" -> {
+                    String author = IsiImporter.isiAuthorsConvert(EOL_PATTERN.matcher(value).replaceAll(" and "));
+
+                    // if there is already someone there then append with "and"
+                    if (hm.get(StandardField.AUTHOR) != null) {
+                        author = hm.get(StandardField.AUTHOR) + " and " + author;
                     }
-                    case "TI" ->
-                            hm.put(StandardField.TITLE, EOL_PATTERN.matcher(value).replaceAll(" "));
-                    case "SO", "JA" ->
-                            hm.put(StandardField.JOURNAL, EOL_PATTERN.matcher(value).replaceAll(" "));
-                    case "ID", "KW" -> {
-                        value = EOL_PATTERN.matcher(value).replaceAll(" ");
-                        String existingKeywords = hm.get(StandardField.KEYWORDS);
-                        if ((existingKeywords == null) || existingKeywords.contains(value)) {
-                            existingKeywords = value;
-                        } else {
-                            existingKeywords += ", " + value;
-                        }
-                        hm.put(StandardField.KEYWORDS, existingKeywords);
+                    hm.put(StandardField.AUTHOR, author);
+                }
+                case "TI" ->
+                        hm.put(StandardField.TITLE, EOL_PATTERN.matcher(value).replaceAll(" "));
+                case "SO", "JA" ->
+                        hm.put(StandardField.JOURNAL, EOL_PATTERN.matcher(value).replaceAll(" "));
+                case "ID", "KW" -> {
+                    value = EOL_PATTERN.matcher(value).replaceAll(" ");
+                    String existingKeywords = hm.get(StandardField.KEYWORDS);
+                    if ((existingKeywords == null) || existingKeywords.contains(value)) {
+                        existingKeywords = value;
+                    } else {
+                        existingKeywords += ", " + value;
                     }
-                    case "AB" ->
-                            hm.put(StandardField.ABSTRACT, EOL_PATTERN.matcher(value).replaceAll(" "));
-                    case "BP", "BR", "SP" ->
-                            pages = value;
-                    case "EP" -> {
-                        int detpos = value.indexOf(' ');
-
-                        // tweak for IEEE Explore
-                        if ((detpos != -1) && !value.substring(0, detpos).trim().isEmpty()) {
-                            value = value.substring(0, detpos);
-                        }
-                        pages = pages + "--" + value;
+                    hm.put(StandardField.KEYWORDS, existingKeywords);
+                }
+                case "AB" ->
+                        hm.put(StandardField.ABSTRACT, EOL_PATTERN.matcher(value).replaceAll(" "));
+                case "BP", "BR", "SP" ->
+                        pages = value;
+                case "EP" -> {
+                    int detpos = value.indexOf(' ');
+
+                    // tweak for IEEE Explore
+                    if ((detpos != -1) && !value.substring(0, detpos).trim().isEmpty()) {
+                        value = value.substring(0, detpos);
                     }
-                    case "PS" ->
-                            pages = IsiImporter.parsePages(value);
-                    case "AR" ->
-                            pages = value;
-                    case "IS" ->
-                            hm.put(StandardField.NUMBER, value);
-                    case "PY" ->
-                            hm.put(StandardField.YEAR, value);
-                    case "VL" ->
-                            hm.put(StandardField.VOLUME, value);
-                    case "PU" ->
-                            hm.put(StandardField.PUBLISHER, value);
-                    case "DI" ->
-                            hm.put(StandardField.DOI, value);
-                    case "PD" -> {
-                        String month = IsiImporter.parseMonth(value);
-                        if (month != null) {
-                            hm.put(StandardField.MONTH, month);
-                        }
+                    pages = pages + "--" + value;
+                }
+                case "PS" ->
+                        pages = IsiImporter.parsePages(value);
+                case "AR" ->
+                        pages = value;
+                case "IS" ->
+                        hm.put(StandardField.NUMBER, value);
+                case "PY" ->
+                        hm.put(StandardField.YEAR, value);
+                case "VL" ->
+                        hm.put(StandardField.VOLUME, value);
+                case "PU" ->
+                        hm.put(StandardField.PUBLISHER, value);
+                case "DI" ->
+                        hm.put(StandardField.DOI, value);
+                case "PD" -> {
+                    String month = IsiImporter.parseMonth(value);
+                    if (month != null) {
+                        hm.put(StandardField.MONTH, month);
                     }
-                    case "DT" -> {
-                        if ("Review".equals(value)) {
-                            type = StandardEntryType.Article; // set "Review" in Note/Comment?
-                        } else if (value.startsWith("Article") || value.startsWith("Journal") || "article".equals(PT)) {
-                            type = StandardEntryType.Article;
-                        } else {
-                            type = BibEntry.DEFAULT_TYPE;
-                        }
+                }
+                case "DT" -> {
+                    if ("Review".equals(value)) {
+                        type = StandardEntryType.Article; // set "Review" in Note/Comment?
+                    } else if (value.startsWith("Article") || value.startsWith("Journal") || "article".equals(PT)) {
+                        type = StandardEntryType.Article;
+                    } else {
+                        type = BibEntry.DEFAULT_TYPE;
                     }
-                    case "CR" ->
-                            hm.put(new UnknownField("CitedReferences"), EOL_PATTERN.matcher(value).replaceAll(" ; ").trim());
-                    default -> {
-                        // Preserve all other entries except
-                        if ("ER".equals(beg) || "EF".equals(beg) || "VR".equals(beg) || "FN".equals(beg)) {
-                            continue;
-                        }
-                        hm.put(FieldFactory.parseField(type, beg), value);
+                }
+                case "CR" ->
+                        hm.put(new UnknownField("CitedReferences"), EOL_PATTERN.matcher(value).replaceAll(" ; ").trim());
+                default -> {
+                    // Preserve all other entries except
+                    if ("ER".equals(beg) || "EF".equals(beg) || "VR".equals(beg) || "FN".equals(beg)) {
+                        continue;
                     }
+                    hm.put(FieldFactory.parseField(type, beg), value);
                 }
             }
+        }
 
-            if (!pages.isEmpty()) {
-                hm.put(StandardField.PAGES, pages);
-            }
+        if (!pages.isEmpty()) {
+            hm.put(StandardField.PAGES, pages);
+        }
 
-            // Skip empty entries
-            if (hm.isEmpty()) {
-                continue;
-            }
+        // Skip empty entries
+        if (hm.isEmpty()) {
+            return Optional.empty();
+        }
 
-            BibEntry b = new BibEntry(type);
-            // id assumes an existing database so don't
+        BibEntry b = new BibEntry(type);
+        // id assumes an existing database so don't
 
-            // Remove empty fields:
-            List<Field> toRemove = new ArrayList<>();
-            for (Map.Entry<Field, String> field : hm.entrySet()) {
-                String content = field.getValue();
-                if ((content == null) || content.trim().isEmpty()) {
-                    toRemove.add(field.getKey());
-                }
-            }
-            for (Field aToRemove : toRemove) {
-                hm.remove(aToRemove);
+        // Remove empty fields:
+        List<Field> toRemove = new ArrayList<>();
+        for (Map.Entry<Field, String> field : hm.entrySet()) {
+            String content = field.getValue();
+            if ((content == null) || content.trim().isEmpty()) {
+                toRemove.add(field.getKey());
             }
+        }
+        for (Field aToRemove : toRemove) {
+            hm.remove(aToRemove);
+        }
 
-            // Polish entries
-            IsiImporter.processSubSup(hm);
-            IsiImporter.processCapitalization(hm);
+        // Polish entries
+        IsiImporter.processSubSup(hm);
+        IsiImporter.processCapitalization(hm);
 
-            b.setField(hm);
+        b.setField(hm);
 
-            bibEntries.add(b);
-        }
-        return new ParserResult(bibEntries);
+        return Optional.of(b);
     }
 
     private static String parsePages(String value) {
@@ -1,23 +1,20 @@
 package org.jabref.logic.importer.fileformat;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.DateTimeException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-
 import org.jabref.logic.importer.AuthorListParser;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
+import org.jabref.logic.importer.fileformat.SruRecordReader.Datafield;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Date;
@@ -28,11 +25,6 @@ import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
 /**
  * A parser for the bavarian flavour (Bibliotheksverbund Bayern) of the marc xml standard
@@ -57,42 +49,23 @@ public class MarcXmlParser implements Parser {
 
     @Override
     public List<BibEntry> parseEntries(InputStream inputStream) throws ParseException {
-        try {
-            DocumentBuilder documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            Document content = documentBuilder.parse(inputStream);
-            return this.parseEntries(content);
-        } catch (ParserConfigurationException | SAXException | IOException exception) {
-            throw new ParseException(exception);
-        }
+        List<BibEntry> result = new ArrayList<>();
+        parseEntries(inputStream, result::add);
+        return result;
     }
 
-    private List<BibEntry> parseEntries(Document content) {
-        List<BibEntry> result = new LinkedList<>();
-
-        Element root = (Element) content.getElementsByTagName("zs:searchRetrieveResponse").item(0);
-        Element srwrecords = getChild("zs:records", root);
-        if (srwrecords == null) {
-            // no records found, so return the empty list
-            return result;
-        }
-        List<Element> records = getChildren("zs:record", srwrecords);
-        for (Element element : records) {
-            Element e = getChild("zs:recordData", element);
-            if (e != null) {
-                e = getChild("record", e);
-                if (e != null) {
-                    result.add(parseEntry(e));
-                }
-            }
-        }
-        return result;
+    /**
+     * Passes each parsed entry to the given consumer right after its record is read. Thus, the records of a large
+     * response do not need to be held in memory.
+     */
+    public void parseEntries(InputStream inputStream, Consumer<BibEntry> entryConsumer) throws ParseException {
+        new SruRecordReader().readRecords(inputStream, datafields -> entryConsumer.accept(parseEntry(datafields)));
     }
 
-    private BibEntry parseEntry(Element element) {
+    private BibEntry parseEntry(List<Datafield> datafields) {
         BibEntry bibEntry = new BibEntry(BibEntry.DEFAULT_TYPE);
 
-        List<Element> datafields = getChildren("datafield", element);
-        for (Element datafield : datafields) {
+        for (Datafield datafield : datafields) {
             String tag = datafield.getAttribute("tag");
             LOGGER.debug("tag: " + tag);
 
@@ -136,7 +109,7 @@ public class MarcXmlParser implements Parser {
         return bibEntry;
     }
 
-    private void putIsbn(BibEntry bibEntry, Element datafield) {
+    private void putIsbn(BibEntry bibEntry, Datafield datafield) {
         String isbn = getSubfield("a", datafield);
         if (StringUtil.isNullOrEmpty(isbn)) {
             LOGGER.debug("Empty ISBN recieved");
@@ -160,7 +133,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putPersonalName(BibEntry bibEntry, Element datafield) {
+    private void putPersonalName(BibEntry bibEntry, Datafield datafield) {
         String author = getSubfield("a", datafield);
         String relation = getSubfield("4", datafield);
         AuthorList name;
@@ -198,7 +171,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putConferenceDetail(BibEntry bibEntry, Element datafield) {
+    private void putConferenceDetail(BibEntry bibEntry, Datafield datafield) {
         String conference = getSubfield("a", datafield);
         bibEntry.setType(StandardEntryType.Proceedings);
 
@@ -207,7 +180,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putTitle(BibEntry bibEntry, Element datafield) {
+    private void putTitle(BibEntry bibEntry, Datafield datafield) {
         String title = getSubfield("a", datafield);
         String subtitle = getSubfield("b", datafield);
         String responsibility = getSubfield("c", datafield);
@@ -235,7 +208,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putEdition(BibEntry bibEntry, Element datafield) {
+    private void putEdition(BibEntry bibEntry, Datafield datafield) {
         String edition = getSubfield("a", datafield); // e.g. '1st ed. 2020'
         String editionAddendum = getSubfield("b", datafield); // e.g. 'revised by N.N.'
 
@@ -250,7 +223,7 @@ public class MarcXmlParser implements Parser {
         bibEntry.setField(StandardField.EDITION, edition);
     }
 
-    private void putPublication(BibEntry bibEntry, Element datafield) {
+    private void putPublication(BibEntry bibEntry, Datafield datafield) {
         String ind2 = datafield.getAttribute("ind2");
         if (StringUtil.isNotBlank(ind2) && "1".equals(ind2)) { // Publisher
             String place = getSubfield("a", datafield);
@@ -278,7 +251,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putPhysicalDescription(BibEntry bibEntry, Element datafield) {
+    private void putPhysicalDescription(BibEntry bibEntry, Datafield datafield) {
         String pagetotal = getSubfield("a", datafield);
 
         if (StringUtil.isNotBlank(pagetotal) && (pagetotal.contains("pages") || pagetotal.contains("p.") || pagetotal.contains("S") || pagetotal.contains("Seiten"))) {
@@ -287,7 +260,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putSeries(BibEntry bibEntry, Element datafield) {
+    private void putSeries(BibEntry bibEntry, Datafield datafield) {
         // tag 490 - Series
         // tag 830 - Series Added Entry
 
@@ -308,7 +281,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putThesisDescription(BibEntry bibEntry, Element datafield) {
+    private void putThesisDescription(BibEntry bibEntry, Datafield datafield) {
         String thesisDegree = getSubfield("b", datafield);
         String school = getSubfield("c", datafield);
         bibEntry.setType(StandardEntryType.MastersThesis);
@@ -322,7 +295,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putSummary(BibEntry bibEntry, Element datafield) {
+    private void putSummary(BibEntry bibEntry, Datafield datafield) {
         String summary = getSubfield("a", datafield);
 
         String ind1 = datafield.getAttribute("ind1");
@@ -335,7 +308,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putKeywords(BibEntry bibEntry, Element datafield) {
+    private void putKeywords(BibEntry bibEntry, Datafield datafield) {
         String keyword = getSubfield("a", datafield);
 
         if (StringUtil.isNotBlank(keyword)) {
@@ -348,7 +321,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putIssue(BibEntry bibEntry, Element datafield) {
+    private void putIssue(BibEntry bibEntry, Datafield datafield) {
         bibEntry.setType(StandardEntryType.Article);
 
         List<String> issues = getSubfields("g", datafield);
@@ -373,7 +346,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putDoi(BibEntry bibEntry, Element datafield) {
+    private void putDoi(BibEntry bibEntry, Datafield datafield) {
         String ind1 = datafield.getAttribute("ind1");
         String resource = getSubfield("u", datafield);
 
@@ -394,7 +367,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putElectronicLocation(BibEntry bibEntry, Element datafield) {
+    private void putElectronicLocation(BibEntry bibEntry, Datafield datafield) {
         // 856 - fulltext pdf url
         String ind1 = datafield.getAttribute("ind1");
         String ind2 = datafield.getAttribute("ind2");
@@ -417,7 +390,7 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private void putNotes(BibEntry bibEntry, Element datafield) {
+    private void putNotes(BibEntry bibEntry, Datafield datafield) {
         String[] notes = new String[] {
                 getSubfield("a", datafield),
                 getSubfield("0", datafield),
@@ -444,58 +417,11 @@ public class MarcXmlParser implements Parser {
         }
     }
 
-    private String getSubfield(String a, Element datafield) {
-        List<Element> subfields = getChildren("subfield", datafield);
-
-        for (Element subfield : subfields) {
-            if (subfield.getAttribute("code").equals(a)) {
-                return subfield.getTextContent();
-            }
-        }
-
-        return null;
+    private String getSubfield(String a, Datafield datafield) {
+        return datafield.getSubfield(a);
     }
 
-    private List<String> getSubfields(String a, Element datafield) {
-        List<Element> subfields = getChildren("subfield", datafield);
-
-        return subfields.stream().filter(field -> field.getAttribute("code").equals(a)).map(Node::getTextContent).toList();
-    }
-
-    private Element getChild(String name, Element e) {
-        if (e == null) {
-            return null;
-        }
-        NodeList children = e.getChildNodes();
-
-        int j = children.getLength();
-        for (int i = 0; i < j; i++) {
-            Node test = children.item(i);
-            if (test.getNodeType() == Node.ELEMENT_NODE) {
-                Element entry = (Element) test;
-                if (entry.getTagName().equals(name)) {
-                    return entry;
-                }
-            }
-        }
-        return null;
-    }
-
-    private List<Element> getChildren(String name, Element e) {
-        List<Element> result = new LinkedList<>();
-        NodeList children = e.getChildNodes();
-
-        int j = children.getLength();
-        for (int i = 0; i < j; i++) {
-            Node test = children.item(i);
-            if (test.getNodeType() == Node.ELEMENT_NODE) {
-                Element entry = (Element) test;
-                if (entry.getTagName().equals(name)) {
-                    result.add(entry);
-                }
-            }
-        }
-
-        return result;
+    private List<String> getSubfields(String a, Datafield datafield) {
+        return datafield.getSubfields(a);
     }
 }
@@ -13,6 +13,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -110,22 +111,7 @@ public class MedlineImporter extends Importer implements Parser {
         List<BibEntry> bibItems = new ArrayList<>();
 
         try {
-            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
-
-            while (reader.hasNext()) {
-                reader.next();
-                if (isStartXMLEvent(reader)) {
-                    String elementName = reader.getName().getLocalPart();
-                    switch (elementName) {
-                        case "PubmedArticle" -> {
-                            parseArticle(reader, bibItems, elementName);
-                        }
-                        case "PubmedBookArticle" -> {
-                            parseBookArticle(reader, bibItems, elementName);
-                        }
-                    }
-                }
-            }
+            parseArticles(input, bibItems::add);
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
@@ -134,7 +120,45 @@ public class MedlineImporter extends Importer implements Parser {
         return new ParserResult(bibItems);
     }
 
-    private void parseBookArticle(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    @Override
+    public boolean supportsEntryStreaming() {
+        return true;
+    }
+
+    /**
+     * Passes on each article as soon as its end tag is read.
+     */
+    @Override
+    public void importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        Objects.requireNonNull(input);
+
+        try {
+            parseArticles(input, entryConsumer);
+        } catch (XMLStreamException e) {
+            throw new IOException("could not parse document", e);
+        }
+    }
+
+    private void parseArticles(BufferedReader input, Consumer<BibEntry> entryConsumer) throws XMLStreamException {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+
+        while (reader.hasNext()) {
+            reader.next();
+            if (isStartXMLEvent(reader)) {
+                String elementName = reader.getName().getLocalPart();
+                switch (elementName) {
+                    case "PubmedArticle" -> {
+                        parseArticle(reader, entryConsumer, elementName);
+                    }
+                    case "PubmedBookArticle" -> {
+                        parseBookArticle(reader, entryConsumer, elementName);
+                    }
+                }
+            }
+        }
+    }
+
+    private void parseBookArticle(XMLStreamReader reader, Consumer<BibEntry> entryConsumer, String startElement)
             throws XMLStreamException {
         Map<Field, String> fields = new HashMap<>();
 
@@ -163,7 +187,7 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private void parseBookDocument(XMLStreamReader reader, Map<Field, String> fields, String startElement)
@@ -364,7 +388,7 @@ public class MedlineImporter extends Importer implements Parser {
         }
     }
 
-    private void parseArticle(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    private void parseArticle(XMLStreamReader reader, Consumer<BibEntry> entryConsumer, String startElement)
             throws XMLStreamException {
         Map<Field, String> fields = new HashMap<>();
 
@@ -390,7 +414,7 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        entryConsumer.accept(entry);
     }
 
     private void parsePubmedData(XMLStreamReader reader, Map<Field, String> fields, String startElement)
@@ -7,6 +7,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.importer.Importer;
@@ -71,149 +73,171 @@ public class MedlinePlainImporter extends Importer {
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         List<BibEntry> bibitems = new ArrayList<>();
+        importEntries(reader, bibitems::add);
+        return new ParserResult(bibitems);
+    }
 
-        // use optional here, so that no exception will be thrown if the file is empty
-        String linesAsString = reader.lines().reduce((line, nextline) -> line + "\n" + nextline).orElse("");
-
-        String[] entries = linesAsString.replace("\u2013", "-").replace("\u2014", "--").replace("\u2015", "--")
-                                        .split("\\n\\n");
+    @Override
+    public boolean supportsEntryStreaming() {
+        return true;
+    }
 
-        for (String entry1 : entries) {
-            if (entry1.trim().isEmpty() || !entry1.contains("-")) {
-                continue;
+    /**
+     * Reads one record at a time. Records are separated by empty lines.
+     */
+    @Override
+    public void importEntries(BufferedReader reader, Consumer<BibEntry> entryConsumer) throws IOException {
+        StringBuilder entryText = new StringBuilder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                parseEntry(entryText.toString()).ifPresent(entryConsumer);
+                entryText.setLength(0);
+            } else {
+                if (!entryText.isEmpty()) {
+                    entryText.append('\n');
+                }
+                entryText.append(line);
             }
+        }
+        parseEntry(entryText.toString()).ifPresent(entryConsumer);
+    }
 
-            EntryType type = BibEntry.DEFAULT_TYPE;
-            String author = "";
-            String editor = "";
-            String comment = "";
-            Map<Field, String> fieldConversionMap = new HashMap<>();
+    private Optional<BibEntry> parseEntry(String entryText) {
+        entryText = entryText.replace("\u2013", "-").replace("\u2014", "--").replace("\u2015", "--");
 
-            String[] lines = entry1.split("\n");
+        if (entryText.trim().isEmpty() || !entryText.contains("-")) {
+            return Optional.empty();
+        }
 
-            for (int j = 0; j < lines.length; j++) {
-                StringBuilder current = new StringBuilder(lines[j]);
-                boolean done = false;
+        EntryType type = BibEntry.DEFAULT_TYPE;
+        String author = "";
+        String editor = "";
+        String comment = "";
+        Map<Field, String> fieldConversionMap = new HashMap<>();
 
-                while (!done && (j < (lines.length - 1))) {
-                    if (lines[j + 1].length() <= 4) {
-                        j++;
-                        continue;
-                    }
-                    if (lines[j + 1].charAt(4) != '-') {
-                        if ((current.length() > 0) && !Character.isWhitespace(current.charAt(current.length() - 1))) {
-                            current.append(' ');
-                        }
-                        current.append(lines[j + 1].trim());
-                        j++;
-                    } else {
-                        done = true;
-                    }
-                }
-                String entry = current.toString();
-                if (!checkLineValidity(entry)) {
-                    continue;
-                }
+        String[] lines = entryText.split("\n");
 
-                String label = entry.substring(0, entry.indexOf('-')).trim();
-                String value = entry.substring(entry.indexOf('-') + 1).trim();
+        for (int j = 0; j < lines.length; j++) {
+            StringBuilder current = new StringBuilder(lines[j]);
+            boolean done = false;
 
-                if ("PT".equals(label)) {
-                    type = addSourceType(value, type);
+            while (!done && (j < (lines.length - 1))) {
+                if (lines[j + 1].length() <= 4) {
+                    j++;
+                    continue;
                 }
-                addDates(fieldConversionMap, label, value);
-                addAbstract(fieldConversionMap, label, value);
-                addTitles(fieldConversionMap, label, value, type);
-                addIDs(fieldConversionMap, label, value);
-                addStandardNumber(fieldConversionMap, label, value);
-
-                if ("FAU".equals(label)) {
-                    if ("".equals(author)) {
-                        author = value;
-                    } else {
-                        author += " and " + value;
-                    }
-                } else if ("FED".equals(label)) {
-                    if ("".equals(editor)) {
-                        editor = value;
-                    } else {
-                        editor += " and " + value;
+                if (lines[j + 1].charAt(4) != '-') {
+                    if ((current.length() > 0) && !Character.isWhitespace(current.charAt(current.length() - 1))) {
+                        current.append(' ');
                     }
+                    current.append(lines[j + 1].trim());
+                    j++;
+                } else {
+                    done = true;
                 }
+            }
+            String entry = current.toString();
+            if (!checkLineValidity(entry)) {
+                continue;
+            }
 
-                // store the fields in a map
-                Map<String, Field> hashMap = new HashMap<>();
-                hashMap.put("PG", StandardField.PAGES);
-                hashMap.put("PL", StandardField.ADDRESS);
-                hashMap.put("PHST", new UnknownField("history"));
-                hashMap.put("PST", new UnknownField("publication-status"));
-                hashMap.put("VI", StandardField.VOLUME);
-                hashMap.put("LA", StandardField.LANGUAGE);
-                hashMap.put("PUBM", new UnknownField("model"));
-                hashMap.put("RN", new UnknownField("registry-number"));
-                hashMap.put("NM", new UnknownField("substance-name"));
-                hashMap.put("OCI", new UnknownField("copyright-owner"));
-                hashMap.put("CN", new UnknownField("corporate"));
-                hashMap.put("IP", StandardField.ISSUE);
-                hashMap.put("EN", StandardField.EDITION);
-                hashMap.put("GS", new UnknownField("gene-symbol"));
-                hashMap.put("GN", StandardField.NOTE);
-                hashMap.put("GR", new UnknownField("grantno"));
-                hashMap.put("SO", new UnknownField("source"));
-                hashMap.put("NR", new UnknownField("number-of-references"));
-                hashMap.put("SFM", new UnknownField("space-flight-mission"));
-                hashMap.put("STAT", new UnknownField("status"));
-                hashMap.put("SB", new UnknownField("subset"));
-                hashMap.put("OTO", new UnknownField("termowner"));
-                hashMap.put("OWN", StandardField.OWNER);
-
-                // add the fields to hm
-                for (Map.Entry<String, Field> mapEntry : hashMap.entrySet()) {
-                    String medlineKey = mapEntry.getKey();
-                    Field bibtexKey = mapEntry.getValue();
-                    if (medlineKey.equals(label)) {
-                        fieldConversionMap.put(bibtexKey, value);
-                    }
-                }
+            String label = entry.substring(0, entry.indexOf('-')).trim();
+            String value = entry.substring(entry.indexOf('-') + 1).trim();
 
-                if ("IRAD".equals(label) || "IR".equals(label) || "FIR".equals(label)) {
-                    String oldInvestigator = fieldConversionMap.get(new UnknownField("investigator"));
-                    if (oldInvestigator == null) {
-                        fieldConversionMap.put(new UnknownField("investigator"), value);
-                    } else {
-                        fieldConversionMap.put(new UnknownField("investigator"), oldInvestigator + ", " + value);
-                    }
-                } else if ("MH".equals(label) || "OT".equals(label)) {
-                    if (!fieldConversionMap.containsKey(StandardField.KEYWORDS)) {
-                        fieldConversionMap.put(StandardField.KEYWORDS, value);
-                    } else {
-                        String kw = fieldConversionMap.get(StandardField.KEYWORDS);
-                        fieldConversionMap.put(StandardField.KEYWORDS, kw + ", " + value);
-                    }
-                } else if ("CON".equals(label) || "CIN".equals(label) || "EIN".equals(label) || "EFR".equals(label)
-                        || "CRI".equals(label) || "CRF".equals(label) || "PRIN".equals(label) || "PROF".equals(label)
-                        || "RPI".equals(label) || "RPF".equals(label) || "RIN".equals(label) || "ROF".equals(label)
-                        || "UIN".equals(label) || "UOF".equals(label) || "SPIN".equals(label) || "ORI".equals(label)) {
-                    if (!comment.isEmpty()) {
-                        comment = comment + "\n";
-                    }
-                    comment = comment + value;
-                }
+            if ("PT".equals(label)) {
+                type = addSourceType(value, type);
             }
-            fixAuthors(fieldConversionMap, author, StandardField.AUTHOR);
-            fixAuthors(fieldConversionMap, editor, StandardField.EDITOR);
-            if (!comment.isEmpty()) {
-                fieldConversionMap.put(StandardField.COMMENT, comment);
+            addDates(fieldConversionMap, label, value);
+            addAbstract(fieldConversionMap, label, value);
+            addTitles(fieldConversionMap, label, value, type);
+            addIDs(fieldConversionMap, label, value);
+            addStandardNumber(fieldConversionMap, label, value);
+
+            if ("FAU".equals(label)) {
+                if ("".equals(author)) {
+                    author = value;
+                } else {
+                    author += " and " + value;
+                }
+            } else if ("FED".equals(label)) {
+                if ("".equals(editor)) {
+                    editor = value;
+                } else {
+                    editor += " and " + value;
+                }
             }
 
-            BibEntry b = new BibEntry(type);
+            // store the fields in a map
+            Map<String, Field> hashMap = new HashMap<>();
+            hashMap.put("PG", StandardField.PAGES);
+            hashMap.put("PL", StandardField.ADDRESS);
+            hashMap.put("PHST", new UnknownField("history"));
+            hashMap.put("PST", new UnknownField("publication-status"));
+            hashMap.put("VI", StandardField.VOLUME);
+            hashMap.put("LA", StandardField.LANGUAGE);
+            hashMap.put("PUBM", new UnknownField("model"));
+            hashMap.put("RN", new UnknownField("registry-number"));
+            hashMap.put("NM", new UnknownField("substance-name"));
+            hashMap.put("OCI", new UnknownField("copyright-owner"));
+            hashMap.put("CN", new UnknownField("corporate"));
+            hashMap.put("IP", StandardField.ISSUE);
+            hashMap.put("EN", StandardField.EDITION);
+            hashMap.put("GS", new UnknownField("gene-symbol"));
+            hashMap.put("GN", StandardField.NOTE);
+            hashMap.put("GR", new UnknownField("grantno"));
+            hashMap.put("SO", new UnknownField("source"));
+            hashMap.put("NR", new UnknownField("number-of-references"));
+            hashMap.put("SFM", new UnknownField("space-flight-mission"));
+            hashMap.put("STAT", new UnknownField("status"));
+            hashMap.put("SB", new UnknownField("subset"));
+            hashMap.put("OTO", new UnknownField("termowner"));
+            hashMap.put("OWN", StandardField.OWNER);
+
+            // add the fields to hm
+            for (Map.Entry<String, Field> mapEntry : hashMap.entrySet()) {
+                String medlineKey = mapEntry.getKey();
+                Field bibtexKey = mapEntry.getValue();
+                if (medlineKey.equals(label)) {
+                    fieldConversionMap.put(bibtexKey, value);
+                }
+            }
 
-            // create one here
-            b.setField(fieldConversionMap);
-            bibitems.add(b);
+            if ("IRAD".equals(label) || "IR".equals(label) || "FIR".equals(label)) {
+                String oldInvestigator = fieldConversionMap.get(new UnknownField("investigator"));
+                if (oldInvestigator == null) {
+                    fieldConversionMap.put(new UnknownField("investigator"), value);
+                } else {
+                    fieldConversionMap.put(new UnknownField("investigator"), oldInvestigator + ", " + value);
+                }
+            } else if ("MH".equals(label) || "OT".equals(label)) {
+                if (!fieldConversionMap.containsKey(StandardField.KEYWORDS)) {
+                    fieldConversionMap.put(StandardField.KEYWORDS, value);
+                } else {
+                    String kw = fieldConversionMap.get(StandardField.KEYWORDS);
+                    fieldConversionMap.put(StandardField.KEYWORDS, kw + ", " + value);
+                }
+            } else if ("CON".equals(label) || "CIN".equals(label) || "EIN".equals(label) || "EFR".equals(label)
+                    || "CRI".equals(label) || "CRF".equals(label) || "PRIN".equals(label) || "PROF".equals(label)
+                    || "RPI".equals(label) || "RPF".equals(label) || "RIN".equals(label) || "ROF".equals(label)
+                    || "UIN".equals(label) || "UOF".equals(label) || "SPIN".equals(label) || "ORI".equals(label)) {
+                if (!comment.isEmpty()) {
+                    comment = comment + "\n";
+                }
+                comment = comment + value;
+            }
+        }
+        fixAuthors(fieldConversionMap, author, StandardField.AUTHOR);
+        fixAuthors(fieldConversionMap, editor, StandardField.EDITOR);
+        if (!comment.isEmpty()) {
+            fieldConversionMap.put(StandardField.COMMENT, comment);
         }
 
-        return new ParserResult(bibitems);
+        BibEntry b = new BibEntry(type);
+
+        // create one here
+        b.setField(fieldConversionMap);
+        return Optional.of(b);
     }
 
     private boolean checkLineValidity(String line) {
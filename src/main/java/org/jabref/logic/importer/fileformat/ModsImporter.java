@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -77,7 +78,7 @@ public class ModsImporter extends Importer implements Parser {
         List<BibEntry> bibItems = new ArrayList<>();
         try {
             XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
-            parseModsCollection(bibItems, reader);
+            parseModsCollection(bibItems::add, reader);
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
@@ -86,7 +87,22 @@ public class ModsImporter extends Importer implements Parser {
         return new ParserResult(bibItems);
     }
 
-    private void parseModsCollection(List<BibEntry> bibItems, XMLStreamReader reader) throws XMLStreamException {
+    /**
+     * Passes on each mods element as soon as its end tag is read.
+     */
+    @Override
+    public void importEntries(BufferedReader input, Consumer<BibEntry> entryConsumer) throws IOException {
+        Objects.requireNonNull(input);
+
+        try {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
+            parseModsCollection(entryConsumer, reader);
+        } catch (XMLStreamException e) {
+            throw new IOException("could not parse document", e);
+        }
+    }
+
+    private void parseModsCollection(Consumer<BibEntry> entryConsumer, XMLStreamReader reader) throws XMLStreamException {
         while (reader.hasNext()) {
             reader.next();
             if (isStartXMLEvent(reader) && "mods".equals(reader.getName().getLocalPart())) {
@@ -101,7 +117,7 @@ public class ModsImporter extends Importer implements Parser {
                 parseModsGroup(fields, reader, entry);
 
                 entry.setField(fields);
-                bibItems.add(entry);
+                entryConsumer.accept(entry);
             }
         }
     }
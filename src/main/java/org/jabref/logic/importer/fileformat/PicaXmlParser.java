@@ -1,16 +1,13 @@
 package org.jabref.logic.importer.fileformat;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import java.util.function.Consumer;
 
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
+import org.jabref.logic.importer.fileformat.SruRecordReader.Datafield;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
@@ -20,57 +17,27 @@ import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
 public class PicaXmlParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(PicaXmlParser.class);
 
     @Override
     public List<BibEntry> parseEntries(InputStream inputStream) throws ParseException {
-        try {
-            DocumentBuilder dbuild = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            Document content = dbuild.parse(inputStream);
-            return this.parseEntries(content);
-        } catch (
-                ParserConfigurationException |
-                SAXException |
-                IOException exception) {
-            throw new ParseException(exception);
-        }
-    }
-
-    private List<BibEntry> parseEntries(Document content) {
         List<BibEntry> result = new ArrayList<>();
-
-        // used for creating test cases
-        // XMLUtil.printDocument(content);
-
-        Element root = (Element) content.getElementsByTagName("zs:searchRetrieveResponse").item(0);
-        Element srwrecords = getChild("zs:records", root);
-        if (srwrecords == null) {
-            // no records found -> return empty list
-            return result;
-        }
-        List<Element> records = getChildren("zs:record", srwrecords);
-        for (Element gvkRecord : records) {
-            Element e = getChild("zs:recordData", gvkRecord);
-            if (e != null) {
-                e = getChild("record", e);
-                if (e != null) {
-                    BibEntry bibEntry = parseEntry(e);
-                    // TODO: Add filtering on years (based on org.jabref.logic.importer.fetcher.transformers.YearRangeByFilteringQueryTransformer.getStartYear)
-                    result.add(bibEntry);
-                }
-            }
-        }
+        parseEntries(inputStream, result::add);
         return result;
     }
 
-    private BibEntry parseEntry(Element e) {
+    /**
+     * Passes each parsed entry to the given consumer right after its record is read. Thus, the records of a large
+     * response do not need to be held in memory.
+     */
+    public void parseEntries(InputStream inputStream, Consumer<BibEntry> entryConsumer) throws ParseException {
+        // TODO: Add filtering on years (based on org.jabref.logic.importer.fetcher.transformers.YearRangeByFilteringQueryTransformer.getStartYear)
+        new SruRecordReader().readRecords(inputStream, datafields -> entryConsumer.accept(parseEntry(datafields)));
+    }
+
+    private BibEntry parseEntry(List<Datafield> datafields) {
         String author = null;
         String editor = null;
         String title = null;
@@ -97,8 +64,7 @@ public class PicaXmlParser implements Parser {
 
         EntryType entryType = StandardEntryType.Book; // Default
 
-        List<Element> datafields = getChildren("datafield", e);
-        for (Element datafield : datafields) {
+        for (Datafield datafield : datafields) {
             String tag = datafield.getAttribute("tag");
             LOGGER.debug("tag: " + tag);
 
@@ -439,52 +405,8 @@ public class PicaXmlParser implements Parser {
         return result;
     }
 
-    private String getSubfield(String a, Element datafield) {
-        List<Element> subfields = getChildren("subfield", datafield);
-
-        for (Element subfield : subfields) {
-            if (subfield.getAttribute("code").equalsIgnoreCase(a)) {
-                return subfield.getTextContent();
-            }
-        }
-        return null;
-    }
-
-    private Element getChild(String name, Element e) {
-        if (e == null) {
-            return null;
-        }
-        NodeList children = e.getChildNodes();
-
-        int j = children.getLength();
-        for (int i = 0; i < j; i++) {
-            Node test = children.item(i);
-            if (test.getNodeType() == Node.ELEMENT_NODE) {
-                Element entry = (Element) test;
-                if (entry.getTagName().equals(name)) {
-                    return entry;
-                }
-            }
-        }
-        return null;
-    }
-
-    private List<Element> getChildren(String name, Element e) {
-        List<Element> result = new ArrayList<>();
-        NodeList children = e.getChildNodes();
-
-        int j = children.getLength();
-        for (int i = 0; i < j; i++) {
-            Node test = children.item(i);
-            if (test.getNodeType() == Node.ELEMENT_NODE) {
-                Element entry = (Element) test;
-                if (entry.getTagName().equals(name)) {
-                    result.add(entry);
-                }
-            }
-        }
-
-        return result;
+    private String getSubfield(String a, Datafield datafield) {
+        return datafield.getSubfieldIgnoreCase(a);
     }
 
     private String removeSortCharacters(String input) {
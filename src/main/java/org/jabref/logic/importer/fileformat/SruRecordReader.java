@@ -0,0 +1,168 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jabref.logic.importer.ParseException;
+
+/**
+ * Reads the records of an SRU (Search/Retrieve via URL) response
+ * (<code>searchRetrieveResponse/records/record/recordData/record</code>) one after another.
+ * <p>
+ * The response is read using StAX. Only the data fields of the current record are held in memory, thus the size of
+ * the response does not matter. Used by {@link MarcXmlParser} and {@link PicaXmlParser}.
+ */
+class SruRecordReader {
+
+    // The responses use the prefix "zs" without always declaring it, thus the reader is not namespace aware and matches the prefixed names
+    private static final List<String> RECORD_PARENTS = List.of("zs:recordData", "zs:record", "zs:records", "zs:searchRetrieveResponse");
+
+    private final XMLInputFactory xmlInputFactory;
+
+    record Subfield(String code, String value) {
+    }
+
+    record Datafield(Map<String, String> attributes, List<Subfield> subfields) {
+
+        /**
+         * @return the value of the attribute, the empty string if the attribute is not present
+         */
+        String getAttribute(String name) {
+            return attributes.getOrDefault(name, "");
+        }
+
+        /**
+         * @return the value of the first subfield with the given code, <code>null</code> if there is none
+         */
+        String getSubfield(String code) {
+            for (Subfield subfield : subfields) {
+                if (subfield.code().equals(code)) {
+                    return subfield.value();
+                }
+            }
+            return null;
+        }
+
+        String getSubfieldIgnoreCase(String code) {
+            for (Subfield subfield : subfields) {
+                if (subfield.code().equalsIgnoreCase(code)) {
+                    return subfield.value();
+                }
+            }
+            return null;
+        }
+
+        List<String> getSubfields(String code) {
+            return subfields.stream().filter(subfield -> subfield.code().equals(code)).map(Subfield::value).toList();
+        }
+    }
+
+    SruRecordReader() {
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Passes the data fields of each record to the given consumer as soon as the end of the record is read.
+     */
+    void readRecords(InputStream inputStream, Consumer<List<Datafield>> recordConsumer) throws ParseException {
+        try {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(inputStream);
+            // local names of the open elements, the innermost first
+            Deque<String> openElements = new ArrayDeque<>();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("record".equals(name) && RECORD_PARENTS.equals(List.copyOf(openElements))) {
+                        recordConsumer.accept(readDatafields(reader));
+                    } else {
+                        openElements.push(name);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    openElements.pop();
+                }
+            }
+        } catch (XMLStreamException exception) {
+            throw new ParseException(exception);
+        }
+    }
+
+    /**
+     * Reads the <code>datafield</code> children of the current element. Afterwards, the reader is positioned at the end of the current element.
+     */
+    private static List<Datafield> readDatafields(XMLStreamReader reader) throws XMLStreamException {
+        List<Datafield> datafields = new ArrayList<>();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ((depth == 1) && "datafield".equals(reader.getLocalName())) {
+                    datafields.add(readDatafield(reader));
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return datafields;
+    }
+
+    private static Datafield readDatafield(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+
+        List<Subfield> subfields = new ArrayList<>();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ((depth == 1) && "subfield".equals(reader.getLocalName())) {
+                    String code = reader.getAttributeValue(null, "code");
+                    subfields.add(new Subfield(code == null ? "" : code, readText(reader)));
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return new Datafield(attributes, subfields);
+    }
+
+    /**
+     * Returns the text content of the current element (including the text of nested elements)
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        text.append(reader.getText());
+                case XMLStreamConstants.START_ELEMENT ->
+                        depth++;
+                case XMLStreamConstants.END_ELEMENT ->
+                        depth--;
+                default -> {
+                }
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,444 @@
+package org.jabref.logic.net;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A disk cache for the responses of GET requests sent by {@link URLDownload}.
+ * <p>
+ * The caching headers of the server are respected: Responses with <code>Cache-Control: no-store</code> are not stored.
+ * A stored response is fresh for <code>max-age</code> seconds (or until the date given by <code>Expires</code>).
+ * Afterwards, it is revalidated using its <code>ETag</code> or <code>Last-Modified</code> date, so that an unchanged
+ * response is not transferred again ("304 Not Modified"). If the confirmation of the server does not state a new
+ * freshness lifetime, the response is fresh for the lifetime it was stored with.
+ * <p>
+ * If the total size of the stored responses exceeds the maximum size, the least recently used responses are deleted.
+ */
+public class HttpResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_SUFFIX = ".body";
+    private static final String METADATA_SUFFIX = ".properties";
+    private static final String ENTITY_TAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String EXPIRES = "expires";
+    private static final String LIFETIME = "lifetime";
+
+    private final Path directory;
+    private final long maxSize;
+
+    /**
+     * The keys of the stored responses in access order (least recently used first) and the size of their bodies
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * A stored response
+     *
+     * @param expires  the response needs to be revalidated after this point in time
+     * @param lifetime the time the response was fresh for when it was stored
+     */
+    public record CachedResponse(String key, Path body, long length, Optional<String> entityTag, Optional<String> lastModified, Instant expires, Duration lifetime) {
+
+        public boolean isFresh() {
+            return Instant.now().isBefore(expires);
+        }
+    }
+
+    /**
+     * @param maxSize the maximum size of all stored responses in bytes
+     */
+    public HttpResponseCache(Path directory, long maxSize) throws IOException {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        Files.createDirectories(directory);
+        loadEntries();
+    }
+
+    /**
+     * Returns the key of the response to a GET request. Responses differing in the request headers (e.g.,
+     * <code>Accept</code> or an API key) are stored separately.
+     */
+    public static String getKey(URI uri, Map<String, String> requestHeaders) {
+        StringBuilder request = new StringBuilder(uri.toString());
+        new TreeMap<>(requestHeaders).forEach((name, value) -> request.append('\n').append(name.toLowerCase(Locale.ROOT)).append(": ").append(value));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in each Java runtime
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized Optional<CachedResponse> get(String key) {
+        if (entries.get(key) == null) {
+            return Optional.empty();
+        }
+        Path body = directory.resolve(key + BODY_SUFFIX);
+        try {
+            Properties metadata = readMetadata(key);
+            // The modification time of the body is used to restore the access order after a restart
+            Files.setLastModifiedTime(body, FileTime.from(Instant.now()));
+            return Optional.of(new CachedResponse(
+                    key,
+                    body,
+                    Files.size(body),
+                    Optional.ofNullable(metadata.getProperty(ENTITY_TAG)),
+                    Optional.ofNullable(metadata.getProperty(LAST_MODIFIED)),
+                    Instant.ofEpochMilli(Long.parseLong(metadata.getProperty(EXPIRES, "0"))),
+                    Duration.ofMillis(Long.parseLong(metadata.getProperty(LIFETIME, "0")))));
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.debug("Could not read cached response {}", key, e);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Opens the body of a stored response. The body is opened while the cache is locked, thus it cannot be deleted
+     * in between. Once opened, it can be read even if the response is removed from the cache afterwards.
+     *
+     * @return the stream to read the body from, empty if the response was removed from the cache meanwhile
+     */
+    public synchronized Optional<InputStream> open(CachedResponse response) {
+        if (entries.get(response.key()) == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.newInputStream(directory.resolve(response.key() + BODY_SUFFIX)));
+        } catch (IOException e) {
+            LOGGER.debug("Could not open cached response {}", response.key(), e);
+            remove(response.key());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Updates the freshness of a stored response after the server confirmed that it did not change. If the
+     * confirmation forbids storing the response, it is removed from the cache, but the returned stream can still be read.
+     *
+     * @return the stream to read the body from, empty if the response was removed from the cache meanwhile
+     */
+    public synchronized Optional<InputStream> revalidate(CachedResponse response, HttpHeaders headers) {
+        Optional<InputStream> body = open(response);
+        if (body.isEmpty()) {
+            return body;
+        }
+        Optional<Instant> expires = getExpiration(headers, Instant.now(), response.lifetime());
+        if (expires.isEmpty()) {
+            remove(response.key());
+            return body;
+        }
+        try {
+            writeMetadata(response.key(),
+                    headers.firstValue("ETag").or(response::entityTag),
+                    headers.firstValue("Last-Modified").or(response::lastModified),
+                    expires.get(),
+                    response.lifetime());
+        } catch (IOException e) {
+            LOGGER.debug("Could not update cached response {}", response.key(), e);
+            remove(response.key());
+        }
+        return body;
+    }
+
+    /**
+     * Stores the response while it is read. The response is stored only if it may be cached and was read completely.
+     *
+     * @param body the body of a "200 OK" response
+     * @return the stream to read the body from
+     */
+    public InputStream store(String key, HttpHeaders headers, InputStream body) throws IOException {
+        Instant now = Instant.now();
+        Optional<Instant> expires = getExpiration(headers, now, Duration.ZERO);
+        Optional<String> entityTag = headers.firstValue("ETag");
+        Optional<String> lastModified = headers.firstValue("Last-Modified");
+        boolean canBeRevalidated = entityTag.isPresent() || lastModified.isPresent();
+        boolean isFresh = expires.isPresent() && expires.get().isAfter(now);
+        if (expires.isEmpty() || !(isFresh || canBeRevalidated)) {
+            return body;
+        }
+        if (headers.firstValueAsLong("Content-Length").orElse(0) > maxSize) {
+            return body;
+        }
+
+        Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+        return new StoringInputStream(body, Files.newOutputStream(temporaryFile), temporaryFile,
+                () -> commit(key, temporaryFile, entityTag, lastModified, expires.get(), isFresh ? Duration.between(now, expires.get()) : Duration.ZERO));
+    }
+
+    public synchronized void clear() {
+        for (String key : List.copyOf(entries.keySet())) {
+            remove(key);
+        }
+    }
+
+    /**
+     * @param defaultLifetime the time the response is fresh for if the headers do not state it
+     * @return the point in time until which the response is fresh, empty if the response may not be stored
+     */
+    static Optional<Instant> getExpiration(HttpHeaders headers, Instant now, Duration defaultLifetime) {
+        if (headers.allValues("Vary").stream().anyMatch(value -> value.trim().equals("*"))) {
+            return Optional.empty();
+        }
+
+        List<String> directives = new ArrayList<>();
+        for (String value : headers.allValues("Cache-Control")) {
+            for (String directive : value.split(",")) {
+                directives.add(directive.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        if (directives.contains("no-store")) {
+            return Optional.empty();
+        }
+        if (directives.contains("no-cache")) {
+            return Optional.of(now);
+        }
+
+        long age = headers.firstValueAsLong("Age").orElse(0);
+        for (String directive : directives) {
+            if (directive.startsWith("max-age=")) {
+                try {
+                    long maxAge = Long.parseLong(directive.substring("max-age=".length()).replace("\"", ""));
+                    return Optional.of(now.plusSeconds(Math.max(0, maxAge - age)));
+                } catch (NumberFormatException e) {
+                    return Optional.of(now);
+                }
+            }
+        }
+
+        return Optional.of(headers.firstValue("Expires")
+                                  .flatMap(HttpResponseCache::parseDate)
+                                  .orElse(now.plus(defaultLifetime)));
+    }
+
+    private static Optional<Instant> parseDate(String date) {
+        try {
+            return Optional.of(ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private synchronized void commit(String key, Path temporaryFile, Optional<String> entityTag, Optional<String> lastModified, Instant expires, Duration lifetime) throws IOException {
+        remove(key);
+        Path body = directory.resolve(key + BODY_SUFFIX);
+        Files.move(temporaryFile, body, StandardCopyOption.REPLACE_EXISTING);
+        writeMetadata(key, entityTag, lastModified, expires, lifetime);
+
+        long length = Files.size(body);
+        entries.put(key, length);
+        size += length;
+        evict();
+    }
+
+    /**
+     * Deletes the least recently used responses until the total size is within the limit
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while ((size > maxSize) && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            iterator.remove();
+            size -= entry.getValue();
+            deleteFiles(entry.getKey());
+        }
+    }
+
+    private void remove(String key) {
+        Long length = entries.remove(key);
+        if (length != null) {
+            size -= length;
+        }
+        deleteFiles(key);
+    }
+
+    private void deleteFiles(String key) {
+        try {
+            Files.deleteIfExists(directory.resolve(key + BODY_SUFFIX));
+            Files.deleteIfExists(directory.resolve(key + METADATA_SUFFIX));
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete cached response {}", key, e);
+        }
+    }
+
+    private Properties readMetadata(String key) throws IOException {
+        Properties metadata = new Properties();
+        try (Reader reader = Files.newBufferedReader(directory.resolve(key + METADATA_SUFFIX), StandardCharsets.UTF_8)) {
+            metadata.load(reader);
+        }
+        return metadata;
+    }
+
+    private void writeMetadata(String key, Optional<String> entityTag, Optional<String> lastModified, Instant expires, Duration lifetime) throws IOException {
+        Properties metadata = new Properties();
+        entityTag.ifPresent(value -> metadata.setProperty(ENTITY_TAG, value));
+        lastModified.ifPresent(value -> metadata.setProperty(LAST_MODIFIED, value));
+        metadata.setProperty(EXPIRES, Long.toString(expires.toEpochMilli()));
+        metadata.setProperty(LIFETIME, Long.toString(lifetime.toMillis()));
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(key + METADATA_SUFFIX), StandardCharsets.UTF_8)) {
+            metadata.store(writer, null);
+        }
+    }
+
+    /**
+     * Restores the entries stored by a previous run. Left-over temporary files of interrupted downloads are deleted.
+     */
+    private void loadEntries() throws IOException {
+        record StoredBody(String key, long length, FileTime lastAccess) {
+        }
+
+        List<StoredBody> bodies = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(BODY_SUFFIX)) {
+                    String key = fileName.substring(0, fileName.length() - BODY_SUFFIX.length());
+                    if (Files.exists(directory.resolve(key + METADATA_SUFFIX))) {
+                        bodies.add(new StoredBody(key, Files.size(file), Files.getLastModifiedTime(file)));
+                    } else {
+                        Files.delete(file);
+                    }
+                } else if (fileName.endsWith(".tmp")) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        bodies.sort((first, second) -> first.lastAccess().compareTo(second.lastAccess()));
+        for (StoredBody body : bodies) {
+            entries.put(body.key(), body.length());
+            size += body.length();
+        }
+        evict();
+    }
+
+    @FunctionalInterface
+    private interface Commit {
+        void run() throws IOException;
+    }
+
+    /**
+     * Copies the bytes read to a temporary file. When the stream is closed after it was read completely, the file is
+     * committed to the cache. Otherwise, it is deleted.
+     */
+    private static class StoringInputStream extends FilterInputStream {
+
+        private final OutputStream copy;
+        private final Path temporaryFile;
+        private final Commit commit;
+        private boolean completed;
+        private boolean failed;
+        private boolean closed;
+
+        StoringInputStream(InputStream in, OutputStream copy, Path temporaryFile, Commit commit) {
+            super(in);
+            this.copy = copy;
+            this.temporaryFile = temporaryFile;
+            this.commit = commit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value == -1) {
+                completed = true;
+            } else {
+                write(new byte[] {(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count == -1) {
+                completed = true;
+            } else {
+                write(buffer, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes are not copied, thus the response cannot be stored anymore
+            failed = true;
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void write(byte[] buffer, int offset, int length) {
+            if (failed) {
+                return;
+            }
+            try {
+                copy.write(buffer, offset, length);
+            } catch (IOException e) {
+                LOGGER.debug("Could not store response", e);
+                failed = true;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                try {
+                    copy.close();
+                    if (completed && !failed) {
+                        commit.run();
+                    }
+                } catch (IOException e) {
+                    LOGGER.debug("Could not store response", e);
+                } finally {
+                    Files.deleteIfExists(temporaryFile);
+                }
+            }
+        }
+    }
+}
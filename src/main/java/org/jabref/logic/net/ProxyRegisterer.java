@@ -33,5 +33,8 @@ public class ProxyRegisterer {
             System.setProperty("java.net.useSystemProxies", "true");
             System.setProperty("proxySet", "true");
         }
+
+        // The shared client of URLDownload needs to pick up the new settings
+        URLDownload.resetHttpClient();
     }
 }
@@ -7,18 +7,24 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.net.Authenticator;
 import java.net.CookieHandler;
 import java.net.CookieManager;
 import java.net.CookiePolicy;
 import java.net.HttpCookie;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -27,11 +33,13 @@ import java.nio.file.StandardCopyOption;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -41,6 +49,7 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
 import org.jabref.logic.importer.FetcherClientException;
+import org.jabref.logic.importer.FetcherRateLimiter;
 import org.jabref.logic.importer.FetcherServerException;
 import org.jabref.logic.util.io.FileUtil;
 
@@ -62,14 +71,31 @@ import org.slf4j.LoggerFactory;
  * String contentType = dl.getMimeType();
  * </code>
  * <br/><br/>
- * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * HTTP(S) downloads ({@link #asString()}, {@link #asInputStream()}, {@link #toFile(Path)}) are sent using an
+ * {@link HttpClient} shared by all instances. It keeps the connections alive (and uses HTTP/2 if the server supports it),
+ * thus subsequent requests to the same host do not need to open a new connection. If a {@link HttpResponseCache} is
+ * configured (see {@link #setResponseCache(HttpResponseCache)}), the responses of GET requests are cached on disk.
+ * <br/><br/>
+ * {@link #openConnection()} still opens a new {@link URLConnection} on each call.
+ * <br/><br/>
+ * All requests respect the limits registered at the {@link FetcherRateLimiter} for the host. If the server responds
+ * with status 429 (Too Many Requests) or 503 (Service Unavailable) and a <code>Retry-After</code> header, the request
+ * is repeated after the given time.
  */
 public class URLDownload {
 
     public static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/108.0.0.0 Safari/537.36";
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final FetcherRateLimiter RATE_LIMITER = FetcherRateLimiter.getInstance();
+    private static final int MAX_RETRIES = 3;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+    // Longer pauses are not waited for, the request fails instead
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(1);
+
+    private static HttpClient httpClient;
+    private static SSLContext httpClientSslContext;
+    private static volatile HttpResponseCache responseCache;
 
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
@@ -134,6 +160,8 @@ public class URLDownload {
             // Install all-trusting host verifier
             HostnameVerifier allHostsValid = (hostname, session) -> true;
             HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
+
+            setHttpClientSslContext(context);
         } catch (Exception e) {
             LOGGER.error("A problem occurred when bypassing SSL verification", e);
         }
@@ -148,11 +176,50 @@ public class URLDownload {
         try {
             HttpsURLConnection.setDefaultSSLSocketFactory(socketFactory);
             HttpsURLConnection.setDefaultHostnameVerifier(verifier);
+            setHttpClientSslContext(null);
         } catch (Exception e) {
             LOGGER.error("A problem occurred when reset SSL verification", e);
         }
     }
 
+    /**
+     * Sets the cache for the responses of GET requests. <code>null</code> disables caching.
+     */
+    public static void setResponseCache(HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
+    /**
+     * Drops the shared client, so that the next request creates a new one using the current proxy settings
+     */
+    static synchronized void resetHttpClient() {
+        httpClient = null;
+    }
+
+    private static synchronized void setHttpClientSslContext(SSLContext sslContext) {
+        httpClientSslContext = sslContext;
+        httpClient = null;
+    }
+
+    private static synchronized HttpClient getHttpClient() {
+        if (httpClient == null) {
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                                                   .version(HttpClient.Version.HTTP_2)
+                                                   .followRedirects(HttpClient.Redirect.NORMAL)
+                                                   .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
+                                                   .cookieHandler(new DefaultCookieHandler());
+            if (httpClientSslContext != null) {
+                builder.sslContext(httpClientSslContext);
+            }
+            Authenticator authenticator = Authenticator.getDefault();
+            if (authenticator != null) {
+                builder.authenticator(authenticator);
+            }
+            httpClient = builder.build();
+        }
+        return httpClient;
+    }
+
     public URL getSource() {
         return source;
     }
@@ -246,7 +313,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws IOException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -256,7 +323,14 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws IOException {
-        return asString(encoding, this.openConnection());
+        if (getHttpUri().isEmpty()) {
+            return asString(encoding, this.openConnection());
+        }
+        try (InputStream input = new BufferedInputStream(sendRequest());
+             Writer output = new StringWriter()) {
+            copy(input, output, encoding);
+            return output.toString();
+        }
     }
 
     /**
@@ -307,7 +381,7 @@ public class URLDownload {
      * @param destination the destination file path.
      */
     public void toFile(Path destination) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+        try (InputStream input = new BufferedInputStream(getHttpUri().isPresent() ? sendRequest() : this.openConnection().getInputStream())) {
             Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.warn("Could not copy input", e);
@@ -319,6 +393,10 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws IOException {
+        if (getHttpUri().isPresent()) {
+            return sendRequest();
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         if ((urlConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) || (urlConnection.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
@@ -367,6 +445,152 @@ public class URLDownload {
         }
     }
 
+    /**
+     * @return the URI of the source, if it can be downloaded using the shared {@link HttpClient}
+     */
+    private Optional<URI> getHttpUri() {
+        String protocol = source.getProtocol();
+        if (!"http".equalsIgnoreCase(protocol) && !"https".equalsIgnoreCase(protocol)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(source.toURI());
+        } catch (URISyntaxException e) {
+            // HttpURLConnection accepts some malformed URLs (e.g., containing spaces)
+            LOGGER.debug("Could not convert {} to URI", source, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Sends the request using the shared {@link HttpClient}. The responses of GET requests are served from (and stored
+     * in) the response cache, if one is configured.
+     *
+     * @return the body of the response
+     */
+    private ProgressInputStream sendRequest() throws IOException {
+        URI uri = getHttpUri().orElseThrow();
+        HttpResponseCache cache = responseCache;
+        if ((cache == null) || !this.postData.isEmpty()) {
+            return sendRequest(uri, null, null, Optional.empty());
+        }
+
+        String cacheKey = HttpResponseCache.getKey(uri, parameters);
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = cache.get(cacheKey);
+        if (cachedResponse.isPresent() && cachedResponse.get().isFresh()) {
+            Optional<InputStream> cachedBody = cache.open(cachedResponse.get());
+            if (cachedBody.isPresent()) {
+                LOGGER.debug("Using cached response for {}", uri);
+                return new ProgressInputStream(cachedBody.get(), cachedResponse.get().length());
+            }
+            // Evicted meanwhile
+            cachedResponse = Optional.empty();
+        }
+        return sendRequest(uri, cache, cacheKey, cachedResponse);
+    }
+
+    /**
+     * @param cache          the cache to store the response in, <code>null</code> if the response is not cached
+     * @param cachedResponse the stored response to revalidate
+     */
+    private ProgressInputStream sendRequest(URI uri, HttpResponseCache cache, String cacheKey, Optional<HttpResponseCache.CachedResponse> cachedResponse) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri);
+        try {
+            this.parameters.forEach(request::header);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid request header for " + uri, e);
+        }
+        if (this.postData.isEmpty()) {
+            request.GET();
+        } else {
+            if (!this.parameters.containsKey("Content-Type")) {
+                // Same default as HttpURLConnection
+                request.header("Content-Type", "application/x-www-form-urlencoded");
+            }
+            request.POST(HttpRequest.BodyPublishers.ofString(this.postData, StandardCharsets.ISO_8859_1));
+        }
+        cachedResponse.ifPresent(cached -> {
+            cached.entityTag().ifPresent(entityTag -> request.header("If-None-Match", entityTag));
+            cached.lastModified().ifPresent(lastModified -> request.header("If-Modified-Since", lastModified));
+        });
+
+        HttpRequest builtRequest = request.build();
+        String host = uri.getHost();
+        HttpResponse<InputStream> response;
+        int status;
+        for (int attempt = 0; ; attempt++) {
+            try (FetcherRateLimiter.Permit permit = RATE_LIMITER.acquire(host)) {
+                response = getHttpClient().send(builtRequest, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Download of " + uri + " was interrupted");
+            }
+            status = response.statusCode();
+            Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+            if (!shouldRetry(host, status, retryAfter.orElse(null), attempt)) {
+                break;
+            }
+            response.body().close();
+        }
+        RATE_LIMITER.updateRate(host,
+                response.headers().firstValue("X-Rate-Limit-Limit").orElse(null),
+                response.headers().firstValue("X-Rate-Limit-Interval").orElse(null));
+
+        if ((status == 304) && cachedResponse.isPresent()) {
+            response.body().close();
+            Optional<InputStream> cachedBody = cache.revalidate(cachedResponse.get(), response.headers());
+            if (cachedBody.isEmpty()) {
+                LOGGER.debug("Cached response for {} was removed meanwhile, sending the request again", uri);
+                return sendRequest(uri, cache, cacheKey, Optional.empty());
+            }
+            LOGGER.debug("Cached response for {} is still valid", uri);
+            return new ProgressInputStream(cachedBody.get(), cachedResponse.get().length());
+        }
+        if (status >= 400) {
+            response.body().close();
+            if (status < 500) {
+                throw new IOException(new FetcherClientException("Encountered HTTP Status code " + status));
+            }
+            throw new IOException(new FetcherServerException("Encountered HTTP Status Code " + status));
+        }
+
+        long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        InputStream body = response.body();
+        if ((cache != null) && (status == 200)) {
+            body = cache.store(cacheKey, response.headers(), body);
+        }
+        return new ProgressInputStream(body, contentLength);
+    }
+
+    /**
+     * Decides whether a request is repeated, because the server asked to slow down (status 429 or 503). If it is
+     * repeated, the host is paused for the time given in the <code>Retry-After</code> header, thus other requests to
+     * the host wait, too.
+     *
+     * @param attempt the number of the failed attempt, starting at 0
+     */
+    private static boolean shouldRetry(String host, int status, String retryAfter, int attempt) {
+        if ((status != 429) && (status != 503)) {
+            return false;
+        }
+        Optional<Duration> delay = FetcherRateLimiter.parseRetryAfter(retryAfter, Instant.now());
+        if (delay.isEmpty() && (status == 429)) {
+            // Back off exponentially if the server does not tell how long to wait
+            delay = Optional.of(DEFAULT_RETRY_AFTER.multipliedBy(1L << attempt));
+        }
+        if (delay.isEmpty()) {
+            return false;
+        }
+        if ((attempt >= MAX_RETRIES) || (delay.get().compareTo(MAX_RETRY_AFTER) > 0)) {
+            // The host is not paused, otherwise a single long Retry-After would block all other requests to it
+            LOGGER.debug("Giving up on request to {} after {} attempts (retry after {})", host, attempt + 1, delay.get());
+            return false;
+        }
+        RATE_LIMITER.pause(host, delay.get());
+        LOGGER.debug("Server {} responded with status {}, retrying after {}", host, status, delay.get());
+        return true;
+    }
+
     /**
      * Open a connection to this object's URL (with specified settings). If accessing an HTTP URL, don't forget
      * to close the resulting connection after usage.
@@ -374,19 +598,22 @@ public class URLDownload {
      * @return an open connection
      */
     public URLConnection openConnection() throws IOException {
-        URLConnection connection = this.source.openConnection();
-        connection.setConnectTimeout((int) connectTimeout.toMillis());
-        for (Entry<String, String> entry : this.parameters.entrySet()) {
-            connection.setRequestProperty(entry.getKey(), entry.getValue());
-        }
-        if (!this.postData.isEmpty()) {
-            connection.setDoOutput(true);
-            try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
-                wr.writeBytes(this.postData);
+        String host = this.source.getHost();
+        URLConnection connection;
+        for (int attempt = 0; ; attempt++) {
+            try (FetcherRateLimiter.Permit permit = RATE_LIMITER.acquire(host)) {
+                connection = sendConnectionRequest();
             }
+            if (!(connection instanceof HttpURLConnection httpConnection)
+                    || !shouldRetry(host, httpConnection.getResponseCode(), httpConnection.getHeaderField("Retry-After"), attempt)) {
+                break;
+            }
+            httpConnection.disconnect();
         }
 
         if (connection instanceof HttpURLConnection lConnection) {
+            RATE_LIMITER.updateRate(host, lConnection.getHeaderField("X-Rate-Limit-Limit"), lConnection.getHeaderField("X-Rate-Limit-Interval"));
+
             // normally, 3xx is redirect
             int status = lConnection.getResponseCode();
 
@@ -409,6 +636,30 @@ public class URLDownload {
         return connection;
     }
 
+    /**
+     * Opens the connection, sends the request and, for HTTP, reads the status and the headers of the response
+     */
+    private URLConnection sendConnectionRequest() throws IOException {
+        URLConnection connection = this.source.openConnection();
+        connection.setConnectTimeout((int) connectTimeout.toMillis());
+        for (Entry<String, String> entry : this.parameters.entrySet()) {
+            connection.setRequestProperty(entry.getKey(), entry.getValue());
+        }
+        if (!this.postData.isEmpty()) {
+            connection.setDoOutput(true);
+            try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
+                wr.writeBytes(this.postData);
+            }
+        }
+        if (connection instanceof HttpURLConnection httpConnection) {
+            httpConnection.getResponseCode();
+        }
+        return connection;
+    }
+
+    /**
+     * Sets the connect timeout of {@link #openConnection()}. The shared client always uses a connect timeout of 30 seconds.
+     */
     public void setConnectTimeout(Duration connectTimeout) {
         if (connectTimeout != null) {
             this.connectTimeout = connectTimeout;
@@ -418,4 +669,28 @@ public class URLDownload {
     public Duration getConnectTimeout() {
         return connectTimeout;
     }
+
+    /**
+     * Several fetchers install a {@link CookieManager} as default {@link CookieHandler} to get a session cookie first.
+     * The shared client always uses the current default handler, as {@link HttpURLConnection} does.
+     */
+    private static class DefaultCookieHandler extends CookieHandler {
+
+        @Override
+        public Map<String, List<String>> get(URI uri, Map<String, List<String>> requestHeaders) throws IOException {
+            CookieHandler cookieHandler = CookieHandler.getDefault();
+            if (cookieHandler == null) {
+                return Map.of();
+            }
+            return cookieHandler.get(uri, requestHeaders);
+        }
+
+        @Override
+        public void put(URI uri, Map<String, List<String>> responseHeaders) throws IOException {
+            CookieHandler cookieHandler = CookieHandler.getDefault();
+            if (cookieHandler != null) {
+                cookieHandler.put(uri, responseHeaders);
+            }
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package org.jabref.logic.pdf.search;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects all hits of a query.
+ * <p>
+ * In contrast to {@link org.apache.lucene.search.TopScoreDocCollector}, the number of hits is not limited and no
+ * priority queue is maintained. The hits are grouped by the path of their linked file by
+ * {@link org.jabref.model.pdf.search.PdfSearchResults}.
+ */
+class AllHitsCollector extends SimpleCollector {
+
+    private final List<ScoreDoc> hits = new ArrayList<>();
+    private Scorable scorer;
+    private int docBase;
+
+    @Override
+    protected void doSetNextReader(LeafReaderContext context) {
+        docBase = context.docBase;
+    }
+
+    @Override
+    public void setScorer(Scorable scorer) {
+        this.scorer = scorer;
+    }
+
+    @Override
+    public void collect(int doc) throws IOException {
+        hits.add(new ScoreDoc(docBase + doc, scorer.score()));
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return ScoreMode.COMPLETE;
+    }
+
+    /**
+     * @return the hits (with their global document id), in the order of the index
+     */
+    List<ScoreDoc> getHits() {
+        return hits;
+    }
+}
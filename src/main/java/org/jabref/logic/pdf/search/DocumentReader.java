@@ -7,8 +7,11 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.jabref.gui.LibraryTab;
@@ -43,8 +46,11 @@ public final class DocumentReader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
 
-    private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
-    private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
+    /**
+     * PDFs with at least twice this number of pages are read in ranges of this number of pages at the same time
+     */
+    private static final int PAGES_PER_RANGE = 50;
+    private static final int MAX_CONCURRENT_RANGES = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
 
     private final BibEntry entry;
     private final FilePreferences filePreferences;
@@ -91,39 +97,98 @@ public final class DocumentReader {
     }
 
     private List<Document> readPdfContents(LinkedFile pdf, Path resolvedPdfPath) {
+        Optional<String> modified = readModificationTime(resolvedPdfPath);
         List<Document> pages = new ArrayList<>();
         try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
-            for (int pageNumber = 0; pageNumber < pdfDocument.getNumberOfPages(); pageNumber++) {
-                Document newDocument = new Document();
-                addIdentifiers(newDocument, pdf.getLink());
-                addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                try {
-                    addContentIfNotEmpty(pdfDocument, newDocument, pageNumber);
-                } catch (IOException e) {
-                    LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPdfPath.toAbsolutePath(), e);
-                }
-                pages.add(newDocument);
+            int numberOfPages = pdfDocument.getNumberOfPages();
+            if ((numberOfPages < 2 * PAGES_PER_RANGE) || (MAX_CONCURRENT_RANGES == 1)) {
+                pages.addAll(readPages(pdfDocument, pdf.getLink(), resolvedPdfPath, modified, 0, numberOfPages));
+            } else {
+                pages.addAll(readPagesConcurrently(pdf.getLink(), resolvedPdfPath, modified, numberOfPages));
             }
         } catch (IOException e) {
             LOGGER.warn("Could not read {}", resolvedPdfPath.toAbsolutePath(), e);
         }
         if (pages.isEmpty()) {
-            Document newDocument = new Document();
-            addIdentifiers(newDocument, pdf.getLink());
-            addMetaData(newDocument, resolvedPdfPath, 0);
+            pages.add(createPage(pdf.getLink(), modified, 0));
+        }
+        return pages;
+    }
+
+    /**
+     * Reads the pages in ranges of {@link #PAGES_PER_RANGE} pages at the same time. As a {@link PDDocument} must not be
+     * accessed concurrently, each range is read using its own handle of the file.
+     */
+    private List<Document> readPagesConcurrently(String link, Path resolvedPdfPath, Optional<String> modified, int numberOfPages) {
+        int numberOfRanges = (numberOfPages + PAGES_PER_RANGE - 1) / PAGES_PER_RANGE;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(numberOfRanges, MAX_CONCURRENT_RANGES));
+        try {
+            List<Future<List<Document>>> ranges = new ArrayList<>(numberOfRanges);
+            for (int firstPage = 0; firstPage < numberOfPages; firstPage += PAGES_PER_RANGE) {
+                int startPage = firstPage;
+                int endPage = Math.min(firstPage + PAGES_PER_RANGE, numberOfPages);
+                ranges.add(executor.submit(() -> {
+                    try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
+                        return readPages(pdfDocument, link, resolvedPdfPath, modified, startPage, endPage);
+                    }
+                }));
+            }
+
+            List<Document> pages = new ArrayList<>(numberOfPages);
+            for (int range = 0; range < numberOfRanges; range++) {
+                try {
+                    pages.addAll(ranges.get(range).get());
+                } catch (ExecutionException e) {
+                    int startPage = range * PAGES_PER_RANGE;
+                    int endPage = Math.min(startPage + PAGES_PER_RANGE, numberOfPages);
+                    LOGGER.warn("Could not read pages {} to {} of {}", startPage, endPage - 1, resolvedPdfPath.toAbsolutePath(), e.getCause());
+                    for (int pageNumber = startPage; pageNumber < endPage; pageNumber++) {
+                        pages.add(createPage(link, modified, pageNumber));
+                    }
+                }
+            }
+            return pages;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Reading {} was interrupted", resolvedPdfPath.toAbsolutePath(), e);
+            return List.of();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Document> readPages(PDDocument pdfDocument, String link, Path resolvedPdfPath, Optional<String> modified, int startPage, int endPage) {
+        PDFTextStripper pdfTextStripper = new PDFTextStripper();
+        pdfTextStripper.setLineSeparator("\n");
+        List<Document> pages = new ArrayList<>(endPage - startPage);
+        for (int pageNumber = startPage; pageNumber < endPage; pageNumber++) {
+            Document newDocument = createPage(link, modified, pageNumber);
+            try {
+                addContentIfNotEmpty(pdfDocument, pdfTextStripper, newDocument, pageNumber);
+            } catch (IOException e) {
+                LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPdfPath.toAbsolutePath(), e);
+            }
             pages.add(newDocument);
         }
         return pages;
     }
 
-    private void addMetaData(Document newDocument, Path resolvedPdfPath, int pageNumber) {
+    private Document createPage(String link, Optional<String> modified, int pageNumber) {
+        Document newDocument = new Document();
+        addIdentifiers(newDocument, link);
+        modified.ifPresent(value -> addStringField(newDocument, MODIFIED, value));
+        addStringField(newDocument, PAGE_NUMBER, String.valueOf(pageNumber));
+        return newDocument;
+    }
+
+    private Optional<String> readModificationTime(Path resolvedPdfPath) {
         try {
             BasicFileAttributes attributes = Files.readAttributes(resolvedPdfPath, BasicFileAttributes.class);
-            addStringField(newDocument, MODIFIED, String.valueOf(attributes.lastModifiedTime().to(TimeUnit.SECONDS)));
+            return Optional.of(String.valueOf(attributes.lastModifiedTime().to(TimeUnit.SECONDS)));
         } catch (IOException e) {
             LOGGER.error("Could not read timestamp for {}", resolvedPdfPath, e);
+            return Optional.empty();
         }
-        addStringField(newDocument, PAGE_NUMBER, String.valueOf(pageNumber));
     }
 
     private void addStringField(Document newDocument, String field, String value) {
@@ -137,14 +202,38 @@ public final class DocumentReader {
         return !StringUtil.isNullOrEmpty(value);
     }
 
+    /**
+     * Joins the lines of a text extracted from a PDF: A hyphen at the end of a line is removed together with the line
+     * break. Any other line break is replaced by a space, unless it follows a period (i.e., the end of a sentence).
+     * <p>
+     * A line break following a joined line break is kept, thus empty lines (e.g., between paragraphs) are kept as one
+     * line break. The text is processed in a single pass.
+     */
     public static String mergeLines(String text) {
-        String mergedHyphenNewlines = HYPHEN_LINEBREAK_PATTERN.matcher(text).replaceAll("");
-        return LINEBREAK_WITHOUT_PERIOD_PATTERN.matcher(mergedHyphenNewlines).replaceAll("$1 ");
+        StringBuilder merged = new StringBuilder(text.length());
+        // Whether the last character may be followed by a line break which is replaced. Each character takes part in at most one replacement.
+        boolean mergeable = false;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if ((character == '-') && (i + 1 < text.length()) && (text.charAt(i + 1) == '\n')) {
+                i++;
+                continue;
+            }
+            if ((character == '\n') && mergeable) {
+                char previous = merged.charAt(merged.length() - 1);
+                if ((previous != '.') && (previous != '\\')) {
+                    merged.append(' ');
+                    mergeable = false;
+                    continue;
+                }
+            }
+            merged.append(character);
+            mergeable = true;
+        }
+        return merged.toString();
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, int pageNumber) throws IOException {
-        PDFTextStripper pdfTextStripper = new PDFTextStripper();
-        pdfTextStripper.setLineSeparator("\n");
+    private void addContentIfNotEmpty(PDDocument pdfDocument, PDFTextStripper pdfTextStripper, Document newDocument, int pageNumber) throws IOException {
         // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
         pdfTextStripper.setStartPage(pageNumber + 1);
         pdfTextStripper.setEndPage(pageNumber + 1);
@@ -2,9 +2,11 @@ package org.jabref.logic.pdf.search;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.model.pdf.search.EnglishStemAnalyzer;
@@ -12,18 +14,34 @@ import org.jabref.model.pdf.search.PdfSearchResults;
 import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.strings.StringUtil;
 
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.document.Document;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.TextFragment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.jabref.model.pdf.search.SearchFieldConstants.ANNOTATIONS;
+import static org.jabref.model.pdf.search.SearchFieldConstants.CONTENT;
+import static org.jabref.model.pdf.search.SearchFieldConstants.MODIFIED;
+import static org.jabref.model.pdf.search.SearchFieldConstants.PAGE_NUMBER;
+import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PDF_FIELDS;
 
 public final class PdfSearcher {
@@ -69,7 +87,7 @@ public final class PdfSearcher {
             IndexSearcher searcher = new IndexSearcher(reader);
             TopDocs results = searcher.search(query, maxHits);
             for (ScoreDoc scoreDoc : results.scoreDocs) {
-                resultDocs.add(new SearchResult(searcher, query, scoreDoc));
+                resultDocs.add(createSearchResult(searcher, query, scoreDoc));
             }
             return new PdfSearchResults(resultDocs);
         } catch (ParseException e) {
@@ -77,4 +95,96 @@ public final class PdfSearcher {
             return new PdfSearchResults();
         }
     }
+
+    /**
+     * Search for all results matching a query in the Lucene search index. In contrast to {@link #search(String, int)},
+     * the number of results is not limited, thus all linked files containing a match are found.
+     *
+     * @param searchString a pattern to search for matching entries in the index, must not be null
+     * @return a result set of all documents that have matches in any fields
+     */
+    public PdfSearchResults searchAll(final String searchString) throws IOException {
+        if (StringUtil.isBlank(Objects.requireNonNull(searchString, "The search string was null."))) {
+            return new PdfSearchResults();
+        }
+
+        Optional<IndexWriter> optionalIndexWriter = indexer.getIndexWriter();
+        if (optionalIndexWriter.isEmpty()) {
+            LOGGER.info("No index writer present, returning empty result set.");
+            return new PdfSearchResults();
+        }
+        try (IndexReader reader = DirectoryReader.open(optionalIndexWriter.get())) {
+            Query query = new MultiFieldQueryParser(PDF_FIELDS, englishStemAnalyzer).parse(searchString);
+            IndexSearcher searcher = new IndexSearcher(reader);
+            AllHitsCollector collector = new AllHitsCollector();
+            searcher.search(query, collector);
+
+            List<SearchResult> resultDocs = new ArrayList<>(collector.getHits().size());
+            for (ScoreDoc scoreDoc : collector.getHits()) {
+                resultDocs.add(createSearchResult(searcher, query, scoreDoc));
+            }
+            // PdfSearchResults groups the results by path
+            return new PdfSearchResults(resultDocs);
+        } catch (ParseException e) {
+            LOGGER.warn("Could not parse query: '{}'", searchString, e);
+            return new PdfSearchResults();
+        }
+    }
+
+    /**
+     * Reads the path, page and modification time of a hit. The snippets are created by {@link #highlight(Query, String, int)}
+     * as soon as they are needed.
+     */
+    private SearchResult createSearchResult(IndexSearcher searcher, Query query, ScoreDoc scoreDoc) throws IOException {
+        Document document = searcher.storedFields().document(scoreDoc.doc, Set.of(PATH, PAGE_NUMBER, MODIFIED));
+        String path = getFieldContents(document, PATH);
+        int pageNumber = Integer.parseInt(getFieldContents(document, PAGE_NUMBER));
+        long modified = Long.parseLong(getFieldContents(document, MODIFIED));
+        return new SearchResult(path, pageNumber, modified, scoreDoc.score, () -> highlight(query, path, pageNumber));
+    }
+
+    /**
+     * Creates the snippets of a page matching the query. The page is looked up by its path and page number, as the
+     * document ids change when the index is modified.
+     */
+    private SearchResult.Highlights highlight(Query query, String path, int pageNumber) {
+        Optional<IndexWriter> optionalIndexWriter = indexer.getIndexWriter();
+        if (optionalIndexWriter.isEmpty()) {
+            return SearchResult.Highlights.EMPTY;
+        }
+        try (IndexReader reader = DirectoryReader.open(optionalIndexWriter.get())) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            Query pageQuery = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(PATH, path)), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term(PAGE_NUMBER, String.valueOf(pageNumber))), BooleanClause.Occur.FILTER)
+                    .build();
+            TopDocs page = searcher.search(pageQuery, 1);
+            if (page.scoreDocs.length == 0) {
+                LOGGER.debug("Page {} of {} is not indexed anymore", pageNumber, path);
+                return SearchResult.Highlights.EMPTY;
+            }
+            Document document = searcher.storedFields().document(page.scoreDocs[0].doc, Set.of(CONTENT, ANNOTATIONS));
+            Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(query));
+            return new SearchResult.Highlights(
+                    getHighlightedFragments(highlighter, CONTENT, getFieldContents(document, CONTENT)),
+                    getHighlightedFragments(highlighter, ANNOTATIONS, getFieldContents(document, ANNOTATIONS)));
+        } catch (IOException e) {
+            LOGGER.warn("Could not highlight page {} of {}", pageNumber, path, e);
+            return SearchResult.Highlights.EMPTY;
+        }
+    }
+
+    private List<String> getHighlightedFragments(Highlighter highlighter, String field, String text) throws IOException {
+        try (TokenStream tokenStream = englishStemAnalyzer.tokenStream(field, text)) {
+            TextFragment[] fragments = highlighter.getBestTextFragments(tokenStream, text, true, 10);
+            return Arrays.stream(fragments).map(TextFragment::toString).toList();
+        } catch (InvalidTokenOffsetsException e) {
+            return List.of();
+        }
+    }
+
+    private static String getFieldContents(Document document, String field) {
+        String value = document.get(field);
+        return value == null ? "" : value;
+    }
 }
@@ -0,0 +1,146 @@
+package org.jabref.logic.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the latex free versions of field values (see {@link BibEntry#getFieldLatexFree(Field)}) across sessions.
+ * <p>
+ * Converting LaTeX to Unicode dominates the first search, sort, and group evaluation after opening a large library.
+ * Thus, the converted values are stored in a {@link MVStore} next to the fulltext index of the library.
+ * The store is bulk-loaded into the entries when the library is opened and written back when the library is closed.
+ * Values not found in the store are computed lazily by {@link BibEntry} as before.
+ * <p>
+ * The store maps the raw field content to its latex free version. Thus, identical contents are stored once
+ * and a changed field value can never hit a stale conversion.
+ */
+public class LatexFreeFieldCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatexFreeFieldCache.class);
+
+    private static final String MAP_NAME = "LatexFreeFields";
+
+    private final MVStore store;
+    private final MVMap<String, String> latexFreeValues;
+
+    public LatexFreeFieldCache(Path file) {
+        store = new MVStore.Builder().fileName(file.toAbsolutePath().toString()).compress().open();
+        latexFreeValues = store.openMap(MAP_NAME);
+    }
+
+    /**
+     * @return the path of the cache file. It is placed next to the {@link BibDatabaseContext#getFulltextIndexPath() fulltext index}.
+     */
+    public static Path getCachePath(BibDatabaseContext databaseContext) {
+        Path indexPath = databaseContext.getFulltextIndexPath();
+        return indexPath.resolveSibling(indexPath.getFileName() + ".latexfree.mv");
+    }
+
+    /**
+     * Loads the stored values into the entries of the given library. Does nothing for libraries which were never saved.
+     */
+    public static void load(BibDatabaseContext databaseContext) {
+        if (databaseContext.getDatabasePath().isEmpty()) {
+            return;
+        }
+        Path cachePath = getCachePath(databaseContext);
+        if (!Files.exists(cachePath)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cachePath)) {
+            int loaded = cache.loadInto(databaseContext.getDatabase());
+            LOGGER.debug("Loaded {} latex free field values for {} in {} ms", loaded, databaseContext.getDatabasePath().get(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // The cache is an optimization only, thus we continue without it
+            LOGGER.warn("Could not load latex free field cache", e);
+        }
+    }
+
+    /**
+     * Stores the latex free values of the given library. Does nothing for libraries which were never saved.
+     */
+    public static void store(BibDatabaseContext databaseContext) {
+        if (databaseContext.getDatabasePath().isEmpty()) {
+            return;
+        }
+        Path cachePath = getCachePath(databaseContext);
+        try {
+            Files.createDirectories(cachePath.getParent());
+        } catch (IOException e) {
+            LOGGER.warn("Could not create directory for latex free field cache", e);
+            return;
+        }
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cachePath)) {
+            cache.storeFrom(databaseContext.getDatabase());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not store latex free field cache", e);
+        }
+    }
+
+    /**
+     * Seeds the latex free caches of all entries of the database with the stored values.
+     *
+     * @return the number of field values found in the store
+     */
+    public int loadInto(BibDatabase database) {
+        int loaded = 0;
+        for (BibEntry entry : database.getEntries()) {
+            for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+                if (field.getKey() == InternalField.KEY_FIELD) {
+                    // the key field is never converted
+                    continue;
+                }
+                String latexFreeValue = latexFreeValues.get(field.getValue());
+                if (latexFreeValue != null) {
+                    entry.cacheLatexFreeField(field.getKey(), latexFreeValue);
+                    loaded++;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Replaces the content of the store by the latex free values of the current field contents of the database.
+     * Values computed in this session are added, values of contents no longer present in the library are dropped.
+     */
+    public void storeFrom(BibDatabase database) {
+        Map<String, String> current = new HashMap<>();
+        for (BibEntry entry : database.getEntries()) {
+            Map<Field, String> computed = entry.getCachedLatexFreeFields();
+            for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+                String rawValue = field.getValue();
+                String latexFreeValue = computed.get(field.getKey());
+                if (latexFreeValue == null) {
+                    latexFreeValue = latexFreeValues.get(rawValue);
+                }
+                if (latexFreeValue != null) {
+                    current.put(rawValue, latexFreeValue);
+                }
+            }
+        }
+        latexFreeValues.clear();
+        latexFreeValues.putAll(current);
+        store.commit();
+    }
+
+    @Override
+    public void close() {
+        store.close();
+    }
+}
@@ -0,0 +1,199 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.model.search.rules.SearchRules;
+
+/**
+ * Ranks entries by their relevance for a search query.
+ * <p>
+ * The metadata of an entry is scored using BM25F: the frequencies of a query term in the fields are weighted
+ * (see {@link #FIELD_WEIGHTS}) and normalized by the length of the field before they are saturated. If the query
+ * searches the linked files, the score of the best matching page (BM25 as well, computed by Lucene) is added.
+ * <p>
+ * The statistics of the library (document frequencies and average field lengths) are computed when the first entry is
+ * scored. Both the statistics and the full-text search take time for large libraries, thus the GUI ranks the entries
+ * with {@link #getTopEntries(Collection, int)} in a background task.
+ */
+public class RelevanceScorer {
+
+    public static final Map<Field, Double> FIELD_WEIGHTS = Map.of(
+            StandardField.TITLE, 3.0,
+            StandardField.AUTHOR, 2.0,
+            StandardField.KEYWORDS, 2.0,
+            StandardField.ABSTRACT, 1.0);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Field names, comparison operators and logical operators of a query like "title = quantum and author != einstein"
+     */
+    private static final Pattern GRAMMAR_TOKENS = Pattern.compile(
+            "[\\p{L}\\p{N}_-]+\\s*(!=|==|=|!~|~|\\s(contains|matches)\\s)|\\b(and|or|not)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final SearchQuery query;
+    private final Set<String> terms;
+    private final Collection<BibEntry> entries;
+    private Statistics statistics;
+
+    private record Statistics(Map<String, Double> inverseDocumentFrequencies, Map<Field, Double> averageFieldLengths) {
+    }
+
+    private record ScoredEntry(BibEntry entry, double score) {
+    }
+
+    /**
+     * @param entries all entries of the library, used to compute the statistics of the terms
+     */
+    public RelevanceScorer(SearchQuery query, Collection<BibEntry> entries) {
+        this.query = query;
+        this.terms = getTerms(query);
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the (lower case) terms the query searches for, without field names and operators.
+     */
+    public static Set<String> getTerms(SearchQuery query) {
+        String text = query.getQuery();
+        if (query.isGrammarBasedSearch()) {
+            text = GRAMMAR_TOKENS.matcher(text).replaceAll(" ");
+        }
+        return new LinkedHashSet<>(tokenize(text));
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD_CHARACTERS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Map<Field, List<String>> tokenizeFields(BibEntry entry) {
+        Map<Field, List<String>> tokens = new HashMap<>();
+        for (Field field : FIELD_WEIGHTS.keySet()) {
+            entry.getFieldLatexFree(field).ifPresent(value -> tokens.put(field, tokenize(value)));
+        }
+        return tokens;
+    }
+
+    private synchronized Statistics getStatistics() {
+        if (statistics == null) {
+            Map<String, Integer> documentFrequencies = new HashMap<>();
+            Map<Field, Long> fieldLengths = new HashMap<>();
+            Map<Field, Integer> fieldCounts = new HashMap<>();
+            int numberOfEntries = 0;
+            for (BibEntry entry : entries) {
+                numberOfEntries++;
+                Set<String> entryTerms = new LinkedHashSet<>();
+                for (Map.Entry<Field, List<String>> fieldTokens : tokenizeFields(entry).entrySet()) {
+                    fieldLengths.merge(fieldTokens.getKey(), (long) fieldTokens.getValue().size(), Long::sum);
+                    fieldCounts.merge(fieldTokens.getKey(), 1, Integer::sum);
+                    for (String token : fieldTokens.getValue()) {
+                        if (terms.contains(token)) {
+                            entryTerms.add(token);
+                        }
+                    }
+                }
+                entryTerms.forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+            }
+
+            Map<String, Double> inverseDocumentFrequencies = new HashMap<>();
+            for (String term : terms) {
+                int documentFrequency = documentFrequencies.getOrDefault(term, 0);
+                inverseDocumentFrequencies.put(term, Math.log(1 + ((numberOfEntries - documentFrequency + 0.5) / (documentFrequency + 0.5))));
+            }
+            Map<Field, Double> averageFieldLengths = new HashMap<>();
+            fieldCounts.forEach((field, count) -> averageFieldLengths.put(field, (double) fieldLengths.get(field) / count));
+            statistics = new Statistics(inverseDocumentFrequencies, averageFieldLengths);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the relevance of the entry, 0 if neither its fields nor its linked files contain a term of the query.
+     */
+    public double score(BibEntry entry) {
+        return getMetadataScore(entry) + getFullTextScore(entry);
+    }
+
+    double getMetadataScore(BibEntry entry) {
+        if (terms.isEmpty()) {
+            return 0;
+        }
+        Map<Field, List<String>> fieldTokens = tokenizeFields(entry);
+        if (fieldTokens.isEmpty()) {
+            return 0;
+        }
+
+        Statistics statistics = getStatistics();
+        double score = 0;
+        for (String term : terms) {
+            double weightedFrequency = 0;
+            for (Map.Entry<Field, List<String>> tokens : fieldTokens.entrySet()) {
+                long frequency = tokens.getValue().stream().filter(term::equals).count();
+                if (frequency > 0) {
+                    // The field may be set after the statistics were computed
+                    double averageFieldLength = statistics.averageFieldLengths().getOrDefault(tokens.getKey(), (double) tokens.getValue().size());
+                    double lengthNormalization = 1 - B + (B * tokens.getValue().size() / averageFieldLength);
+                    weightedFrequency += FIELD_WEIGHTS.get(tokens.getKey()) * frequency / lengthNormalization;
+                }
+            }
+            score += statistics.inverseDocumentFrequencies().get(term) * weightedFrequency / (K1 + weightedFrequency);
+        }
+        return score;
+    }
+
+    private double getFullTextScore(BibEntry entry) {
+        if (!query.getSearchFlags().contains(SearchRules.SearchFlags.FULLTEXT) || entry.getFiles().isEmpty()) {
+            return 0;
+        }
+        return query.getRule().getFulltextResults(query.getQuery(), entry).getSearchResults().stream()
+                    .mapToDouble(SearchResult::getLuceneScore)
+                    .max()
+                    .orElse(0);
+    }
+
+    /**
+     * Returns the k most relevant of the given entries, the most relevant first. Only k entries are kept while scoring.
+     */
+    public List<BibEntry> getTopEntries(Collection<BibEntry> candidates, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<ScoredEntry> topEntries = new PriorityQueue<>(Comparator.comparingDouble(ScoredEntry::score));
+        for (BibEntry candidate : candidates) {
+            double score = score(candidate);
+            if (topEntries.size() < k) {
+                topEntries.add(new ScoredEntry(candidate, score));
+            } else if (score > topEntries.peek().score()) {
+                topEntries.poll();
+                topEntries.add(new ScoredEntry(candidate, score));
+            }
+        }
+        return topEntries.stream()
+                         .sorted(Comparator.comparingDouble(ScoredEntry::score).reversed())
+                         .map(ScoredEntry::entry)
+                         .toList();
+    }
+}
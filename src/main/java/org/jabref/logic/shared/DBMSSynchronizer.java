@@ -3,6 +3,8 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +24,7 @@ import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
@@ -104,6 +107,28 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Listening method. Updates all shared {@link BibEntry}s changed by a batch change in one pass.
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+            synchronizeLocalMetaData();
+            pullWithLastEntry();
+            Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (FieldChangedEvent fieldChange : event.getFieldChanges()) {
+                if (!fieldChange.isFilteredOut()) {
+                    changedEntries.add(fieldChange.getBibEntry());
+                }
+            }
+            event.getBibEntries().stream()
+                 .filter(changedEntries::contains)
+                 .filter(this::isPresentLocalBibEntry)
+                 .forEach(this::synchronizeSharedEntry);
+            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+        }
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -1,5 +1,6 @@
 package org.jabref.model.database;
 
+import java.lang.reflect.Method;
 import java.math.BigInteger;
 import java.security.SecureRandom;
 import java.util.ArrayList;
@@ -8,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,7 +25,9 @@ import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.database.event.FieldChangeListenerRegistry;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.Month;
@@ -32,6 +36,7 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -57,6 +62,20 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    private final FieldChangeListenerRegistry fieldChangeListeners = new FieldChangeListenerRegistry();
+
+    /**
+     * Listeners registered at the {@link #eventBus} which subscribe to {@link FieldChangedEvent}s.
+     * Field changes are only posted to the event bus if there is at least one of them.
+     */
+    private final Set<Object> fieldChangeSubscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The batch change of the current thread, if any. Changes made by other threads (e.g., the synchronization of a
+     * shared database) are not part of the batch.
+     */
+    private final ThreadLocal<BatchChange> batchChange = new ThreadLocal<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -77,7 +96,9 @@ public class BibDatabase {
     }
 
     public BibDatabase() {
-        this.registerListener(new KeyChangeListener(this));
+        KeyChangeListener keyChangeListener = new KeyChangeListener(this);
+        this.registerListener(keyChangeListener);
+        this.fieldChangeListeners.register(FieldChangedEvent.class, InternalField.KEY_FIELD, keyChangeListener::listen);
     }
 
     /**
@@ -196,7 +217,7 @@ public class BibDatabase {
     public synchronized void insertEntries(List<BibEntry> newEntries, EntriesEventSource eventSource) {
         Objects.requireNonNull(newEntries);
         for (BibEntry entry : newEntries) {
-            entry.registerListener(this);
+            entry.attachToDatabase(this);
         }
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
@@ -238,7 +259,13 @@ public class BibDatabase {
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
+        boolean anyRemoved = entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                entry.detachFromDatabase(this);
+                return true;
+            }
+            return false;
+        });
         if (anyRemoved) {
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
@@ -547,12 +574,16 @@ public class BibDatabase {
      * <p>
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
+     * - {@link EntriesChangedEvent}
      * - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
      */
     public void registerListener(Object listener) {
         this.eventBus.register(listener);
+        if (subscribesTo(listener.getClass(), FieldChangedEvent.class)) {
+            fieldChangeSubscribers.add(listener);
+        }
     }
 
     /**
@@ -567,11 +598,114 @@ public class BibDatabase {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
+        fieldChangeSubscribers.remove(listener);
+    }
+
+    /**
+     * Returns the registry for typed listeners to field changes. In contrast to {@link #registerListener(Object)},
+     * these listeners can subscribe to a single field and are called without reflection.
+     */
+    public FieldChangeListenerRegistry getFieldChangeListeners() {
+        return fieldChangeListeners;
+    }
+
+    /**
+     * Called by the entries of this database on each change of a field.
+     * The event is passed to the {@link #getFieldChangeListeners() typed listeners} and to the listeners registered
+     * using {@link #registerListener(Object)}.
+     */
+    public void relayEntryChangeEvent(FieldChangedEvent event) {
+        fieldChangeListeners.dispatch(event);
+        BatchChange batch = batchChange.get();
+        if (batch != null) {
+            batch.fieldChanges.add(event);
+            return;
+        }
+        if (!fieldChangeSubscribers.isEmpty()) {
+            eventBus.post(event);
+        }
     }
 
-    @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
+    /**
+     * Starts a batch change, e.g., a cleanup of many entries.
+     * <p>
+     * Until the corresponding {@link #commitBatchChange()}, the listeners registered using {@link #registerListener(Object)}
+     * do not receive the {@link FieldChangedEvent}s of the current thread. On commit, they receive a single
+     * {@link EntriesChangedEvent} containing all changes instead, one per {@link EntriesEventSource} if the changes
+     * have different sources. Thus, consumers such as autosave or the shared database synchronization process a mass
+     * edit in one pass. The {@link #getFieldChangeListeners() typed listeners} are still notified immediately.
+     * <p>
+     * The batch belongs to the current thread: changes made by other threads meanwhile are posted as usual.
+     * Batch changes can be nested; the event is posted when the outermost batch is committed.
+     * Always call {@link #commitBatchChange()} in a <code>finally</code> block on the same thread.
+     */
+    public void beginBatchChange() {
+        BatchChange batch = batchChange.get();
+        if (batch == null) {
+            batch = new BatchChange();
+            batchChange.set(batch);
+        }
+        batch.depth++;
+    }
+
+    /**
+     * Returns true if the current thread started a batch change that is not committed yet.
+     */
+    public boolean isBatchChangeInProgress() {
+        return batchChange.get() != null;
+    }
+
+    /**
+     * Ends a batch change started by {@link #beginBatchChange()} on the current thread. If this ends the outermost batch
+     * and fields were changed, an {@link EntriesChangedEvent} is posted for each source of the changes.
+     */
+    public void commitBatchChange() {
+        BatchChange batch = batchChange.get();
+        if (batch == null) {
+            throw new IllegalStateException("No batch change in progress");
+        }
+        batch.depth--;
+        if (batch.depth > 0) {
+            return;
+        }
+        batchChange.remove();
+
+        // The source decides how the change is handled (e.g., changes pulled from a shared database are not pushed back)
+        Map<EntriesEventSource, List<FieldChangedEvent>> fieldChangesBySource = new LinkedHashMap<>();
+        for (FieldChangedEvent fieldChange : batch.fieldChanges) {
+            fieldChangesBySource.computeIfAbsent(fieldChange.getEntriesEventSource(), source -> new ArrayList<>()).add(fieldChange);
+        }
+        fieldChangesBySource.forEach((source, fieldChanges) -> eventBus.post(new EntriesChangedEvent(fieldChanges, source)));
+    }
+
+    private static class BatchChange {
+        /**
+         * Number of nested calls of {@link #beginBatchChange()} not yet committed
+         */
+        private int depth;
+        private final List<FieldChangedEvent> fieldChanges = new ArrayList<>();
+    }
+
+    /**
+     * Determines whether the given listener class has a method annotated with {@link Subscribe} receiving events of the given type
+     * or of one of its subtypes (e.g., {@link org.jabref.model.entry.event.FieldAddedOrRemovedEvent} for {@link FieldChangedEvent}).
+     */
+    private static boolean subscribesTo(Class<?> listenerClass, Class<?> eventType) {
+        for (Class<?> clazz = listenerClass; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class)
+                        && (method.getParameterCount() == 1)
+                        && (method.getParameterTypes()[0].isAssignableFrom(eventType) || eventType.isAssignableFrom(method.getParameterTypes()[0]))) {
+                    return true;
+                }
+            }
+            for (Class<?> implementedInterface : clazz.getInterfaces()) {
+                if (subscribesTo(implementedInterface, eventType)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
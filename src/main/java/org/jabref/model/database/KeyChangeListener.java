@@ -23,7 +23,9 @@ public class KeyChangeListener {
         this.database = database;
     }
 
-    @Subscribe
+    /**
+     * Registered at the {@link BibDatabase#getFieldChangeListeners() typed listeners} of the database for the key field only
+     */
     public void listen(FieldChangedEvent event) {
         if (event.getField().equals(InternalField.KEY_FIELD)) {
             String newKey = event.getNewValue();
@@ -0,0 +1,49 @@
+package org.jabref.model.database.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * {@link EntriesChangedEvent} is fired once for all field changes with the same source made by one thread between
+ * {@link BibDatabase#beginBatchChange()} and {@link BibDatabase#commitBatchChange()}. It replaces the single {@link FieldChangedEvent}s.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChanges;
+
+    /**
+     * @param fieldChanges the field changes in the order they happened
+     * @param location     location affected by this event
+     */
+    public EntriesChangedEvent(List<FieldChangedEvent> fieldChanges, EntriesEventSource location) {
+        super(getChangedEntries(fieldChanges), location);
+        this.fieldChanges = Collections.unmodifiableList(fieldChanges);
+    }
+
+    /**
+     * Determines the changed entries, each one listed once. Entries are compared by identity, not by content.
+     */
+    private static List<BibEntry> getChangedEntries(List<FieldChangedEvent> fieldChanges) {
+        Set<BibEntry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> changedEntries = new ArrayList<>();
+        for (FieldChangedEvent fieldChange : fieldChanges) {
+            if (seen.add(fieldChange.getBibEntry())) {
+                changedEntries.add(fieldChange.getBibEntry());
+            }
+        }
+        return changedEntries;
+    }
+
+    public List<FieldChangedEvent> getFieldChanges() {
+        return fieldChanges;
+    }
+}
@@ -0,0 +1,80 @@
+package org.jabref.model.database.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Typed registry for listeners to field changes of the entries of a {@link org.jabref.model.database.BibDatabase}.
+ * <p>
+ * In contrast to the Guava event bus, dispatching an event neither uses reflection nor allocates.
+ * Listeners subscribe to an event type (e.g., {@link org.jabref.model.entry.event.FieldAddedOrRemovedEvent}) and optionally to a single field.
+ * Listeners of a single field are only called for changes of that field.
+ */
+public class FieldChangeListenerRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldChangeListenerRegistry.class);
+
+    private record Registration<E extends FieldChangedEvent>(Class<E> eventType, Consumer<? super E> listener) {
+        void dispatch(FieldChangedEvent event) {
+            if (eventType.isInstance(event)) {
+                try {
+                    listener.accept(eventType.cast(event));
+                } catch (RuntimeException e) {
+                    // Same as the Guava event bus: a failing listener must not prevent the change nor other listeners
+                    LOGGER.error("Listener {} failed for event {}", listener, event, e);
+                }
+            }
+        }
+    }
+
+    private final List<Registration<?>> allFieldsListeners = new CopyOnWriteArrayList<>();
+    private final Map<Field, List<Registration<?>>> singleFieldListeners = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a listener for events of the given type regarding any field.
+     */
+    public <E extends FieldChangedEvent> void register(Class<E> eventType, Consumer<? super E> listener) {
+        allFieldsListeners.add(new Registration<>(eventType, listener));
+    }
+
+    /**
+     * Registers a listener for events of the given type regarding the given field only.
+     */
+    public <E extends FieldChangedEvent> void register(Class<E> eventType, Field field, Consumer<? super E> listener) {
+        singleFieldListeners.computeIfAbsent(field, key -> new CopyOnWriteArrayList<>())
+                            .add(new Registration<>(eventType, listener));
+    }
+
+    /**
+     * Removes all registrations of the given listener.
+     */
+    public void unregister(Consumer<?> listener) {
+        allFieldsListeners.removeIf(registration -> registration.listener() == listener);
+        singleFieldListeners.values().forEach(registrations -> registrations.removeIf(registration -> registration.listener() == listener));
+    }
+
+    public boolean isEmpty() {
+        return allFieldsListeners.isEmpty() && singleFieldListeners.values().stream().allMatch(List::isEmpty);
+    }
+
+    public void dispatch(FieldChangedEvent event) {
+        for (Registration<?> registration : allFieldsListeners) {
+            registration.dispatch(event);
+        }
+        List<Registration<?>> registrations = singleFieldListeners.get(event.getField());
+        if (registrations != null) {
+            for (Registration<?> registration : registrations) {
+                registration.dispatch(event);
+            }
+        }
+    }
+}
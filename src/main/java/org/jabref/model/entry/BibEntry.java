@@ -1,6 +1,7 @@
 package org.jabref.model.entry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -95,28 +96,45 @@ public class BibEntry implements Cloneable {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
+    private static final BibDatabase[] NO_DATABASES = new BibDatabase[0];
     private final SharedBibEntryData sharedBibEntryData;
 
+    /*
+     * Large libraries contain hundreds of thousands of entries. Thus, the caches, the event bus, and the type property
+     * are created on first use only. Most entries are never observed, and most caches are never filled.
+     */
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    private volatile EventBus eventBus;
+
+    /**
+     * The databases containing this entry. They are notified directly about changes, without going through an event bus.
+     * Usually, an entry is contained in one database only.
+     */
+    private volatile BibDatabase[] databases = NO_DATABASES;
 
     private String id;
 
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private EntryType type = DEFAULT_TYPE;
+
+    /**
+     * Created on first call of {@link #typeProperty()}. From then on, the property holds the type.
+     */
+    private ObjectProperty<EntryType> typeProperty;
 
     private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
 
@@ -324,7 +342,7 @@ public class BibEntry implements Cloneable {
 
     private Optional<String> genericGetResolvedFieldOrAlias(Field field, BibDatabase database, BiFunction<BibEntry, Field, Optional<String>> getFieldOrAlias) {
         if ((InternalField.TYPE_HEADER == field) || (InternalField.OBSOLETE_TYPE_HEADER == field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(getType().getDisplayName());
         }
 
         if (InternalField.KEY_FIELD == field) {
@@ -337,8 +355,8 @@ public class BibEntry implements Cloneable {
         if (result.isEmpty() && (database != null)) {
             Optional<BibEntry> referred = database.getReferencedEntry(this);
             if (referred.isPresent()) {
-                EntryType sourceEntry = referred.get().type.get();
-                EntryType targetEntry = type.get();
+                EntryType sourceEntry = referred.get().getType();
+                EntryType targetEntry = getType();
                 Optional<Field> sourceField = getSourceField(field, targetEntry, sourceEntry);
 
                 if (sourceField.isPresent()) {
@@ -371,7 +389,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -409,11 +427,15 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        ObjectProperty<EntryType> property = typeProperty;
+        return property == null ? type : property.getValue();
     }
 
     public ObjectProperty<EntryType> typeProperty() {
-        return type;
+        if (typeProperty == null) {
+            typeProperty = new SimpleObjectProperty<>(type);
+        }
+        return typeProperty;
     }
 
     /**
@@ -430,16 +452,19 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntriesEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = getType();
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
         changed = true;
-        this.type.setValue(newType);
+        this.type = newType;
+        if (typeProperty != null) {
+            typeProperty.setValue(newType);
+        }
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -462,14 +487,18 @@ public class BibEntry implements Cloneable {
             // the key field should not be converted
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
-            return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+            return Optional.of(getType().getDisplayName());
+        }
+
+        Map<Field, String> latexFreeCache = getLatexFreeFieldsCache();
+        String cachedValue = latexFreeCache.get(field);
+        if (cachedValue != null) {
+            return Optional.of(cachedValue);
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                latexFreeCache.put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -477,6 +506,41 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    /**
+     * Returns the latex free versions of the fields computed so far by {@link #getFieldLatexFree(Field)}.
+     * Used to persist the (expensive) conversion results across sessions.
+     */
+    public Map<Field, String> getCachedLatexFreeFields() {
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        return latexFreeCache == null ? Map.of() : Collections.unmodifiableMap(latexFreeCache);
+    }
+
+    /**
+     * Seeds the cache of {@link #getFieldLatexFree(Field)} with a value computed earlier (e.g., in a previous session).
+     * The caller has to ensure that the given value is the latex free version of the <em>current</em> content of the field.
+     * Nothing happens if the field is not set.
+     */
+    public void cacheLatexFreeField(Field field, String latexFreeValue) {
+        Objects.requireNonNull(latexFreeValue);
+        if (fields.containsKey(field)) {
+            getLatexFreeFieldsCache().put(field, latexFreeValue.intern());
+        }
+    }
+
+    private Map<Field, String> getLatexFreeFieldsCache() {
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache == null) {
+            synchronized (this) {
+                latexFreeCache = latexFreeFields;
+                if (latexFreeCache == null) {
+                    latexFreeCache = new ConcurrentHashMap<>();
+                    latexFreeFields = latexFreeCache;
+                }
+            }
+        }
+        return latexFreeCache;
+    }
+
     /**
      * Returns true if the entry has the given field, or false if it is not set.
      */
@@ -622,9 +686,9 @@ public class BibEntry implements Cloneable {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            post(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            post(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -667,7 +731,7 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        post(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -691,7 +755,7 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(type.getValue());
+        BibEntry clone = new BibEntry(getType());
         clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
@@ -908,7 +972,7 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(getType(), entry.getType())
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
@@ -926,22 +990,74 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(commentsBeforeEntry, type.getValue(), fields);
+        return Objects.hash(commentsBeforeEntry, getType(), fields);
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus bus = eventBus;
+        if (bus == null) {
+            synchronized (this) {
+                bus = eventBus;
+                if (bus == null) {
+                    bus = new EventBus();
+                    eventBus = bus;
+                }
+            }
+        }
+        bus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            LOGGER.debug("No listener registered at all");
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Called by {@link BibDatabase} when this entry is added. The database is notified about all changes of this entry.
+     */
+    public synchronized void attachToDatabase(BibDatabase database) {
+        for (BibDatabase attachedDatabase : databases) {
+            if (attachedDatabase == database) {
+                return;
+            }
+        }
+        BibDatabase[] newDatabases = Arrays.copyOf(databases, databases.length + 1);
+        newDatabases[databases.length] = database;
+        databases = newDatabases;
+    }
+
+    /**
+     * Called by {@link BibDatabase} when this entry is removed.
+     */
+    public synchronized void detachFromDatabase(BibDatabase database) {
+        databases = Arrays.stream(databases)
+                          .filter(attachedDatabase -> attachedDatabase != database)
+                          .toArray(BibDatabase[]::new);
+    }
+
+    /**
+     * Notifies the databases containing this entry and posts the event to the registered listeners.
+     * Nothing is posted to the event bus if no listener was ever registered.
+     */
+    private void post(FieldChangedEvent event) {
+        for (BibDatabase database : databases) {
+            database.relayEntryChangeEvent(event);
+        }
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -949,10 +1065,12 @@ public class BibEntry implements Cloneable {
     }
 
     /**
-     * A copy is made of the parameter
+     * A copy is made of the parameter. As in {@link #setField(Field, String)}, the values are interned.
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        Map<Field, String> internedContent = new HashMap<>(content.size());
+        content.forEach((field, value) -> internedContent.put(field, value.intern()));
+        this.fields = FXCollections.observableMap(internedContent);
         this.setChanged(false);
         return this;
     }
@@ -992,6 +1110,9 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1008,7 +1129,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
@@ -1020,6 +1141,9 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
+            if (fieldsAsKeywords == null) {
+                fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+            }
             fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
         }
         return keywords;
@@ -1030,10 +1154,15 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache != null) {
+            latexFreeCache.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
 
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
@@ -1083,7 +1212,7 @@ public class BibEntry implements Cloneable {
 
     public OptionalBinding<String> getFieldBinding(Field field) {
         if ((field == InternalField.TYPE_HEADER) || (field == InternalField.OBSOLETE_TYPE_HEADER)) {
-            return EasyBind.wrapNullable(type).mapOpt(EntryType::getDisplayName);
+            return EasyBind.wrapNullable(typeProperty()).mapOpt(EntryType::getDisplayName);
         }
         return EasyBind.valueAt(fields, field);
     }
@@ -1112,7 +1241,7 @@ public class BibEntry implements Cloneable {
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields, type};
+        return new Observable[] {fields, typeProperty()};
     }
 
     /**
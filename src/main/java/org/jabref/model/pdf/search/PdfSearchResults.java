@@ -4,17 +4,28 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
 
 public final class PdfSearchResults {
 
     private final List<SearchResult> searchResults;
+    private final Map<String, List<SearchResult>> searchResultsByPath;
 
     public PdfSearchResults(List<SearchResult> search) {
         this.searchResults = Collections.unmodifiableList(search);
+        Map<String, List<SearchResult>> resultsByPath = new HashMap<>();
+        for (SearchResult result : searchResults) {
+            resultsByPath.computeIfAbsent(result.getPath(), path -> new ArrayList<>()).add(result);
+        }
+        this.searchResultsByPath = Collections.unmodifiableMap(resultsByPath);
     }
 
     public PdfSearchResults() {
         this.searchResults = Collections.emptyList();
+        this.searchResultsByPath = Collections.emptyMap();
     }
 
     public List<SearchResult> getSortedByScore() {
@@ -27,18 +38,35 @@ public final class PdfSearchResults {
         return this.searchResults;
     }
 
-    public HashMap<String, List<SearchResult>> getSearchResultsByPath() {
-        HashMap<String, List<SearchResult>> resultsByPath = new HashMap<>();
-        for (SearchResult result : searchResults) {
-            if (resultsByPath.containsKey(result.getPath())) {
-                resultsByPath.get(result.getPath()).add(result);
-            } else {
-                List<SearchResult> resultsForPath = new ArrayList<>();
-                resultsForPath.add(result);
-                resultsByPath.put(result.getPath(), resultsForPath);
-            }
+    /**
+     * @return the results, keyed by the path of the linked file (as stored in the entry). The results of a path keep their order.
+     */
+    public Map<String, List<SearchResult>> getSearchResultsByPath() {
+        return searchResultsByPath;
+    }
+
+    /**
+     * @return the results for the given path of a linked file, an empty list if there are none
+     */
+    public List<SearchResult> getSearchResultsForPath(String path) {
+        return Collections.unmodifiableList(searchResultsByPath.getOrDefault(path, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the results belonging to the files linked to the given entry. Only the files of the entry are looked up,
+     * thus the time needed does not depend on the number of results.
+     */
+    public PdfSearchResults getSearchResultsFor(BibEntry entry) {
+        List<LinkedFile> files = entry.getFiles();
+        if (searchResultsByPath.isEmpty() || files.isEmpty()) {
+            return new PdfSearchResults();
         }
-        return resultsByPath;
+        List<SearchResult> results = new ArrayList<>();
+        files.stream()
+             .map(LinkedFile::getLink)
+             .distinct()
+             .forEach(link -> results.addAll(searchResultsByPath.getOrDefault(link, Collections.emptyList())));
+        return new PdfSearchResults(results);
     }
 
     public int numSearchResults() {
@@ -1,29 +1,16 @@
 package org.jabref.model.pdf.search;
 
-import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import org.jabref.model.entry.BibEntry;
 
-import org.apache.lucene.analysis.TokenStream;
-import org.apache.lucene.index.IndexableField;
-import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.Query;
-import org.apache.lucene.search.ScoreDoc;
-import org.apache.lucene.search.highlight.Highlighter;
-import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
-import org.apache.lucene.search.highlight.QueryScorer;
-import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
-import org.apache.lucene.search.highlight.TextFragment;
-
-import static org.jabref.model.pdf.search.SearchFieldConstants.ANNOTATIONS;
-import static org.jabref.model.pdf.search.SearchFieldConstants.CONTENT;
-import static org.jabref.model.pdf.search.SearchFieldConstants.MODIFIED;
-import static org.jabref.model.pdf.search.SearchFieldConstants.PAGE_NUMBER;
-import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
-
+/**
+ * A hit (a page of a linked file) of the full-text search.
+ * <p>
+ * The highlighted snippets are only created when they are requested the first time (e.g., when the entry editor
+ * shows the search results of the selected entry), thus a search with many hits only keeps the path, page, and score.
+ */
 public final class SearchResult {
 
     private final String path;
@@ -32,41 +19,27 @@ public final class SearchResult {
     private final long modified;
 
     private final float luceneScore;
-    private List<String> contentResultStringsHtml;
-    private List<String> annotationsResultStringsHtml;
-
-    public SearchResult(IndexSearcher searcher, Query query, ScoreDoc scoreDoc) throws IOException {
-        this.path = getFieldContents(searcher, scoreDoc, PATH);
-        this.pageNumber = Integer.parseInt(getFieldContents(searcher, scoreDoc, PAGE_NUMBER));
-        this.modified = Long.parseLong(getFieldContents(searcher, scoreDoc, MODIFIED));
-        this.luceneScore = scoreDoc.score;
-
-        String content = getFieldContents(searcher, scoreDoc, CONTENT);
-        String annotations = getFieldContents(searcher, scoreDoc, ANNOTATIONS);
 
-        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(query));
-
-        try (TokenStream contentStream = new EnglishStemAnalyzer().tokenStream(CONTENT, content)) {
-            TextFragment[] frags = highlighter.getBestTextFragments(contentStream, content, true, 10);
-            this.contentResultStringsHtml = Arrays.stream(frags).map(TextFragment::toString).collect(Collectors.toList());
-        } catch (InvalidTokenOffsetsException e) {
-            this.contentResultStringsHtml = List.of();
-        }
+    private Supplier<Highlights> highlighter;
+    private Highlights highlights;
 
-        try (TokenStream annotationStream = new EnglishStemAnalyzer().tokenStream(ANNOTATIONS, annotations)) {
-            TextFragment[] frags = highlighter.getBestTextFragments(annotationStream, annotations, true, 10);
-            this.annotationsResultStringsHtml = Arrays.stream(frags).map(TextFragment::toString).collect(Collectors.toList());
-        } catch (InvalidTokenOffsetsException e) {
-            this.annotationsResultStringsHtml = List.of();
-        }
+    /**
+     * The snippets of the content and the annotations of a page matching the query, the matches are enclosed by
+     * <code>&lt;b&gt;</code> and <code>&lt;/b&gt;</code>.
+     */
+    public record Highlights(List<String> contentResultStringsHtml, List<String> annotationsResultStringsHtml) {
+        public static final Highlights EMPTY = new Highlights(List.of(), List.of());
     }
 
-    private String getFieldContents(IndexSearcher searcher, ScoreDoc scoreDoc, String field) throws IOException {
-        IndexableField indexableField = searcher.doc(scoreDoc.doc).getField(field);
-        if (indexableField == null) {
-            return "";
-        }
-        return indexableField.stringValue();
+    /**
+     * @param highlighter creates the snippets of the page, called at most once
+     */
+    public SearchResult(String path, int pageNumber, long modified, float luceneScore, Supplier<Highlights> highlighter) {
+        this.path = path;
+        this.pageNumber = pageNumber;
+        this.modified = modified;
+        this.luceneScore = luceneScore;
+        this.highlighter = highlighter;
     }
 
     public boolean isResultFor(BibEntry entry) {
@@ -86,11 +59,20 @@ public final class SearchResult {
     }
 
     public List<String> getContentResultStringsHtml() {
-        return contentResultStringsHtml;
+        return getHighlights().contentResultStringsHtml();
     }
 
     public List<String> getAnnotationsResultStringsHtml() {
-        return annotationsResultStringsHtml;
+        return getHighlights().annotationsResultStringsHtml();
+    }
+
+    private synchronized Highlights getHighlights() {
+        if (highlights == null) {
+            highlights = highlighter.get();
+            // The highlighter keeps the query, which is not needed anymore
+            highlighter = null;
+        }
+        return highlights;
     }
 
     public int getPageNumber() {
@@ -1,9 +1,7 @@
 package org.jabref.model.search.rules;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.List;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.gui.Globals;
@@ -12,7 +10,6 @@ import org.jabref.logic.pdf.search.PdfIndexerManager;
 import org.jabref.logic.pdf.search.PdfSearcher;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.pdf.search.PdfSearchResults;
-import org.jabref.model.pdf.search.SearchResult;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,12 +27,12 @@ public abstract class FullTextSearchRule implements SearchRule {
     protected final EnumSet<SearchRules.SearchFlags> searchFlags;
 
     protected String lastQuery;
-    protected List<SearchResult> lastPdfSearchResults;
+    protected PdfSearchResults lastPdfSearchResults;
 
     public FullTextSearchRule(EnumSet<SearchRules.SearchFlags> searchFlags) {
         this.searchFlags = searchFlags;
         this.lastQuery = "";
-        lastPdfSearchResults = Collections.emptyList();
+        lastPdfSearchResults = new PdfSearchResults();
     }
 
     public EnumSet<SearchRules.SearchFlags> getSearchFlags() {
@@ -61,11 +58,12 @@ public abstract class FullTextSearchRule implements SearchRule {
                 return new PdfSearchResults();
             }
             this.lastQuery = query;
-            lastPdfSearchResults = Collections.emptyList();
+            lastPdfSearchResults = new PdfSearchResults();
             try {
                 PdfSearcher searcher = PdfSearcher.of(pdfIndexer);
-                PdfSearchResults results = searcher.search(query, 5);
-                lastPdfSearchResults = results.getSortedByScore();
+                // All matching files are needed, as each entry is checked against the results
+                PdfSearchResults results = searcher.searchAll(query);
+                lastPdfSearchResults = new PdfSearchResults(results.getSortedByScore());
             } catch (IOException e) {
                 LOGGER.error("Could not retrieve search results.", e);
                 return new PdfSearchResults();
@@ -73,8 +71,6 @@ public abstract class FullTextSearchRule implements SearchRule {
         }
 
         // We found a number of PDF files, now we need to relate it to the current BibEntry
-        return new PdfSearchResults(lastPdfSearchResults.stream()
-                                                        .filter(searchResult -> searchResult.isResultFor(bibEntry))
-                                                        .toList());
+        return lastPdfSearchResults.getSearchResultsFor(bibEntry);
     }
 }
@@ -8,10 +8,19 @@ import org.jabref.model.database.BibDatabase;
 public class FetchResult {
     private final String fetcherName;
     private final BibDatabase fetchResult;
+    private final int lastFetchedPage;
 
     public FetchResult(String fetcherName, BibDatabase fetcherResult) {
+        this(fetcherName, fetcherResult, 0);
+    }
+
+    /**
+     * @param lastFetchedPage The zero-based index of the last page fetched, 0 if the fetcher does not support paging
+     */
+    public FetchResult(String fetcherName, BibDatabase fetcherResult, int lastFetchedPage) {
         this.fetcherName = fetcherName;
         this.fetchResult = fetcherResult;
+        this.lastFetchedPage = lastFetchedPage;
     }
 
     public String getFetcherName() {
@@ -21,4 +30,8 @@ public class FetchResult {
     public BibDatabase getFetchResult() {
         return fetchResult;
     }
+
+    public int getLastFetchedPage() {
+        return lastFetchedPage;
+    }
 }
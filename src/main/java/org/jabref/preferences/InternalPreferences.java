@@ -15,17 +15,20 @@ public class InternalPreferences {
 
     private final ObjectProperty<Version> ignoredVersion;
     private final BooleanProperty versionCheckEnabled;
+    private final BooleanProperty httpResponseCacheEnabled;
     private final ObjectProperty<Path> lastPreferencesExportPath;
     private final StringProperty userAndHost;
     private final BooleanProperty memoryStickMode;
 
     public InternalPreferences(Version ignoredVersion,
                                boolean versionCheck,
+                               boolean httpResponseCacheEnabled,
                                Path exportPath,
                                String userAndHost,
                                boolean memoryStickMode) {
         this.ignoredVersion = new SimpleObjectProperty<>(ignoredVersion);
         this.versionCheckEnabled = new SimpleBooleanProperty(versionCheck);
+        this.httpResponseCacheEnabled = new SimpleBooleanProperty(httpResponseCacheEnabled);
         this.lastPreferencesExportPath = new SimpleObjectProperty<>(exportPath);
         this.userAndHost = new SimpleStringProperty(userAndHost);
         this.memoryStickMode = new SimpleBooleanProperty(memoryStickMode);
@@ -55,6 +58,18 @@ public class InternalPreferences {
         this.versionCheckEnabled.set(versionCheckEnabled);
     }
 
+    public boolean isHttpResponseCacheEnabled() {
+        return httpResponseCacheEnabled.get();
+    }
+
+    public BooleanProperty httpResponseCacheEnabledProperty() {
+        return httpResponseCacheEnabled;
+    }
+
+    public void setHttpResponseCacheEnabled(boolean httpResponseCacheEnabled) {
+        this.httpResponseCacheEnabled.set(httpResponseCacheEnabled);
+    }
+
     public Path getLastPreferencesExportPath() {
         return lastPreferencesExportPath.get();
     }
@@ -361,6 +361,7 @@ public class JabRefPreferences implements PreferencesService {
     // Version
     public static final String VERSION_IGNORED_UPDATE = "versionIgnoreUpdate";
     public static final String VERSION_CHECK_ENABLED = "versionCheck";
+    public static final String HTTP_RESPONSE_CACHE_ENABLED = "httpResponseCacheEnabled";
     // KeyBindings - keys - public because needed for pref migration
     public static final String BINDINGS = "bindings";
 
@@ -794,6 +795,7 @@ public class JabRefPreferences implements PreferencesService {
         // version check defaults
         defaults.put(VERSION_IGNORED_UPDATE, "");
         defaults.put(VERSION_CHECK_ENABLED, Boolean.TRUE);
+        defaults.put(HTTP_RESPONSE_CACHE_ENABLED, Boolean.TRUE);
 
         // preview
         defaults.put(CYCLE_PREVIEW, "Preview;" + CitationStyle.DEFAULT);
@@ -2079,6 +2081,7 @@ public class JabRefPreferences implements PreferencesService {
         internalPreferences = new InternalPreferences(
                 Version.parse(get(VERSION_IGNORED_UPDATE)),
                 getBoolean(VERSION_CHECK_ENABLED),
+                getBoolean(HTTP_RESPONSE_CACHE_ENABLED),
                 getPath(PREFS_EXPORT_PATH, OS.getNativeDesktop().getDefaultFileChooserDirectory()),
                 getUserAndHost(),
                 getBoolean(MEMORY_STICK_MODE));
@@ -2087,6 +2090,8 @@ public class JabRefPreferences implements PreferencesService {
                 (obs, oldValue, newValue) -> put(VERSION_IGNORED_UPDATE, newValue.toString()));
         EasyBind.listen(internalPreferences.versionCheckEnabledProperty(),
                 (obs, oldValue, newValue) -> putBoolean(VERSION_CHECK_ENABLED, newValue));
+        EasyBind.listen(internalPreferences.httpResponseCacheEnabledProperty(),
+                (obs, oldValue, newValue) -> putBoolean(HTTP_RESPONSE_CACHE_ENABLED, newValue));
         EasyBind.listen(internalPreferences.lastPreferencesExportPathProperty(),
                 (obs, oldValue, newValue) -> put(PREFS_EXPORT_PATH, newValue.toString()));
         // user is a static value, should only be changed for debugging
@@ -52,6 +52,7 @@ public class TestArchitectureTest {
                  .and().doNotHaveFullyQualifiedName("org.jabref.performance.BibtexEntryGenerator")
                  .and().doNotHaveFullyQualifiedName("org.jabref.support.DisabledOnCIServer")
                  .and().doNotHaveFullyQualifiedName("org.jabref.support.CIServerCondition")
+                 .and().doNotHaveFullyQualifiedName("org.jabref.testutils.interactive.http.HttpServerLoadTester")
                  .and().doNotHaveFullyQualifiedName("org.jabref.testutils.interactive.styletester.StyleTesterMain")
                  .and().doNotHaveFullyQualifiedName("org.jabref.testutils.interactive.styletester.StyleTesterView")
                  .should().haveSimpleNameEndingWith("Test")
@@ -104,6 +104,32 @@ class ArgumentProcessorTest {
         BibEntryAssert.assertEquals(expectedEntries, outputBib, bibtexImporter);
     }
 
+    @Test
+    void convertBibtexKeepsStringsAndPreamble(@TempDir Path tempDir) throws Exception {
+        Path inputBib = tempDir.resolve("input.bib");
+        Files.writeString(inputBib, """
+                @Preamble{"\\newcommand{\\jabref}{JabRef}"}
+                @String{conference = {JabCon}}
+                @InProceedings{key, booktitle = conference}
+                """);
+        Path outputBib = tempDir.resolve("output.bib");
+
+        List<String> args = List.of("-n", "--convert", inputBib + ",bibtex," + outputBib);
+
+        ArgumentProcessor processor = new ArgumentProcessor(
+                args.toArray(String[]::new),
+                Mode.INITIAL_START,
+                preferencesService,
+                mock(FileUpdateMonitor.class),
+                entryTypesManager);
+        processor.processArguments();
+
+        String output = Files.readString(outputBib);
+        assertTrue(output.contains("@Preamble{"));
+        assertTrue(output.contains("@String{conference = {JabCon}}"));
+        assertTrue(output.contains("booktitle = conference"));
+    }
+
     @Test
     void convertBibtexToTablerefsabsbib(@TempDir Path tempDir) throws Exception {
         Path originBib = Path.of(Objects.requireNonNull(ArgumentProcessorTest.class.getResource("origin.bib")).toURI());
@@ -1,14 +1,19 @@
 package org.jabref.gui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -51,7 +56,7 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(database, preferencesMock));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
@@ -69,10 +74,36 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(database, preferencesMock));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "New timestamp set after entry changed even though updates were disabled");
     }
+
+    @Test
+    void updateTimestampDuringBatchChange() {
+        when(timestampPreferencesMock.now()).thenReturn(newDate);
+        when(timestampPreferencesMock.shouldAddModificationDate()).thenReturn(true);
+        bibEntry.setField(StandardField.MODIFICATIONDATE, baseDate);
+        UpdateTimestampListener listener = new UpdateTimestampListener(database, preferencesMock);
+        database.registerListener(listener);
+        database.getFieldChangeListeners().register(FieldChangedEvent.class, listener::listenDuringBatchChange);
+        List<EntriesChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(EntriesChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        database.beginBatchChange();
+        bibEntry.setField(StandardField.TITLE, "title");
+        database.commitBatchChange();
+
+        assertEquals(Optional.of(newDate), bibEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(1, events.size());
+        assertEquals(List.of(StandardField.TITLE, StandardField.MODIFICATIONDATE),
+                events.getFirst().getFieldChanges().stream().map(FieldChangedEvent::getField).toList());
+    }
 }
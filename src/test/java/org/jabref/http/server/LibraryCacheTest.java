@@ -0,0 +1,92 @@
+package org.jabref.http.server;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class LibraryCacheTest {
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private LibraryCache libraryCache;
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        libraryCache = new LibraryCache(new DummyFileUpdateMonitor());
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{first, title = {First}}");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.parse("2023-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws Exception {
+        LibraryCache.CachedLibrary first = libraryCache.get(library, importFormatPreferences);
+        LibraryCache.CachedLibrary second = libraryCache.get(library, importFormatPreferences);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void concurrentRequestsShareOneParse() throws Exception {
+        List<Callable<LibraryCache.CachedLibrary>> requests = Collections.nCopies(8, () -> libraryCache.get(library, importFormatPreferences));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<LibraryCache.CachedLibrary>> results = executor.invokeAll(requests);
+
+            for (Future<LibraryCache.CachedLibrary> result : results) {
+                assertSame(results.getFirst().get(), result.get());
+            }
+        }
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws Exception {
+        LibraryCache.CachedLibrary first = libraryCache.get(library, importFormatPreferences);
+
+        Files.writeString(library, "@Misc{second, title = {Second}}");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.parse("2023-01-02T00:00:00Z")));
+        LibraryCache.CachedLibrary second = libraryCache.get(library, importFormatPreferences);
+
+        assertNotSame(first, second);
+        assertEquals(Optional.of("second"), second.databaseContext().getDatabase().getEntries().getFirst().getCitationKey());
+    }
+
+    @Test
+    void invalidatedLibraryIsParsedAgain() throws Exception {
+        LibraryCache.CachedLibrary first = libraryCache.get(library, importFormatPreferences);
+
+        libraryCache.invalidate(library);
+
+        assertNotSame(first, libraryCache.get(library, importFormatPreferences));
+    }
+
+    @Test
+    void entityTagChangesWithVersion() throws Exception {
+        LibraryCache.LibraryVersion first = libraryCache.getVersion(library);
+
+        Files.setLastModifiedTime(library, FileTime.from(Instant.parse("2023-01-02T00:00:00Z")));
+
+        assertNotEquals(first.entityTag("json"), libraryCache.getVersion(library).entityTag("json"));
+    }
+}
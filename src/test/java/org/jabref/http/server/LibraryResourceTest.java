@@ -3,10 +3,19 @@ package org.jabref.http.server;
 import org.jabref.http.JabrefMediaType;
 
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -15,6 +24,7 @@ class LibraryResourceTest extends ServerTest {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
 
@@ -36,4 +46,92 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void getClsItemJsonReturnsEntityTag() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get();
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(response.getEntityTag());
+        assertNotNull(response.getLastModified());
+    }
+
+    @Test
+    void getClsItemJsonWithMatchingEntityTagReturnsNotModified() {
+        EntityTag entityTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get().getEntityTag();
+
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM)
+                                                                                      .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                                                                                      .get();
+
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    void entityTagsOfRepresentationsDiffer() {
+        EntityTag cslTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get().getEntityTag();
+        EntityTag bibtexTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get().getEntityTag();
+
+        assertNotEquals(cslTag, bibtexTag);
+    }
+
+    @Test
+    void getJsonWithLimitReturnsTotalCount() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("limit", 10).request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(200, response.getStatus());
+        assertEquals("1", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+        assertNull(response.getLink("next"));
+    }
+
+    @Test
+    void getJsonWithOffsetBehindLastEntryReturnsEmptyArray() {
+        assertEquals("[]", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("offset", 1).queryParam("limit", 10).request(MediaType.APPLICATION_JSON).get(String.class));
+    }
+
+    @Test
+    void getJsonWithFieldsContainsOnlyTheseFields() {
+        String json = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("fields", "title,year").request(MediaType.APPLICATION_JSON).get(String.class);
+
+        assertTrue(json.contains("Demo Title"));
+        assertTrue(json.contains("Author2023test"));
+        assertFalse(json.contains("Demo Author"));
+    }
+
+    @Test
+    void getJsonWithInvalidLimitIsBadRequest() {
+        assertEquals(400, target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("limit", 0).request(MediaType.APPLICATION_JSON).get().getStatus());
+    }
+
+    @Test
+    void getEntryBibtex() {
+        String bibtex = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/Author2023test").request(JabrefMediaType.BIBTEX).get(String.class);
+
+        assertTrue(bibtex.startsWith("@Misc{Author2023test,"));
+        assertTrue(bibtex.contains("Demo Title"));
+        assertFalse(bibtex.contains("jabref-meta"));
+    }
+
+    @Test
+    void getEntryWithUnknownCitationKeyIsNotFound() {
+        assertEquals(404, target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries/unknown").request(MediaType.APPLICATION_JSON).get().getStatus());
+    }
+
+    @Test
+    void searchReturnsMatchingEntries() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").queryParam("q", "author=demo").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals("1", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+        assertTrue(response.readEntity(String.class).contains("Author2023test"));
+    }
+
+    @Test
+    void searchWithoutMatchReturnsEmptyArray() {
+        assertEquals("[]", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").queryParam("q", "year=1999").request(MediaType.APPLICATION_JSON).get(String.class));
+    }
+
+    @Test
+    void searchWithoutQueryIsBadRequest() {
+        assertEquals(400, target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").request(MediaType.APPLICATION_JSON).get().getStatus());
+    }
 }
@@ -9,6 +9,7 @@ import javafx.collections.FXCollections;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.BibEntryPreferences;
 import org.jabref.preferences.GuiPreferences;
 import org.jabref.preferences.PreferencesService;
@@ -27,7 +28,7 @@ import static org.mockito.Mockito.when;
  * Abstract test class to
  * <ul>
  *   <li>Initialize the JCL to SLF4J bridge</li>
- *   <li>Provide injection capabilities of JabRef's preferences and Gson<./li>
+ *   <li>Provide injection capabilities of JabRef's preferences, Gson, and the library cache<./li>
  * </ul>
  * <p>More information on testing with Jersey is available at <a href="https://eclipse-ee4j.github.io/jersey.github.io/documentation/latest/test-framework.html">the Jersey's testing documentation</a></p>.
  */
@@ -63,6 +64,15 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(new LibraryCache(new DummyFileUpdateMonitor())).to(LibraryCache.class).ranked(2);
+            }
+        });
+    }
+
     protected void setAvailableLibraries(EnumSet<TestBibFile> files) {
         when(guiPreferences.getLastFilesOpened()).thenReturn(
                 FXCollections.observableArrayList(
@@ -52,6 +52,30 @@ class BstPreviewLayoutTest {
         assertEquals("T. Diez, \"Slice theorem for fréchet group actions and covariant symplectic field theory\" May 2014.", preview);
     }
 
+    @Test
+    public void changedEntryIsRenderedAgain() throws Exception {
+        BstPreviewLayout bstPreviewLayout = new BstPreviewLayout(Path.of(BstPreviewLayoutTest.class.getResource("abbrv.bst").toURI()));
+        BibEntry entry = new BibEntry().withField(StandardField.AUTHOR, "Oliver Kopp")
+                                       .withField(StandardField.TITLE, "Thoughts on Development");
+        assertEquals("O. Kopp. Thoughts on development.", bstPreviewLayout.generatePreview(entry, bibDatabaseContext));
+
+        entry.setField(StandardField.YEAR, "2024");
+
+        assertEquals("O. Kopp. Thoughts on development, 2024.", bstPreviewLayout.generatePreview(entry, bibDatabaseContext));
+        assertEquals(2, bstPreviewLayout.getCacheStats().missCount());
+    }
+
+    @Test
+    public void entriesWithSameContentHaveSamePreview() throws Exception {
+        BstPreviewLayout bstPreviewLayout = new BstPreviewLayout(Path.of(ClassLoader.getSystemResource("bst/IEEEtran.bst").toURI()));
+        String preview = bstPreviewLayout.generatePreview(getSliceTheoremPaper(), bibDatabaseContext);
+
+        assertEquals(preview, bstPreviewLayout.generatePreview(getSliceTheoremPaper(), bibDatabaseContext));
+        // The second preview is taken from the cache instead of running the bst program again
+        assertEquals(1, bstPreviewLayout.getCacheStats().missCount());
+        assertEquals(1, bstPreviewLayout.getCacheStats().hitCount());
+    }
+
     private static BibEntry getSliceTheoremPaper() {
         return new BibEntry(StandardEntryType.Article)
                 .withField(StandardField.AUTHOR, "Tobias Diez")
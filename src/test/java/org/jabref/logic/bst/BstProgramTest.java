@@ -0,0 +1,216 @@
+package org.jabref.logic.bst;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that a compiled program behaves as the interpreter of {@link BstVM}
+ */
+class BstProgramTest {
+
+    private static List<BibEntry> testEntries() {
+        return List.of(
+                BstVMTest.defaultTestEntry(),
+                new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("doe10")
+                        .withField(StandardField.AUTHOR, "Doe, John and Roe, Jane and others")
+                        .withField(StandardField.TITLE, "On the {Theory} of {BibTeX}: Styles")
+                        .withField(StandardField.JOURNAL, "Journal of Styles")
+                        .withField(StandardField.YEAR, "2010")
+                        .withField(StandardField.MONTH, "#may#"),
+                new BibEntry(StandardEntryType.Book)
+                        .withCitationKey("abel99")
+                        .withField(StandardField.EDITOR, "Abel, Anna")
+                        .withField(StandardField.TITLE, "Collected Works")
+                        .withField(StandardField.PUBLISHER, "Publisher")
+                        .withField(StandardField.YEAR, "1999"),
+                new BibEntry(StandardEntryType.InProceedings)
+                        .withCitationKey("crossref")
+                        .withField(StandardField.AUTHOR, "Smith, Jim")
+                        .withField(StandardField.TITLE, "Referencing")
+                        .withField(StandardField.CROSSREF, "canh05"));
+    }
+
+    private static Stream<Path> styles() throws Exception {
+        return Stream.of(
+                Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst"),
+                Path.of(ClassLoader.getSystemResource("bst/IEEEtran.bst").toURI()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("styles")
+    void rendersStyleAsInterpreter(Path style) throws Exception {
+        BstVM vm = new BstVM(style);
+        List<BibEntry> entries = testEntries();
+        BibDatabase bibDatabase = new BibDatabase(entries);
+        bibDatabase.setPreamble("\\newcommand{\\noopsort}[1]{}");
+
+        assertEquals(vm.render(entries, bibDatabase), vm.compile().render(entries, bibDatabase));
+    }
+
+    @Test
+    void compiledProgramCanBeRenderedRepeatedly() throws Exception {
+        BstProgram program = new BstVM(Path.of("src/test/resources/org/jabref/logic/bst/abbrv.bst")).compile();
+        List<BibEntry> entries = testEntries();
+
+        assertEquals(program.render(entries), program.render(entries));
+    }
+
+    private static Stream<String> programs() {
+        return Stream.of(
+                // Entry variables shadow global variables only if there is an entry
+                """
+                        ENTRY { title } { } { }
+                        STRINGS { title }
+                        FUNCTION { init } { "global" 'title := }
+                        FUNCTION { test } { title write$ }
+                        READ
+                        EXECUTE { init }
+                        EXECUTE { test }
+                        ITERATE { test }
+                        EXECUTE { test }
+                        """,
+                // A quoted identifier resolves variables before functions, a call functions before variables
+                """
+                        FUNCTION { s } { "function" }
+                        STRINGS { s }
+                        FUNCTION { test } { "string" 's := s #1 's 'skip$ if$ }
+                        EXECUTE { test }
+                        """,
+                // Built-in functions can be redefined
+                """
+                        FUNCTION { skip$ } { "redefined" write$ }
+                        FUNCTION { test } { skip$ #1 'skip$ 'pop$ if$ }
+                        EXECUTE { test }
+                        """,
+                // Functions are resolved when called, not when defined
+                """
+                        FUNCTION { test } { later }
+                        FUNCTION { later } { "later" write$ }
+                        EXECUTE { test }
+                        """,
+                """
+                        MACRO { jan } { "January" }
+                        FUNCTION { test } { jan #1 'jan 'skip$ if$ }
+                        EXECUTE { test }
+                        """,
+                // A redeclared variable is reset
+                """
+                        INTEGERS { i }
+                        FUNCTION { set } { #4 'i := }
+                        FUNCTION { test } { i }
+                        EXECUTE { set }
+                        INTEGERS { i }
+                        EXECUTE { test }
+                        """,
+                // Values of different types are not equal; blocks are equal if they are the same block
+                """
+                        FUNCTION { test } { { a } duplicate$ = { a } { a } = 'a 'a = "a" 'a = #1 "1" = #1 #1 = "" "" = }
+                        EXECUTE { test }
+                        """,
+                // if$ pushes values that are no functions
+                """
+                        FUNCTION { test } { #1 "yes" "no" if$ #0 #4 #5 if$ }
+                        EXECUTE { test }
+                        """,
+                """
+                        INTEGERS { i }
+                        FUNCTION { test } { #0 'i := { i #3 < } { i #1 + 'i := i int.to.str$ write$ } while$ { #0 } "no body" while$ }
+                        EXECUTE { test }
+                        """,
+                """
+                        FUNCTION { factorial } { duplicate$ #1 > { duplicate$ #1 - factorial swap$ pop$ #1 + } 'skip$ if$ }
+                        FUNCTION { test } { #10 factorial #2147483647 #1 + entry.max$ }
+                        EXECUTE { test }
+                        """,
+                """
+                        ENTRY { title } { } { }
+                        FUNCTION { key } { title 'sort.key$ := }
+                        FUNCTION { test } { cite$ write$ type$ write$ }
+                        READ
+                        ITERATE { key }
+                        SORT
+                        ITERATE { test }
+                        REVERSE { test }
+                        """,
+                // READ declares crossref; ENTRY resets entry variables
+                """
+                        READ
+                        ENTRY { title crossref } { n } { s }
+                        FUNCTION { set } { title 's := #5 'n := }
+                        FUNCTION { test } { s missing$ n crossref missing$ }
+                        READ
+                        ITERATE { set }
+                        ENTRY { title } { n } { s }
+                        ITERATE { test }
+                        """,
+                """
+                        ENTRY { } { } { }
+                        FUNCTION { article } { "article" write$ }
+                        FUNCTION { book } { "book" write$ }
+                        FUNCTION { inproceedings } { type$ write$ }
+                        FUNCTION { test } { call.type$ }
+                        READ
+                        ITERATE { test }
+                        """,
+                """
+                        ENTRY { title author } { } { }
+                        FUNCTION { test } {
+                            title "t" change.case$ write$ title purify$ write$ title text.length$ title #3 text.prefix$ write$
+                            title width$ title #2 #4 substring$ write$ title #-1 #3 substring$ write$ title add.period$ write$
+                            author empty$ "a" chr.to.int$ #66 int.to.chr$ write$ newline$ quote$ write$ preamble$ write$
+                        }
+                        READ
+                        ITERATE { test }
+                        """);
+    }
+
+    @ParameterizedTest
+    @MethodSource("programs")
+    void executesProgramAsInterpreter(String program) {
+        BstVM vm = new BstVM(program);
+        List<BibEntry> entries = testEntries();
+        String expected = vm.render(entries);
+
+        BstMachine machine = new BstMachine(vm.compile(), entries, null);
+
+        assertEquals(expected, machine.run());
+        assertEquals(new ArrayList<>(vm.getStack()), new ArrayList<>(machine.getStack()));
+    }
+
+    @Test
+    void undefinedIdentifierFails() {
+        BstProgram program = new BstVM("""
+                FUNCTION { test } { undefined }
+                EXECUTE { test }
+                """).compile();
+
+        assertThrows(BstVMException.class, () -> program.render(testEntries()));
+    }
+
+    @Test
+    void citeWithoutEntryFails() {
+        BstProgram program = new BstVM("""
+                ENTRY { } { } { }
+                FUNCTION { test } { #1 'cite$ 'skip$ if$ }
+                READ
+                ITERATE { test }
+                """).compile();
+
+        assertThrows(BstVMException.class, () -> program.render(testEntries()));
+    }
+}
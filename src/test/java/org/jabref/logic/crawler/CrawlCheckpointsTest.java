@@ -0,0 +1,73 @@
+package org.jabref.logic.crawler;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CrawlCheckpointsTest {
+    @TempDir
+    Path tempRepositoryDirectory;
+
+    @Test
+    void checkpointsAreRestoredFromRepository() throws Exception {
+        CrawlCheckpoints checkpoints = CrawlCheckpoints.load(tempRepositoryDirectory);
+        checkpoints.update("Quantum", "ArXiv", "hash", 3);
+        checkpoints.save();
+
+        CrawlCheckpoints restoredCheckpoints = CrawlCheckpoints.load(tempRepositoryDirectory);
+
+        assertEquals(checkpoints.getCheckpoint("Quantum", "ArXiv"), restoredCheckpoints.getCheckpoint("Quantum", "ArXiv"));
+        assertEquals(3, restoredCheckpoints.getCheckpoint("Quantum", "ArXiv").orElseThrow().lastPage());
+        assertTrue(restoredCheckpoints.isUnchanged("Quantum", "ArXiv", "hash"));
+        assertFalse(restoredCheckpoints.isUnchanged("Quantum", "Springer", "hash"));
+    }
+
+    @Test
+    void pairsPersistedByUnfinishedCrawlAreSkipped() throws Exception {
+        CrawlCheckpoints checkpoints = CrawlCheckpoints.load(tempRepositoryDirectory);
+        checkpoints.update("Quantum", "Springer", "hash", 0);
+        // The checkpoints are timestamped with millisecond precision
+        Thread.sleep(5);
+        checkpoints.startCrawl();
+        Thread.sleep(5);
+        checkpoints.update("Quantum", "ArXiv", "hash", 0);
+        checkpoints.save();
+
+        CrawlCheckpoints resumedCheckpoints = CrawlCheckpoints.load(tempRepositoryDirectory);
+        resumedCheckpoints.startCrawl();
+
+        assertTrue(resumedCheckpoints.isPersistedByUnfinishedCrawl("Quantum", "ArXiv"));
+        assertFalse(resumedCheckpoints.isPersistedByUnfinishedCrawl("Quantum", "Springer"));
+
+        resumedCheckpoints.finishCrawl();
+
+        assertFalse(CrawlCheckpoints.load(tempRepositoryDirectory).isPersistedByUnfinishedCrawl("Quantum", "ArXiv"));
+    }
+
+    @Test
+    void resultHashIsIndependentOfOrder() {
+        assertEquals(CrawlCheckpoints.computeResultHash(new BibDatabase(List.of(entry("Quantum Chaos"), entry("Quantum Complexity")))),
+                CrawlCheckpoints.computeResultHash(new BibDatabase(List.of(entry("Quantum Complexity"), entry("Quantum Chaos")))));
+    }
+
+    @Test
+    void resultHashChangesWithResult() {
+        assertNotEquals(CrawlCheckpoints.computeResultHash(new BibDatabase(List.of(entry("Quantum Chaos"), entry("Quantum Complexity")))),
+                CrawlCheckpoints.computeResultHash(new BibDatabase(List.of(entry("Quantum Chaos")))));
+    }
+
+    private static BibEntry entry(String title) {
+        return new BibEntry().withField(StandardField.TITLE, title);
+    }
+}
@@ -13,13 +13,17 @@ import org.jabref.logic.exporter.SaveConfiguration;
 import org.jabref.logic.git.SlrGitHandler;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ImporterPreferences;
+import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 import org.jabref.testutils.category.FetcherTest;
 
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
 import org.eclipse.jgit.api.Git;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,15 +31,15 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.jabref.logic.citationkeypattern.CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
  * Integration test of the components used for SLR support
- * Marked as FetcherTest as it calls fetcher
+ * Tests calling the fetchers are marked as FetcherTest
  */
-@FetcherTest
 class CrawlerTest {
     @TempDir
     Path tempRepositoryDirectory;
@@ -101,6 +105,7 @@ class CrawlerTest {
     }
 
     @Test
+    @FetcherTest
     public void whetherAllFilesAreCreated() throws Exception {
         Crawler testCrawler = new Crawler(getPathToStudyDefinitionFile(),
                 gitHandler,
@@ -122,6 +127,44 @@ class CrawlerTest {
         assertTrue(Files.exists(Path.of(tempRepositoryDirectory.toString(), "studyResult.bib")));
     }
 
+    @Test
+    public void resultsOfCancelledCrawlArePersisted() throws Exception {
+        when(preferencesService.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        when(preferencesService.getTimestampPreferences().getTimestampField()).then(invocation -> StandardField.TIMESTAMP);
+        StudyRepository studyRepository = new StudyRepository(getPathToStudyDefinitionFile(),
+                gitHandler,
+                preferencesService,
+                new DummyFileUpdateMonitor(),
+                entryTypesManager);
+        Thread crawlingThread = Thread.currentThread();
+        Crawler[] crawler = new Crawler[1];
+        SearchBasedFetcher cancellingFetcher = new SearchBasedFetcher() {
+            @Override
+            public String getName() {
+                return "ArXiv";
+            }
+
+            @Override
+            public List<BibEntry> performSearch(QueryNode luceneQuery) {
+                // Cancelling the background task of the crawl cancels the crawler and interrupts the crawling thread
+                crawler[0].cancel();
+                crawlingThread.interrupt();
+                return List.of(new BibEntry().withField(StandardField.TITLE, "Quantum Computing"));
+            }
+        };
+        // One request at a time, thus the first query is searched before the crawl is cancelled
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(cancellingFetcher), studyRepository.getSearchQueryStrings(), 1, 1, progress -> {
+        });
+        crawler[0] = new Crawler(studyRepository, studyFetcher);
+
+        crawler[0].performCrawl();
+
+        // The interrupt is kept for the cancelled task
+        assertTrue(Thread.interrupted());
+        List<BibEntry> persistedEntries = studyRepository.getFetcherResultEntries("Quantum", "ArXiv").getDatabase().getEntries();
+        assertEquals(List.of("Quantum Computing"), persistedEntries.stream().map(entry -> entry.getField(StandardField.TITLE).orElseThrow()).toList());
+    }
+
     private Path getPathToStudyDefinitionFile() {
         return tempRepositoryDirectory;
     }
@@ -0,0 +1,244 @@
+package org.jabref.logic.crawler;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.paging.Page;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudyFetcherTest {
+    @TempDir
+    Path tempRepositoryDirectory;
+
+    private CrawlCheckpoints checkpoints;
+    private final List<FetcherProgress> progress = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() throws Exception {
+        checkpoints = CrawlCheckpoints.load(tempRepositoryDirectory);
+    }
+
+    @Test
+    void pagedFetcherStopsAtFirstPageThatIsNotFull() {
+        StubPagedFetcher fetcher = new StubPagedFetcher("Paged", 45, 0);
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(fetcher), List.of("Quantum"), 4, 4, progress::add);
+
+        List<QueryResult> results = studyFetcher.crawl(checkpoints);
+
+        FetchResult fetchResult = results.get(0).getResultsPerFetcher().get(0);
+        assertEquals(45, fetchResult.getFetchResult().getEntryCount());
+        assertEquals(2, fetchResult.getLastFetchedPage());
+    }
+
+    @Test
+    void pagesAreFetchedConcurrentlyWithinLimitOfFetcher() {
+        StubPagedFetcher fetcher = new StubPagedFetcher("Paged", 100, 20);
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(fetcher), List.of("Quantum"), 8, 2, progress::add);
+
+        List<QueryResult> results = studyFetcher.crawl(checkpoints);
+
+        assertEquals(100, results.get(0).getResultsPerFetcher().get(0).getFetchResult().getEntryCount());
+        assertEquals(2, fetcher.maxConcurrentRequests.get());
+    }
+
+    @Test
+    void concurrentRequestsDoNotExceedGlobalLimit() {
+        AtomicInteger runningRequests = new AtomicInteger();
+        AtomicInteger maxRunningRequests = new AtomicInteger();
+        List<SearchBasedFetcher> fetchers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            fetchers.add(new StubFetcher("Fetcher " + i, runningRequests, maxRunningRequests));
+        }
+        StudyFetcher studyFetcher = new StudyFetcher(fetchers, List.of("Quantum", "Cloud Computing", "Software Engineering"), 3, 2, progress::add);
+
+        List<QueryResult> results = studyFetcher.crawl(checkpoints);
+
+        assertEquals(3, results.size());
+        results.forEach(result -> assertEquals(4, result.getResultsPerFetcher().size()));
+        assertEquals(3, maxRunningRequests.get());
+    }
+
+    @Test
+    void failingFetcherIsMissingFromResults() {
+        SearchBasedFetcher failingFetcher = new StubFetcher("Failing", new AtomicInteger(), new AtomicInteger()) {
+            @Override
+            public List<BibEntry> performSearch(String searchQuery) throws FetcherException {
+                throw new FetcherException("Service unavailable");
+            }
+        };
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(failingFetcher, new StubPagedFetcher("Paged", 5, 0)), List.of("Quantum"), 4, 4, progress::add);
+
+        List<QueryResult> results = studyFetcher.crawl(checkpoints);
+
+        assertEquals(List.of("Paged"), results.get(0).getResultsPerFetcher().stream().map(FetchResult::getFetcherName).toList());
+        assertTrue(progress.stream().anyMatch(fetcherProgress -> fetcherProgress.fetcherName().equals("Failing") && fetcherProgress.failedRequests() == 1));
+    }
+
+    @Test
+    void progressIsReportedPerFetcher() {
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(new StubPagedFetcher("Paged", 30, 0)), List.of("Quantum", "Cloud Computing"), 4, 1, progress::add);
+
+        studyFetcher.crawl(checkpoints);
+
+        // For each query, the first page is full, thus the remaining four pages are fetched
+        assertEquals(10, progress.size());
+        // The progress is reported after each request, but the reports might arrive out of order
+        FetcherProgress finalProgress = progress.stream().max(Comparator.comparing(FetcherProgress::completedRequests)).orElseThrow();
+        assertEquals(10, finalProgress.completedRequests());
+        assertEquals(0, finalProgress.pendingRequests());
+        assertEquals(60, finalProgress.fetchedEntries());
+    }
+
+    @Test
+    void progressIsReportedToListenerOfCrawl() {
+        List<FetcherProgress> crawlProgress = Collections.synchronizedList(new ArrayList<>());
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(new StubPagedFetcher("Paged", 30, 0)), List.of("Quantum"), 4, 1, progress::add);
+
+        studyFetcher.crawl(checkpoints, crawlProgress::add);
+
+        assertEquals(progress.size(), crawlProgress.size());
+        assertEquals(5, crawlProgress.size());
+    }
+
+    @Test
+    void cancelledCrawlSkipsPendingRequests() throws Exception {
+        CountDownLatch firstRequestStarted = new CountDownLatch(1);
+        CountDownLatch crawlCancelled = new CountDownLatch(1);
+        AtomicInteger performedRequests = new AtomicInteger();
+        StudyFetcher[] studyFetcher = new StudyFetcher[1];
+        SearchBasedFetcher blockingFetcher = new StubFetcher("Blocking", new AtomicInteger(), new AtomicInteger()) {
+            @Override
+            public List<BibEntry> performSearch(String searchQuery) {
+                performedRequests.incrementAndGet();
+                firstRequestStarted.countDown();
+                try {
+                    crawlCancelled.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of(entry(searchQuery));
+            }
+        };
+        studyFetcher[0] = new StudyFetcher(List.of(blockingFetcher), List.of("Quantum", "Cloud Computing", "Software Engineering"), 1, 1, progress::add);
+
+        Thread canceller = new Thread(() -> {
+            try {
+                firstRequestStarted.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            studyFetcher[0].cancel();
+            crawlCancelled.countDown();
+        });
+        canceller.start();
+        List<QueryResult> results = studyFetcher[0].crawl(checkpoints);
+        canceller.join();
+
+        assertEquals(1, performedRequests.get());
+        assertEquals(3, results.size());
+        assertTrue(results.get(1).getResultsPerFetcher().isEmpty());
+        assertTrue(results.get(2).getResultsPerFetcher().isEmpty());
+        assertTrue(studyFetcher[0].isCancelled());
+    }
+
+    private static BibEntry entry(String title) {
+        return new BibEntry().withField(StandardField.TITLE, title);
+    }
+
+    private static class StubFetcher implements SearchBasedFetcher {
+        private final String name;
+        private final AtomicInteger runningRequests;
+        private final AtomicInteger maxRunningRequests;
+
+        StubFetcher(String name, AtomicInteger runningRequests, AtomicInteger maxRunningRequests) {
+            this.name = name;
+            this.runningRequests = runningRequests;
+            this.maxRunningRequests = maxRunningRequests;
+        }
+
+        @Override
+        public List<BibEntry> performSearch(String searchQuery) throws FetcherException {
+            maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            runningRequests.decrementAndGet();
+            return List.of(entry(name + " " + searchQuery));
+        }
+
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Returns pages of 20 entries until the given number of results is reached
+     */
+    private static class StubPagedFetcher implements PagedSearchBasedFetcher {
+        private final String name;
+        private final int numberOfResults;
+        private final long delayInMilliseconds;
+        private final AtomicInteger runningRequests = new AtomicInteger();
+        private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+        StubPagedFetcher(String name, int numberOfResults, long delayInMilliseconds) {
+            this.name = name;
+            this.numberOfResults = numberOfResults;
+            this.delayInMilliseconds = delayInMilliseconds;
+        }
+
+        @Override
+        public Page<BibEntry> performSearchPaged(String searchQuery, int pageNumber) {
+            maxConcurrentRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delayInMilliseconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<BibEntry> entries = new ArrayList<>();
+            for (int i = pageNumber * getPageSize(); i < Math.min(numberOfResults, (pageNumber + 1) * getPageSize()); i++) {
+                entries.add(entry(searchQuery + " " + i));
+            }
+            runningRequests.decrementAndGet();
+            return new Page<>(searchQuery, pageNumber, entries);
+        }
+
+        @Override
+        public Page<BibEntry> performSearchPaged(QueryNode luceneQuery, int pageNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
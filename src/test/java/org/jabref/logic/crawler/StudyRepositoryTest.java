@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -163,6 +164,70 @@ class StudyRepositoryTest {
         assertEquals(new HashSet<>(getNonDuplicateBibEntryResult().getEntries()), new HashSet<>(getTestStudyRepository().getStudyResultEntries().getEntries()));
     }
 
+    @Test
+    void unchangedResultsAreNotRewritten() throws Exception {
+        studyRepository.persist(getMockResults());
+        List<Path> resultFiles = getResultFiles();
+        for (Path resultFile : resultFiles) {
+            Files.setLastModifiedTime(resultFile, FileTime.fromMillis(0));
+        }
+
+        getTestStudyRepository().persist(getMockResults());
+
+        for (Path resultFile : resultFiles) {
+            assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(resultFile));
+        }
+    }
+
+    @Test
+    void changedResultOfOneFetcherOnlyRewritesAffectedFiles() throws Exception {
+        studyRepository.persist(getMockResults());
+        List<Path> resultFiles = getResultFiles();
+        for (Path resultFile : resultFiles) {
+            Files.setLastModifiedTime(resultFile, FileTime.fromMillis(0));
+        }
+        BibEntry newEntry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Richard P. Feynman")
+                .withField(StandardField.TITLE, "Simulating Physics with Computers");
+        List<BibEntry> arXivResults = new ArrayList<>(stripCitationKeys(getArXivQuantumMockResults()));
+        arXivResults.add(newEntry);
+        List<QueryResult> mockResults = List.of(
+                new QueryResult("Quantum", List.of(
+                        new FetchResult("ArXiv", new BibDatabase(arXivResults)),
+                        new FetchResult("Springer", new BibDatabase(stripCitationKeys(getSpringerQuantumMockResults()))))),
+                new QueryResult("Cloud Computing", List.of(new FetchResult("Springer", new BibDatabase(getSpringerCloudComputingMockResults())))));
+
+        getTestStudyRepository().persist(mockResults);
+
+        Path quantumDirectory = tempRepositoryDirectory.resolve(hashCodeQuantum + " - Quantum");
+        Path cloudComputingDirectory = tempRepositoryDirectory.resolve(hashCodeCloudComputing + " - Cloud Computing");
+        assertTrue(Files.getLastModifiedTime(quantumDirectory.resolve("ArXiv.bib")).toMillis() > 0);
+        assertTrue(Files.getLastModifiedTime(quantumDirectory.resolve("result.bib")).toMillis() > 0);
+        assertTrue(Files.getLastModifiedTime(tempRepositoryDirectory.resolve(Crawler.FILENAME_STUDY_RESULT_BIB)).toMillis() > 0);
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(quantumDirectory.resolve("Springer.bib")));
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(cloudComputingDirectory.resolve("Springer.bib")));
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(cloudComputingDirectory.resolve("result.bib")));
+        assertTrue(getTestStudyRepository().getStudyResultEntries().getEntries().stream()
+                                           .anyMatch(entry -> entry.getTitle().equals(newEntry.getTitle())));
+    }
+
+    @Test
+    void crawlCheckpointsAreIgnoredByGit() throws Exception {
+        assertTrue(Files.readAllLines(tempRepositoryDirectory.resolve(".gitignore")).contains("/" + CrawlCheckpoints.FILE_NAME));
+    }
+
+    private List<Path> getResultFiles() {
+        Path quantumDirectory = tempRepositoryDirectory.resolve(hashCodeQuantum + " - Quantum");
+        Path cloudComputingDirectory = tempRepositoryDirectory.resolve(hashCodeCloudComputing + " - Cloud Computing");
+        return List.of(
+                quantumDirectory.resolve("ArXiv.bib"),
+                quantumDirectory.resolve("Springer.bib"),
+                quantumDirectory.resolve("result.bib"),
+                cloudComputingDirectory.resolve("Springer.bib"),
+                cloudComputingDirectory.resolve("result.bib"),
+                tempRepositoryDirectory.resolve(Crawler.FILENAME_STUDY_RESULT_BIB));
+    }
+
     private StudyRepository getTestStudyRepository() throws Exception {
         setUpTestStudyDefinitionFile();
         studyRepository = new StudyRepository(
@@ -84,6 +84,38 @@ class DatabaseMergerTest {
         assertEquals(List.of(entry1, entry4), database.getEntries());
     }
 
+    @Test
+    void mergeAddsDuplicatesWithinOtherDatabaseOnce() {
+        BibEntry entry1 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Quantum Networks")
+                .withField(StandardField.DOI, "10.1000/XYZ123");
+        BibEntry entry2 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Quantum networks for generating arbitrary quantum states")
+                .withField(StandardField.DOI, "10.1000/xyz123");
+
+        BibDatabase database = new BibDatabase();
+        BibDatabase other = new BibDatabase(List.of(entry1, entry2));
+        new DatabaseMerger(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).merge(database, other);
+
+        assertEquals(List.of(entry1), database.getEntries());
+    }
+
+    @Test
+    void mergeIgnoresEntriesWithSameTitleDifferingInCaseAndPunctuation() {
+        BibEntry entry1 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages");
+        BibEntry entry2 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "{Quantum} computers and quantum computer languages.");
+
+        BibDatabase database = new BibDatabase(List.of(entry1));
+        BibDatabase other = new BibDatabase(List.of(entry2));
+        new DatabaseMerger(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).merge(database, other);
+
+        assertEquals(List.of(entry1), database.getEntries());
+    }
+
     @Test
     void mergeBibTexStringsWithSameNameAreImportedWithModifiedName() {
         BibtexString targetString = new BibtexString("name", "content1");
@@ -0,0 +1,236 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.net.URLDownload;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FetcherRateLimiterTest {
+
+    // The stub server is reached using this host, thus the limits do not affect other tests using "localhost"
+    private static final String HOST = "127.0.0.1";
+
+    private final FetcherRateLimiter rateLimiter = new FetcherRateLimiter();
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/slow", exchange -> {
+            int concurrent = concurrentRequests.incrementAndGet();
+            maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentRequests.decrementAndGet();
+            respond(exchange, 200);
+        });
+        server.createContext("/retry-after", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429);
+            } else {
+                respond(exchange, 200);
+            }
+        });
+        server.createContext("/retry-much-later", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "3600");
+                respond(exchange, 429);
+            } else {
+                respond(exchange, 200);
+            }
+        });
+        server.createContext("/unavailable", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 503);
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        FetcherRateLimiter.getInstance().unregister(HOST);
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] body = "response".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private URLDownload download(String path) throws IOException {
+        return new URLDownload(new URL("http://" + HOST + ":" + server.getAddress().getPort() + path));
+    }
+
+    @Test
+    void requestsAreSpacedAccordingToRate() throws IOException {
+        rateLimiter.register("example.org", FetcherRateLimiter.RateLimit.ofRequestsPerSecond(20));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire("example.org").close();
+        }
+
+        // The first request starts immediately, the others each 50 ms later
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(195));
+    }
+
+    @Test
+    void requestsToUnregisteredHostAreNotLimited() throws IOException {
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire("example.org").close();
+        }
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void stricterLimitIsKept() {
+        rateLimiter.register("example.org", new FetcherRateLimiter.RateLimit(10, 4));
+        rateLimiter.register("Example.org", new FetcherRateLimiter.RateLimit(5, 8));
+        rateLimiter.register("example.org", new FetcherRateLimiter.RateLimit(20, 2));
+
+        assertEquals(Optional.of(new FetcherRateLimiter.RateLimit(5, 2)), rateLimiter.getRateLimit("example.org"));
+    }
+
+    @Test
+    void rateIsUpdatedFromHeaders() {
+        rateLimiter.register("api.crossref.org", FetcherRateLimiter.RateLimit.ofRequestsPerSecond(50));
+
+        rateLimiter.updateRate("api.crossref.org", "100", "2s");
+
+        assertEquals(Optional.of(FetcherRateLimiter.RateLimit.ofRequestsPerSecond(50)), rateLimiter.getRateLimit("api.crossref.org"));
+
+        rateLimiter.updateRate("api.crossref.org", "20", "1s");
+
+        assertEquals(Optional.of(FetcherRateLimiter.RateLimit.ofRequestsPerSecond(20)), rateLimiter.getRateLimit("api.crossref.org"));
+    }
+
+    @Test
+    void invalidRateHeadersAreIgnored() {
+        rateLimiter.register("api.crossref.org", FetcherRateLimiter.RateLimit.ofRequestsPerSecond(50));
+
+        rateLimiter.updateRate("api.crossref.org", "many", "1s");
+        rateLimiter.updateRate("api.crossref.org", null, "1s");
+
+        assertEquals(Optional.of(FetcherRateLimiter.RateLimit.ofRequestsPerSecond(50)), rateLimiter.getRateLimit("api.crossref.org"));
+    }
+
+    @Test
+    void pausedHostIsNotQueried() throws IOException {
+        rateLimiter.pause("example.org", Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        rateLimiter.acquire("example.org").close();
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(195));
+        // A pause does not register a limit
+        assertEquals(Optional.empty(), rateLimiter.getRateLimit("example.org"));
+    }
+
+    @Test
+    void retryAfterInSeconds() {
+        assertEquals(Optional.of(Duration.ofSeconds(120)), FetcherRateLimiter.parseRetryAfter(" 120 ", Instant.now()));
+    }
+
+    @Test
+    void retryAfterAsHttpDate() {
+        Instant now = Instant.parse("2015-10-21T07:27:00Z");
+
+        assertEquals(Optional.of(Duration.ofSeconds(60)), FetcherRateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT", now));
+        assertEquals(Optional.of(Duration.ZERO), FetcherRateLimiter.parseRetryAfter("Wed, 21 Oct 2015 07:26:00 GMT", now));
+    }
+
+    @Test
+    void invalidRetryAfterIsIgnored() {
+        assertEquals(Optional.empty(), FetcherRateLimiter.parseRetryAfter("soon", Instant.now()));
+        assertEquals(Optional.empty(), FetcherRateLimiter.parseRetryAfter(null, Instant.now()));
+    }
+
+    @Test
+    void concurrentDownloadsAreLimited() throws Exception {
+        FetcherRateLimiter.getInstance().register(HOST, new FetcherRateLimiter.RateLimit(1000, 2));
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                responses.add(executor.submit(() -> download("/slow").asString()));
+            }
+            for (Future<String> response : responses) {
+                assertEquals("response\n", response.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, maxConcurrentRequests.get());
+    }
+
+    @Test
+    void requestIsRepeatedAfterRetryAfter() throws IOException {
+        long start = System.nanoTime();
+
+        assertEquals("response\n", download("/retry-after").asString());
+
+        assertEquals(2, requests.get());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(995));
+    }
+
+    @Test
+    void unavailableServerWithoutRetryAfterIsNotQueriedAgain() throws IOException {
+        URLDownload download = download("/unavailable");
+
+        IOException exception = assertThrows(IOException.class, download::asString);
+
+        assertInstanceOf(FetcherServerException.class, exception.getCause());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void tooLongRetryAfterDoesNotPauseHost() throws IOException {
+        URLDownload download = download("/retry-much-later");
+
+        assertThrows(IOException.class, download::asString);
+
+        assertEquals("response\n", assertTimeoutPreemptively(Duration.ofSeconds(5), () -> download("/retry-much-later").asString()));
+        assertEquals(2, requests.get());
+    }
+}
@@ -4,6 +4,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
@@ -11,11 +13,15 @@ import javafx.collections.FXCollections;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +62,55 @@ class ImportFormatReaderIntegrationTest {
         assertEquals(count, reader.importUnknownFormat(data).parserResult().getDatabase().getEntries().size());
     }
 
+    @Test
+    void importUnknownFormatPrefersImporterWithMostEntries() throws Exception {
+        // Recognized by the RIS importer as well, which comes first in the list of formats
+        String data = """
+                @article{first, title = {First}}
+                @article{second, title = {Second}, note = {TY  - JOUR}}
+                """;
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(data);
+        assertEquals(ImportFormatReader.BIBTEX_FORMAT, unknownFormat.format());
+        assertEquals(2, unknownFormat.parserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void importUnknownFormatImportsWholeInputBeyondPrefix() throws Exception {
+        String data = IntStream.range(0, 2_000)
+                               .mapToObj(i -> """
+                                       TY  - JOUR
+                                       AU  - Lastname, Firstname
+                                       TI  - Title %d
+                                       ER  -\s
+                                       """.formatted(i))
+                               .collect(Collectors.joining());
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(data);
+        assertEquals("RIS", unknownFormat.format());
+        assertEquals(2_000, unknownFormat.parserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void importUnknownFormatOfPdfUsesPdfImporters() throws Exception {
+        Path file = Path.of(ImportFormatReaderIntegrationTest.class.getResource("/pdfs/minimal.pdf").toURI());
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(file, new DummyFileUpdateMonitor());
+        assertEquals("PDFmergemetadata", unknownFormat.format());
+        assertEquals(1, unknownFormat.parserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void importUnknownFormatFallsBackToBibtexForStringsOnly(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("strings.txt");
+        Files.writeString(file, "@String{journal = {Journal of Plain Text}}");
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(file, new DummyFileUpdateMonitor());
+        assertEquals(ImportFormatReader.BIBTEX_FORMAT, unknownFormat.format());
+        assertFalse(unknownFormat.parserResult().getDatabase().hasNoStrings());
+    }
+
+    @Test
+    void importUnknownFormatOfPlainTextFails() {
+        assertThrows(ImportException.class, () -> reader.importUnknownFormat("Just some plain text without entries"));
+    }
+
     private static Stream<Object[]> importFormats() {
         Collection<Object[]> result = new ArrayList<>();
         result.add(new Object[]{"fileformat/RisImporterTest1.ris", "ris", 1});
@@ -0,0 +1,158 @@
+package org.jabref.logic.importer.fetcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.importer.ImporterPreferences;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the scheduling of the fetchers using stub fetchers, without accessing the network
+ */
+class CompositeSearchBasedFetcherConcurrencyTest {
+
+    private final ImporterPreferences importerPreferences = mock(ImporterPreferences.class);
+
+    @BeforeEach
+    void setUp() {
+        when(importerPreferences.getCatalogs()).thenReturn(FXCollections.observableArrayList("fast", "slow", "hanging"));
+    }
+
+    private static BibEntry entry(String title) {
+        return new BibEntry().withField(StandardField.TITLE, title);
+    }
+
+    private record StubFetcher(String name, Duration delay, List<BibEntry> results, AtomicBoolean interrupted) implements SearchBasedFetcher {
+
+        StubFetcher(String name, Duration delay, List<BibEntry> results) {
+            this(name, delay, results, new AtomicBoolean());
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                return List.of();
+            }
+            return results;
+        }
+    }
+
+    @Test
+    void resultsArePassedOnInTheOrderTheFetchersReturn() throws Exception {
+        BibEntry fastEntry = entry("fast");
+        BibEntry slowEntry = entry("slow");
+        StubFetcher fast = new StubFetcher("fast", Duration.ZERO, List.of(fastEntry));
+        StubFetcher slow = new StubFetcher("slow", Duration.ofMillis(300), List.of(slowEntry));
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(slow, fast), importerPreferences, Integer.MAX_VALUE);
+        List<List<BibEntry>> passedOn = new ArrayList<>();
+
+        List<BibEntry> result = compositeFetcher.performSearch("quantum", passedOn::add);
+
+        assertEquals(List.of(fastEntry, slowEntry), result);
+        assertEquals(List.of(List.of(fastEntry), List.of(slowEntry)), passedOn);
+        assertEquals(Set.of("fast", "slow"), compositeFetcher.getLatencies().keySet());
+    }
+
+    @Test
+    void hangingFetcherIsCanceledAfterTimeout() throws Exception {
+        BibEntry fastEntry = entry("fast");
+        StubFetcher fast = new StubFetcher("fast", Duration.ZERO, List.of(fastEntry));
+        StubFetcher hanging = new StubFetcher("hanging", Duration.ofMinutes(5), List.of(entry("hanging")));
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(fast, hanging), importerPreferences, Integer.MAX_VALUE, Duration.ofMillis(200));
+
+        long start = System.nanoTime();
+        List<BibEntry> result = compositeFetcher.performSearch("quantum");
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MINUTES.toNanos(1));
+        assertEquals(List.of(fastEntry), result);
+        waitForInterruption(hanging);
+        assertFalse(compositeFetcher.getLatencies().containsKey("hanging"));
+    }
+
+    @Test
+    void outstandingFetchersAreCanceledOnceLimitIsReached() throws Exception {
+        BibEntry first = entry("first");
+        BibEntry second = entry("second");
+        StubFetcher fast = new StubFetcher("fast", Duration.ZERO, List.of(first, second, entry("third")));
+        StubFetcher slow = new StubFetcher("slow", Duration.ofMinutes(5), List.of(entry("slow")));
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(fast, slow), importerPreferences, 2);
+        List<BibEntry> passedOn = new ArrayList<>();
+
+        List<BibEntry> result = compositeFetcher.performSearch("quantum", passedOn::addAll);
+
+        assertEquals(List.of(first, second), result);
+        assertEquals(result, passedOn);
+        waitForInterruption(slow);
+    }
+
+    @Test
+    void latenciesAreThoseOfTheLatestSearch() throws Exception {
+        AtomicBoolean firstSearch = new AtomicBoolean(true);
+        SearchBasedFetcher hangingOnSecondSearch = new SearchBasedFetcher() {
+            @Override
+            public String getName() {
+                return "slow";
+            }
+
+            @Override
+            public List<BibEntry> performSearch(QueryNode luceneQuery) {
+                if (!firstSearch.getAndSet(false)) {
+                    try {
+                        Thread.sleep(Duration.ofMinutes(5).toMillis());
+                    } catch (InterruptedException e) {
+                        return List.of();
+                    }
+                }
+                return List.of(entry("slow"));
+            }
+        };
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(hangingOnSecondSearch), importerPreferences, Integer.MAX_VALUE, Duration.ofMillis(200));
+
+        compositeFetcher.performSearch("quantum");
+        assertEquals(Set.of("slow"), compositeFetcher.getLatencies().keySet());
+
+        compositeFetcher.performSearch("quantum");
+        assertEquals(Set.of(), compositeFetcher.getLatencies().keySet());
+    }
+
+    @Test
+    void unselectedFetchersAreNotQueried() throws Exception {
+        StubFetcher unselected = new StubFetcher("unselected", Duration.ZERO, List.of(entry("unselected")));
+        CompositeSearchBasedFetcher compositeFetcher = new CompositeSearchBasedFetcher(Set.of(unselected), importerPreferences, Integer.MAX_VALUE);
+
+        assertEquals(List.of(), compositeFetcher.performSearch("quantum"));
+    }
+
+    private static void waitForInterruption(StubFetcher fetcher) throws InterruptedException {
+        for (int i = 0; (i < 100) && !fetcher.interrupted().get(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(fetcher.interrupted().get());
+    }
+}
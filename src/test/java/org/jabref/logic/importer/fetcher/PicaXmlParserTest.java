@@ -1,6 +1,7 @@
 package org.jabref.logic.importer.fetcher;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +50,17 @@ public class PicaXmlParserTest {
         doTest("gvk_gmp.xml", 2, Arrays.asList("gvk_gmp.1.bib", "gvk_gmp.2.bib"));
     }
 
+    @Test
+    public void parseEntriesOneByOne() throws Exception {
+        List<BibEntry> entries = new ArrayList<>();
+        try (InputStream is = PicaXmlParserTest.class.getResourceAsStream("gvk_gmp.xml")) {
+            new PicaXmlParser().parseEntries(is, entries::add);
+        }
+        assertEquals(2, entries.size());
+        BibEntryAssert.assertEquals(PicaXmlParserTest.class, "gvk_gmp.1.bib", entries.get(0));
+        BibEntryAssert.assertEquals(PicaXmlParserTest.class, "gvk_gmp.2.bib", entries.get(1));
+    }
+
     @Test
     public void subTitleTest() throws Exception {
         try (InputStream is = PicaXmlParserTest.class.getResourceAsStream("gvk_artificial_subtitle_test.xml")) {
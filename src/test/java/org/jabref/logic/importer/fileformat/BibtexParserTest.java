@@ -64,6 +64,7 @@ import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -102,6 +103,24 @@ class BibtexParserTest {
         assertEquals(List.of(expected), result);
     }
 
+    @Test
+    void parseSharesEqualValuesBetweenEntries() throws ParseException {
+        List<BibEntry> result = parser
+                .parseEntries("@article{a,journal={Some Journal}}@article{b,journal={Some Journal}}");
+
+        assertSame(result.getFirst().getField(StandardField.JOURNAL).get(), result.get(1).getField(StandardField.JOURNAL).get());
+    }
+
+    @Test
+    void parseWithEntryConsumerPassesEntriesInsteadOfAddingThem() throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        ParserResult result = parser.parse(new StringReader("@preamble{some text}@article{a,author={Ed von Test}}@misc{b}"), entries::add);
+
+        assertEquals(List.of("a", "b"), entries.stream().map(entry -> entry.getCitationKey().get()).toList());
+        assertEquals(List.of(), result.getDatabase().getEntries());
+        assertEquals(Optional.of("some text"), result.getDatabase().getPreamble());
+    }
+
     @Test
     void fromStringReturnsEmptyListFromEmptyString() throws ParseException {
         Collection<BibEntry> parsed = parser.parseEntries("");
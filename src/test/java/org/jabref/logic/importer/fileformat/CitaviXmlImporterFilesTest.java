@@ -39,4 +39,10 @@ public class CitaviXmlImporterFilesTest {
     void importEntries(String fileName) throws Exception {
         ImporterTestEngine.testImportEntries(citaviXmlImporter, fileName, FILE_ENDING);
     }
+
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void importEntriesOneByOne(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesOneByOne(citaviXmlImporter, fileName, FILE_ENDING);
+    }
 }
@@ -52,4 +52,10 @@ public class EndnoteXmlImporterFilesTest {
     void importEntries(String fileName) throws Exception {
         ImporterTestEngine.testImportEntries(new EndnoteXmlImporter(importFormatPreferences), fileName, FILE_ENDING);
     }
+
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void importEntriesOneByOne(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesOneByOne(new EndnoteXmlImporter(importFormatPreferences), fileName, FILE_ENDING);
+    }
 }
@@ -57,6 +57,12 @@ public class ImporterTestEngine {
         BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
     }
 
+    public static void testImportEntriesOneByOne(Importer importer, String fileName, String fileType) throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        importer.importEntries(getPath(fileName), entries::add);
+        BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
+    }
+
     private static Path getPath(String fileName) throws IOException {
         try {
             return Path.of(ImporterTestEngine.class.getResource(fileName).toURI());
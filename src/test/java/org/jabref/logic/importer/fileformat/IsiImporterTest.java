@@ -3,6 +3,7 @@ package org.jabref.logic.importer.fileformat;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -123,6 +124,17 @@ public class IsiImporterTest {
         assertEquals("$_{\\$Hello}$", subs.get(StandardField.TITLE));
     }
 
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    public void importEntriesOneByOneEqualsImportDatabase(String fileName) throws IOException, URISyntaxException {
+        Path file = Path.of(IsiImporterTest.class.getResource(fileName).toURI());
+        List<BibEntry> entries = new ArrayList<>();
+
+        importer.importEntries(file, entries::add);
+
+        assertEquals(importer.importDatabase(file).getDatabase().getEntries(), entries);
+    }
+
     @Test
     public void importEntries1() throws IOException, URISyntaxException {
         Path file = Path.of(IsiImporterTest.class.getResource("IsiImporterTest1.isi").toURI());
@@ -42,6 +42,12 @@ public class MedlineImporterFilesTest {
         ImporterTestEngine.testImportEntries(new MedlineImporter(), fileName, FILE_ENDING);
     }
 
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    public void importEntriesOneByOne(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesOneByOne(new MedlineImporter(), fileName, FILE_ENDING);
+    }
+
     private static Stream<String> malformedFileNames() throws IOException {
         Predicate<String> fileName = name -> name.startsWith("MedlineImporterTest" + MALFORMED_KEY_WORD)
                 && name.endsWith(FILE_ENDING);
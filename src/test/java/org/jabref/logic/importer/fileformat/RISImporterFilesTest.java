@@ -27,4 +27,10 @@ class RISImporterFilesTest {
     void importEntries(String fileName) throws Exception {
         ImporterTestEngine.testImportEntries(new RisImporter(), fileName, FILE_ENDING);
     }
+
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void importEntriesOneByOne(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesOneByOne(new RisImporter(), fileName, FILE_ENDING);
+    }
 }
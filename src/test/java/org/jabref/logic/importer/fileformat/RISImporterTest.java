@@ -1,10 +1,17 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +48,28 @@ public class RISImporterTest {
         assertEquals("Imports a Biblioscape Tag File.", importer.getDescription());
     }
 
+    @Test
+    public void importEntriesSplitsRecordsAtEndTag() throws IOException {
+        String ris = """
+                TY  - JOUR
+                TI  - First
+                ER  -\s
+
+                TY  - BOOK
+                TI  - Second
+                ER  -\s
+                """;
+        List<BibEntry> entries = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new StringReader(ris))) {
+            importer.importEntries(reader, entries::add);
+        }
+
+        assertEquals(List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Second")), entries);
+    }
+
     @Test
     public void ifNotRecognizedFormat() throws IOException, URISyntaxException {
         Path file = Path.of(RISImporterTest.class.getResource("RisImporterCorrupted.ris").toURI());
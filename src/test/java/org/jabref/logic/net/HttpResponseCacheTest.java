@@ -0,0 +1,210 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class HttpResponseCacheTest {
+
+    private static final String BODY = "x".repeat(100);
+
+    @TempDir
+    Path cacheDirectory;
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> notModifiedResponses = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/max-age", exchange -> respond(exchange, "Cache-Control", "max-age=60"));
+        server.createContext("/no-store", exchange -> respond(exchange, "Cache-Control", "no-store"));
+        server.createContext("/accept", exchange -> respond(exchange, "Cache-Control", "max-age=60"));
+        server.createContext("/etag", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                count(notModifiedResponses, exchange);
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            } else {
+                respond(exchange, "ETag", "\"v1\"");
+            }
+        });
+        server.createContext("/etag-no-store", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                count(notModifiedResponses, exchange);
+                exchange.getResponseHeaders().add("Cache-Control", "no-store");
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            } else {
+                respond(exchange, "ETag", "\"v1\"");
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        URLDownload.setResponseCache(null);
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, String header, String value) throws IOException {
+        count(requests, exchange);
+        exchange.getResponseHeaders().add(header, value);
+        byte[] body = (BODY + exchange.getRequestURI().getPath() + exchange.getRequestHeaders().getFirst("Accept")).getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static void count(Map<String, AtomicInteger> counters, HttpExchange exchange) {
+        counters.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private String download(String path) throws IOException {
+        return new URLDownload(new URL("http://localhost:" + server.getAddress().getPort() + path)).asString();
+    }
+
+    private int requestsOf(String path) {
+        return requests.getOrDefault(path, new AtomicInteger()).get();
+    }
+
+    @Test
+    void freshResponseIsServedFromCache() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 10_000));
+
+        String first = download("/max-age");
+        String second = download("/max-age");
+
+        assertEquals(first, second);
+        assertEquals(1, requestsOf("/max-age"));
+    }
+
+    @Test
+    void responseIsNotCachedWithoutCache() throws IOException {
+        download("/max-age");
+        download("/max-age");
+
+        assertEquals(2, requestsOf("/max-age"));
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 10_000));
+
+        download("/no-store");
+        download("/no-store");
+
+        assertEquals(2, requestsOf("/no-store"));
+    }
+
+    @Test
+    void staleResponseIsRevalidatedUsingEntityTag() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 10_000));
+
+        String first = download("/etag");
+        String second = download("/etag");
+
+        assertEquals(first, second);
+        assertEquals(1, requestsOf("/etag"));
+        assertEquals(1, notModifiedResponses.get("/etag").get());
+    }
+
+    @Test
+    void responsesToDifferentRequestHeadersAreCachedSeparately() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 10_000));
+        URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/accept");
+
+        URLDownload json = new URLDownload(url);
+        json.addHeader("Accept", "application/json");
+        URLDownload xml = new URLDownload(url);
+        xml.addHeader("Accept", "application/xml");
+
+        assertNotEquals(json.asString(), xml.asString());
+        assertEquals(2, requestsOf("/accept"));
+    }
+
+    @Test
+    void leastRecentlyUsedResponseIsEvicted() throws IOException {
+        server.createContext("/a", exchange -> respond(exchange, "Cache-Control", "max-age=60"));
+        server.createContext("/b", exchange -> respond(exchange, "Cache-Control", "max-age=60"));
+        server.createContext("/c", exchange -> respond(exchange, "Cache-Control", "max-age=60"));
+        // Space for two responses only
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 250));
+
+        download("/a");
+        download("/b");
+        download("/a");
+        download("/c");
+        download("/a");
+        download("/b");
+
+        assertEquals(1, requestsOf("/a"));
+        assertEquals(2, requestsOf("/b"));
+        assertEquals(1, requestsOf("/c"));
+    }
+
+    @Test
+    void cachedResponsesSurviveRestart() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 10_000));
+        download("/max-age");
+
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 10_000));
+        download("/max-age");
+
+        assertEquals(1, requestsOf("/max-age"));
+    }
+
+    @Test
+    void notModifiedResponseForbiddingStorageServesCachedBodyOnce() throws IOException {
+        URLDownload.setResponseCache(new HttpResponseCache(cacheDirectory, 10_000));
+
+        String first = download("/etag-no-store");
+        String second = download("/etag-no-store");
+        String third = download("/etag-no-store");
+
+        assertEquals(first, second);
+        assertEquals(first, third);
+        assertEquals(2, requestsOf("/etag-no-store"));
+        assertEquals(1, notModifiedResponses.get("/etag-no-store").get());
+    }
+
+    @Test
+    void expirationWithoutCachingHeadersUsesDefaultLifetime() {
+        Instant now = Instant.now();
+        HttpHeaders headers = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+        assertEquals(Optional.of(now.plus(Duration.ofMinutes(5))), HttpResponseCache.getExpiration(headers, now, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void expirationPrefersMaxAgeOverDefaultLifetime() {
+        Instant now = Instant.now();
+        HttpHeaders headers = HttpHeaders.of(Map.of("Cache-Control", List.of("max-age=60")), (name, value) -> true);
+
+        assertEquals(Optional.of(now.plusSeconds(60)), HttpResponseCache.getExpiration(headers, now, Duration.ofMinutes(5)));
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.pdf.search;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
@@ -9,11 +10,18 @@ import java.util.stream.Stream;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.pdf.search.SearchFieldConstants;
 import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.document.Document;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -51,12 +59,46 @@ public class DocumentReaderTest {
         assertEquals(Collections.emptyList(), emptyDocumentList);
     }
 
+    @Test
+    public void largePdfIsReadPageByPage(@TempDir Path tempDir) throws IOException {
+        Path pdfFile = tempDir.resolve("large.pdf");
+        int numberOfPages = 230;
+        try (PDDocument document = new PDDocument()) {
+            for (int pageNumber = 0; pageNumber < numberOfPages; pageNumber++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                    contentStream.beginText();
+                    contentStream.newLineAtOffset(25, 500);
+                    contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    contentStream.showText("Content of page " + pageNumber);
+                    contentStream.endText();
+                }
+            }
+            document.save(pdfFile.toFile());
+        }
+        BibEntry entry = new BibEntry();
+        entry.setFiles(Collections.singletonList(new LinkedFile("Large file", pdfFile.toString(), "PDF")));
+
+        List<Document> pages = new DocumentReader(entry, filePreferences).readLinkedPdfs(databaseContext);
+
+        assertEquals(numberOfPages, pages.size());
+        for (int pageNumber = 0; pageNumber < numberOfPages; pageNumber++) {
+            assertEquals(String.valueOf(pageNumber), pages.get(pageNumber).get(SearchFieldConstants.PAGE_NUMBER));
+            assertEquals("Content of page " + pageNumber, pages.get(pageNumber).get(SearchFieldConstants.CONTENT).strip());
+        }
+    }
+
     private static Stream<Arguments> getLinesToMerge() {
         return Stream.of(
                 Arguments.of("Sentences end with periods.", "Sentences end\nwith periods."),
                 Arguments.of("Text is usually wrapped with hyphens.", "Text is us-\nually wrapp-\ned with hyphens."),
                 Arguments.of("Longer texts often have both.", "Longer te-\nxts often\nhave both."),
-                Arguments.of("No lines to break here", "No lines to break here")
+                Arguments.of("No lines to break here", "No lines to break here"),
+                Arguments.of("A sentence.\nAnother one", "A sentence.\nAnother one"),
+                Arguments.of("First paragraph \nSecond paragraph", "First paragraph\n\nSecond paragraph"),
+                Arguments.of("Escaped\\\nline break", "Escaped\\\nline break"),
+                Arguments.of("Trailing hyphen -", "Trailing hyphen -")
         );
     }
 
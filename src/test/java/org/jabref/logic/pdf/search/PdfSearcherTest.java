@@ -22,7 +22,9 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -95,6 +97,48 @@ public class PdfSearcherTest {
         assertEquals(2, result.numSearchResults());
     }
 
+    @Test
+    public void searchAllIsNotLimited() throws IOException, ParseException {
+        PdfSearchResults result = search.searchAll("test");
+        assertTrue(result.numSearchResults() > 10);
+        assertEquals(result.numSearchResults(), result.getSearchResultsByPath().values().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    public void searchAllGroupsResultsByPath() throws IOException, ParseException {
+        PdfSearchResults result = search.searchAll("University");
+        assertEquals(2, result.numSearchResults());
+        assertEquals(2, result.getSearchResultsForPath("thesis-example.pdf").size());
+        assertEquals(List.of(), result.getSearchResultsForPath("example.pdf"));
+    }
+
+    @Test
+    public void searchAllResultsForEntry() throws IOException, ParseException {
+        BibEntry thesis = new BibEntry(StandardEntryType.PhdThesis)
+                .withFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry example = new BibEntry(StandardEntryType.Article)
+                .withFiles(List.of(new LinkedFile("Example Entry", "example.pdf", StandardFileType.PDF.getName())));
+
+        PdfSearchResults result = search.searchAll("University");
+
+        assertEquals(2, result.getSearchResultsFor(thesis).numSearchResults());
+        assertEquals(0, result.getSearchResultsFor(example).numSearchResults());
+    }
+
+    @Test
+    public void searchResultIsHighlightedOnDemand() throws IOException, ParseException {
+        PdfSearchResults result = search.search("University", 10);
+        List<String> highlights = result.getSearchResults().getFirst().getContentResultStringsHtml();
+        assertFalse(highlights.isEmpty());
+        assertTrue(highlights.stream().allMatch(highlight -> highlight.contains("<b>")));
+    }
+
+    @Test
+    public void searchAllForEmptyString() throws IOException {
+        PdfSearchResults result = search.searchAll("");
+        assertEquals(0, result.numSearchResults());
+    }
+
     @Test
     public void searchForEmptyString() throws IOException {
         PdfSearchResults result = search.search("", 10);
@@ -0,0 +1,84 @@
+package org.jabref.logic.search;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatexFreeFieldCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storedValuesAreLoadedIntoEntriesOfAnotherSession() {
+        Path cacheFile = tempDir.resolve("cache.mv");
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Caf{\\'e}");
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        assertEquals(Optional.of("Café"), entry.getFieldLatexFree(StandardField.TITLE));
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            cache.storeFrom(database);
+        }
+
+        BibEntry reopenedEntry = new BibEntry().withField(StandardField.TITLE, "Caf{\\'e}");
+        BibDatabase reopenedDatabase = new BibDatabase();
+        reopenedDatabase.insertEntry(reopenedEntry);
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            assertEquals(1, cache.loadInto(reopenedDatabase));
+        }
+
+        assertEquals("Café", reopenedEntry.getCachedLatexFreeFields().get(StandardField.TITLE));
+    }
+
+    @Test
+    void changedFieldContentDoesNotUseStoredValue() {
+        Path cacheFile = tempDir.resolve("cache.mv");
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Caf{\\'e}");
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        entry.getFieldLatexFree(StandardField.TITLE);
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            cache.storeFrom(database);
+        }
+
+        BibEntry changedEntry = new BibEntry().withField(StandardField.TITLE, "Na{\\\"i}ve");
+        BibDatabase changedDatabase = new BibDatabase();
+        changedDatabase.insertEntry(changedEntry);
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            assertEquals(0, cache.loadInto(changedDatabase));
+        }
+        assertEquals(Optional.of("Naïve"), changedEntry.getFieldLatexFree(StandardField.TITLE));
+    }
+
+    @Test
+    void valuesNoLongerInLibraryAreDropped() {
+        Path cacheFile = tempDir.resolve("cache.mv");
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Caf{\\'e}");
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        entry.getFieldLatexFree(StandardField.TITLE);
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            cache.storeFrom(database);
+        }
+
+        entry.setField(StandardField.TITLE, "Other");
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            cache.storeFrom(database);
+        }
+
+        BibEntry reopenedEntry = new BibEntry().withField(StandardField.TITLE, "Caf{\\'e}");
+        BibDatabase reopenedDatabase = new BibDatabase();
+        reopenedDatabase.insertEntry(reopenedEntry);
+        try (LatexFreeFieldCache cache = new LatexFreeFieldCache(cacheFile)) {
+            assertEquals(0, cache.loadInto(reopenedDatabase));
+        }
+    }
+}
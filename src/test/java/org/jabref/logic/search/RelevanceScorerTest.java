@@ -0,0 +1,71 @@
+package org.jabref.logic.search;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RelevanceScorerTest {
+
+    private final BibEntry titleMatch = new BibEntry()
+            .withField(StandardField.TITLE, "Quantum computing")
+            .withField(StandardField.ABSTRACT, "We survey algorithms for computers.");
+    private final BibEntry abstractMatch = new BibEntry()
+            .withField(StandardField.TITLE, "Algorithms")
+            .withField(StandardField.ABSTRACT, "We survey algorithms for quantum computers.");
+    private final BibEntry noMatch = new BibEntry()
+            .withField(StandardField.TITLE, "Classical mechanics")
+            .withField(StandardField.AUTHOR, "Newton, Isaac");
+    private final List<BibEntry> entries = List.of(titleMatch, abstractMatch, noMatch);
+
+    private static SearchQuery query(String query) {
+        return new SearchQuery(query, EnumSet.noneOf(SearchFlags.class));
+    }
+
+    @Test
+    void matchInTitleIsMoreRelevantThanMatchInAbstract() {
+        RelevanceScorer scorer = new RelevanceScorer(query("quantum"), entries);
+
+        assertTrue(scorer.score(titleMatch) > scorer.score(abstractMatch));
+        assertTrue(scorer.score(abstractMatch) > 0);
+        assertEquals(0, scorer.score(noMatch));
+    }
+
+    @Test
+    void rareTermIsMoreRelevantThanFrequentTerm() {
+        BibEntry rareTerm = new BibEntry().withField(StandardField.TITLE, "Mechanics");
+        BibEntry frequentTerm = new BibEntry().withField(StandardField.TITLE, "Survey");
+        List<BibEntry> library = List.of(rareTerm, frequentTerm,
+                new BibEntry().withField(StandardField.TITLE, "A survey"),
+                new BibEntry().withField(StandardField.TITLE, "Another survey"));
+        RelevanceScorer scorer = new RelevanceScorer(query("mechanics survey"), library);
+
+        assertTrue(scorer.score(rareTerm) > scorer.score(frequentTerm));
+    }
+
+    @Test
+    void termsOfGrammarBasedQueryExcludeFieldNamesAndOperators() {
+        assertEquals(Set.of("quantum", "einstein"), RelevanceScorer.getTerms(query("title = quantum and author != Einstein")));
+    }
+
+    @Test
+    void termsOfPlainQueryAreLowerCaseWords() {
+        assertEquals(Set.of("quantum", "computing"), RelevanceScorer.getTerms(query("Quantum-Computing")));
+    }
+
+    @Test
+    void topEntriesAreSortedByRelevance() {
+        RelevanceScorer scorer = new RelevanceScorer(query("quantum"), entries);
+
+        assertEquals(List.of(titleMatch, abstractMatch), scorer.getTopEntries(entries, 2));
+        assertEquals(List.of(), scorer.getTopEntries(entries, 0));
+    }
+}
@@ -10,13 +10,18 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.EventListenerTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -314,6 +319,157 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void changingEntryNotifiesTypedListenerOfField() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<FieldChangedEvent> events = new ArrayList<>();
+        database.getFieldChangeListeners().register(FieldChangedEvent.class, StandardField.TITLE, events::add);
+
+        entry.setField(StandardField.AUTHOR, "author");
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(1, events.size());
+        assertEquals("title", events.getFirst().getNewValue());
+    }
+
+    @Test
+    void addingFieldNotifiesListenerOfSubtypeOnly() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<FieldAddedOrRemovedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(FieldAddedOrRemovedEvent event) {
+                events.add(event);
+            }
+        });
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(1, events.size());
+        assertEquals("title", events.getFirst().getNewValue());
+    }
+
+    @Test
+    void changingRemovedEntryDoesNotPostChangeEntryEvent() {
+        BibEntry entry = new BibEntry();
+        EventListenerTest tel = new EventListenerTest();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        database.registerListener(tel);
+
+        entry.setField(new UnknownField("test"), "some value");
+
+        assertNull(tel.getChangedEntry());
+    }
+
+    @Test
+    void batchChangePostsSingleEntriesChangedEvent() {
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        database.beginBatchChange();
+        first.setField(StandardField.TITLE, "title");
+        second.setField(StandardField.TITLE, "title");
+        first.setField(StandardField.AUTHOR, "author");
+        assertEquals(List.of(), collector.entriesChangedEvents);
+        database.commitBatchChange();
+
+        assertEquals(List.of(), collector.fieldChangedEvents);
+        assertEquals(1, collector.entriesChangedEvents.size());
+        EntriesChangedEvent event = collector.entriesChangedEvents.getFirst();
+        assertEquals(3, event.getFieldChanges().size());
+        assertEquals(List.of(first, second), event.getBibEntries());
+    }
+
+    @Test
+    void nestedBatchChangePostsEventAtOutermostCommit() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        database.beginBatchChange();
+        database.beginBatchChange();
+        entry.setField(StandardField.TITLE, "title");
+        database.commitBatchChange();
+        assertEquals(List.of(), collector.entriesChangedEvents);
+        database.commitBatchChange();
+
+        assertEquals(1, collector.entriesChangedEvents.size());
+    }
+
+    @Test
+    void batchChangeWithoutChangesPostsNoEvent() {
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        database.beginBatchChange();
+        database.commitBatchChange();
+
+        assertEquals(List.of(), collector.entriesChangedEvents);
+    }
+
+    @Test
+    void batchChangeNotifiesTypedListenersImmediately() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<FieldChangedEvent> events = new ArrayList<>();
+        database.getFieldChangeListeners().register(FieldChangedEvent.class, events::add);
+
+        database.beginBatchChange();
+        entry.setField(StandardField.TITLE, "title");
+        assertEquals(1, events.size());
+        database.commitBatchChange();
+    }
+
+    @Test
+    void batchChangeDoesNotContainChangesOfOtherThreads() throws InterruptedException {
+        BibEntry entry = new BibEntry();
+        BibEntry sharedEntry = new BibEntry();
+        database.insertEntries(entry, sharedEntry);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        database.beginBatchChange();
+        entry.setField(StandardField.TITLE, "title");
+        Thread otherThread = new Thread(() -> sharedEntry.setField(StandardField.TITLE, "shared title", EntriesEventSource.SHARED));
+        otherThread.start();
+        otherThread.join();
+        assertEquals(1, collector.fieldChangedEvents.size());
+        database.commitBatchChange();
+
+        assertEquals(1, collector.entriesChangedEvents.size());
+        assertEquals(List.of(entry), collector.entriesChangedEvents.getFirst().getBibEntries());
+    }
+
+    @Test
+    void batchChangePostsOneEventPerSource() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        ChangeEventCollector collector = new ChangeEventCollector();
+        database.registerListener(collector);
+
+        database.beginBatchChange();
+        entry.setField(StandardField.TITLE, "title", EntriesEventSource.SHARED);
+        entry.setField(StandardField.AUTHOR, "author");
+        entry.setField(StandardField.YEAR, "2000", EntriesEventSource.SHARED);
+        database.commitBatchChange();
+
+        assertEquals(List.of(EntriesEventSource.SHARED, EntriesEventSource.LOCAL),
+                collector.entriesChangedEvents.stream().map(EntriesChangedEvent::getEntriesEventSource).toList());
+        assertEquals(2, collector.entriesChangedEvents.getFirst().getFieldChanges().size());
+    }
+
+    @Test
+    void commitWithoutBeginThrows() {
+        assertThrows(IllegalStateException.class, () -> database.commitBatchChange());
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -458,4 +614,19 @@ class BibDatabaseTest {
         database.setPreamble("Oh yeah!");
         assertEquals(Optional.of("Oh yeah!"), database.getPreamble());
     }
+
+    public static class ChangeEventCollector {
+        private final List<FieldChangedEvent> fieldChangedEvents = new ArrayList<>();
+        private final List<EntriesChangedEvent> entriesChangedEvents = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            fieldChangedEvents.add(event);
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent event) {
+            entriesChangedEvents.add(event);
+        }
+    }
 }
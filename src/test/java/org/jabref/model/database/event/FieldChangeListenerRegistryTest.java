@@ -0,0 +1,61 @@
+package org.jabref.model.database.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldChangeListenerRegistryTest {
+
+    private final FieldChangeListenerRegistry registry = new FieldChangeListenerRegistry();
+    private final BibEntry entry = new BibEntry();
+
+    @Test
+    void dispatchesOnlyEventsOfRegisteredType() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        registry.register(FieldAddedOrRemovedEvent.class, events::add);
+        FieldAddedOrRemovedEvent addedEvent = new FieldAddedOrRemovedEvent(new FieldChange(entry, StandardField.TITLE, null, "title"), EntriesEventSource.LOCAL);
+
+        registry.dispatch(new FieldChangedEvent(new FieldChange(entry, StandardField.TITLE, "old", "new")));
+        registry.dispatch(addedEvent);
+
+        assertEquals(List.of(addedEvent), events);
+    }
+
+    @Test
+    void dispatchesOnlyEventsOfRegisteredField() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        registry.register(FieldChangedEvent.class, StandardField.TITLE, events::add);
+        FieldChangedEvent titleEvent = new FieldChangedEvent(new FieldChange(entry, StandardField.TITLE, "old", "new"));
+
+        registry.dispatch(new FieldChangedEvent(new FieldChange(entry, StandardField.AUTHOR, "old", "new")));
+        registry.dispatch(titleEvent);
+
+        assertEquals(List.of(titleEvent), events);
+    }
+
+    @Test
+    void unregisteredListenerIsNotCalled() {
+        List<FieldChangedEvent> events = new ArrayList<>();
+        Consumer<FieldChangedEvent> listener = events::add;
+        registry.register(FieldChangedEvent.class, listener);
+        registry.register(FieldChangedEvent.class, StandardField.TITLE, listener);
+        registry.unregister(listener);
+
+        registry.dispatch(new FieldChangedEvent(new FieldChange(entry, StandardField.TITLE, "old", "new")));
+
+        assertTrue(events.isEmpty());
+        assertTrue(registry.isEmpty());
+    }
+}
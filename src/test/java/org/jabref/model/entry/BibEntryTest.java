@@ -846,4 +846,24 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void typePropertyReflectsTypeSetBefore() {
+        entry.setType(StandardEntryType.Article);
+        assertEquals(StandardEntryType.Article, entry.typeProperty().getValue());
+    }
+
+    @Test
+    void typePropertyReflectsTypeSetAfter() {
+        entry.typeProperty();
+        entry.setType(StandardEntryType.Book);
+        assertEquals(StandardEntryType.Book, entry.typeProperty().getValue());
+        assertEquals(StandardEntryType.Book, entry.getType());
+    }
+
+    @Test
+    void unregisterListenerWithoutRegisteredListenerDoesNotThrow() {
+        entry.unregisterListener(new Object());
+        assertEquals(Optional.of("test"), entry.withField(StandardField.AUTHOR, "test").getField(StandardField.AUTHOR));
+    }
 }
@@ -0,0 +1,121 @@
+package org.jabref.testutils.interactive.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.jabref.architecture.AllowedToUseStandardStreams;
+
+/**
+ * Sends requests to a locally running http server (see {@link org.jabref.http.server.Server}) and reports the latency
+ * percentiles. Not needed inside of JabRef.
+ * <p>
+ * Arguments: <code>url [accept] [requests] [concurrency] [conditional]</code>, for instance
+ * <code>https://localhost:6051/libraries/http-server-demo.bib-8a8ff4fb application/json 1000 8 true</code>.
+ * If <code>conditional</code> is <code>true</code>, the entity tag of the first response is sent as
+ * <code>If-None-Match</code>, thus measuring "304 Not Modified" responses.
+ */
+@AllowedToUseStandardStreams("Command line tool")
+public class HttpServerLoadTester {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: HttpServerLoadTester url [accept] [requests] [concurrency] [conditional]");
+            return;
+        }
+        URI uri = URI.create(args[0]);
+        String accept = args.length > 1 ? args[1] : "application/json";
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        boolean conditional = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        HttpClient client = HttpClient.newBuilder()
+                                      .sslContext(createTrustAllSslContext())
+                                      .build();
+
+        HttpResponse<byte[]> firstResponse = client.send(createRequest(uri, accept, null), HttpResponse.BodyHandlers.ofByteArray());
+        String entityTag = conditional ? firstResponse.headers().firstValue("ETag").orElse(null) : null;
+        System.out.printf("First response: status %d, %d bytes, ETag %s%n", firstResponse.statusCode(), firstResponse.body().length, entityTag);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        Map<Integer, AtomicInteger> statusCodes = new ConcurrentHashMap<>();
+        HttpRequest request = createRequest(uri, accept, entityTag);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    long requestStart = System.nanoTime();
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    latencies.add(System.nanoTime() - requestStart);
+                    statusCodes.computeIfAbsent(response.statusCode(), code -> new AtomicInteger()).incrementAndGet();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long durationNanos = System.nanoTime() - start;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("Requests: %d, concurrency: %d, status codes: %s%n", requests, concurrency, statusCodes);
+        System.out.printf("Throughput: %.1f requests/s%n", requests / (durationNanos / 1e9));
+        System.out.printf("Latency p50: %.2f ms, p99: %.2f ms, max: %.2f ms%n",
+                percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, sorted.getLast() / 1e6);
+    }
+
+    private static HttpRequest createRequest(URI uri, String accept, String entityTag) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).header("Accept", accept).GET();
+        if (entityTag != null) {
+            builder.header("If-None-Match", entityTag);
+        }
+        return builder.build();
+    }
+
+    private static long percentile(List<Long> sortedValues, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedValues.size()) - 1;
+        return sortedValues.get(Math.max(0, index));
+    }
+
+    /**
+     * The local server uses a self-signed certificate (see docs/code-howtos/http-server.md)
+     */
+    private static SSLContext createTrustAllSslContext() throws Exception {
+        TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[] {trustAll}, new SecureRandom());
+        return sslContext;
+    }
+}